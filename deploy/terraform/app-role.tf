@@ -68,7 +68,10 @@ data "aws_iam_policy_document" "document_ecs_task_role" {
     ]
     resources = [
       aws_dynamodb_table.production.arn,
-      "${aws_dynamodb_table.production.arn}/index/*"
+      "${aws_dynamodb_table.production.arn}/index/*",
+      "${aws_dynamodb_table.production.arn}/stream/*",
+      aws_dynamodb_table.production_outbox.arn,
+      "${aws_dynamodb_table.production_outbox.arn}/index/*"
     ]
   }
 }
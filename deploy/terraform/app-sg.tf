@@ -3,6 +3,7 @@ resource "aws_security_group" "ecs_sg" {
   description = "Security group for ECS tasks"
   vpc_id      = data.aws_vpc.existing.id
 
+  # Só a porta da aplicação; a de management (8081, /actuator/prometheus) fica fechada ao ALB
   ingress {
     from_port       = 8080
     to_port         = 8080
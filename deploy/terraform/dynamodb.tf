@@ -4,12 +4,69 @@ resource "aws_dynamodb_table" "production" {
 
   hash_key = "id"
 
+  # Mudanças lidas por todas as instâncias para manter a visão de pendentes coerente
+  stream_enabled   = true
+  stream_view_type = "NEW_IMAGE"
+
   attribute {
     name = "id"
     type = "S"
   }
 
+  attribute {
+    name = "status"
+    type = "S"
+  }
+
+  attribute {
+    name = "updatedAt"
+    type = "N"
+  }
+
+  # Produções por status, ordenadas por updatedAt (listagem de pendentes)
+  global_secondary_index {
+    name            = "status-updatedAt-index"
+    hash_key        = "status"
+    range_key       = "updatedAt"
+    projection_type = "ALL"
+  }
+
   tags = {
     Name = "${local.project_name}-table"
   }
 }
+
+# Outbox das mensagens de status, gravado na mesma transação da Production
+resource "aws_dynamodb_table" "production_outbox" {
+  name         = "${local.project_name}-outbox"
+  billing_mode = "PAY_PER_REQUEST"
+
+  hash_key = "id"
+
+  attribute {
+    name = "id"
+    type = "S"
+  }
+
+  attribute {
+    name = "relayShard"
+    type = "S"
+  }
+
+  attribute {
+    name = "createdAt"
+    type = "N"
+  }
+
+  # Mensagens pendentes do outbox, mais antigas primeiro (consulta do relay)
+  global_secondary_index {
+    name            = "relayShard-createdAt-index"
+    hash_key        = "relayShard"
+    range_key       = "createdAt"
+    projection_type = "ALL"
+  }
+
+  tags = {
+    Name = "${local.project_name}-outbox"
+  }
+}
@@ -0,0 +1,94 @@
+package com.fiap.soat11.production.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.dto.ConsumeDTO;
+import com.fiap.soat11.production.dto.CustomerDTO;
+import com.fiap.soat11.production.dto.ItensDTO;
+import com.fiap.soat11.production.dto.MetaDTO;
+import com.fiap.soat11.production.dto.PayloadDTO;
+import com.fiap.soat11.production.entity.Customer;
+import com.fiap.soat11.production.entity.OrderItem;
+import com.fiap.soat11.production.entity.Production;
+
+/**
+ * Massa de dados dos benchmarks, com o formato das mensagens e registros reais.
+ * A geração usa seed fixa para que execuções diferentes comparem a mesma entrada.
+ */
+final class BenchmarkData {
+
+    static final String CONSUME_JSON = """
+        {
+          "meta": {
+            "event_id": "5b0f4a43-8a0b-4f4e-9a49-1d7f3c6f2a10",
+            "event_date": "2026-01-10T12:00:00Z",
+            "event_source": "order-service",
+            "event_target": "production-service",
+            "event_name": "order.paid"
+          },
+          "payload": {
+            "id": "0c6f7e0e-2b8e-4b8a-9c43-7f1f5b8b6d21",
+            "itens": [
+              {"name": "X-Burger", "quantity": 2},
+              {"name": "Batata frita", "quantity": 1},
+              {"name": "Refrigerante", "quantity": 2}
+            ],
+            "customer": {"id": "c-123", "name": "Maria Silva"}
+          }
+        }
+        """;
+
+    private BenchmarkData() {
+    }
+
+    static ConsumeDTO consumeDTO() {
+        ItensDTO burger = new ItensDTO();
+        burger.setName("X-Burger");
+        burger.setQuantity(2);
+        ItensDTO fries = new ItensDTO();
+        fries.setName("Batata frita");
+        fries.setQuantity(1);
+
+        CustomerDTO customer = new CustomerDTO();
+        customer.setId("c-123");
+        customer.setName("Maria Silva");
+
+        PayloadDTO payload = new PayloadDTO();
+        payload.setId(UUID.fromString("0c6f7e0e-2b8e-4b8a-9c43-7f1f5b8b6d21"));
+        payload.setItens(List.of(burger, fries));
+        payload.setCustomer(customer);
+
+        ConsumeDTO consumeDTO = new ConsumeDTO();
+        consumeDTO.setMeta(new MetaDTO("5b0f4a43-8a0b-4f4e-9a49-1d7f3c6f2a10", "2026-01-10T12:00:00Z",
+            "order-service", "production-service", "order.paid"));
+        consumeDTO.setPayload(payload);
+        return consumeDTO;
+    }
+
+    static Production production(int index, long updatedAt) {
+        Production production = new Production();
+        production.setId(UUID.nameUUIDFromBytes(("production:" + index).getBytes()).toString());
+        production.setOrderID("order-" + index);
+        production.setStatus(ProductionConstants.PRODUCTION_STATUS_RECEIVED);
+        production.setUpdatedAt(updatedAt);
+        production.setCustomer(new Customer("Cliente " + index));
+        production.setItems(List.of(new OrderItem("X-Burger", 2), new OrderItem("Refrigerante", 1)));
+        return production;
+    }
+
+    /**
+     * @return Produções com updatedAt fora de ordem, como chegam ao intercalar partições do índice
+     */
+    static List<Production> productions(int rows) {
+        Random random = new Random(42);
+        List<Production> productions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            productions.add(production(i, 1_700_000_000_000L + random.nextInt(rows * 10)));
+        }
+        return productions;
+    }
+}
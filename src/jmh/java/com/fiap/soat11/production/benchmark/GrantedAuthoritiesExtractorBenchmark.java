@@ -0,0 +1,48 @@
+package com.fiap.soat11.production.benchmark;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.fiap.soat11.production.config.GrantedAuthoritiesExtractor;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GrantedAuthoritiesExtractorBenchmark {
+
+    private GrantedAuthoritiesExtractor extractor;
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() {
+        extractor = new GrantedAuthoritiesExtractor();
+        jwt = Jwt.withTokenValue("token")
+            .header("alg", "RS256")
+            .subject("user-123")
+            .issuedAt(Instant.parse("2026-01-10T12:00:00Z"))
+            .expiresAt(Instant.parse("2026-01-10T13:00:00Z"))
+            .claim("user_type", "admin kitchen")
+            .build();
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken convert() {
+        return extractor.convert(jwt);
+    }
+}
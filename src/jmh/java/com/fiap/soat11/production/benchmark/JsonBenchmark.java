@@ -0,0 +1,93 @@
+package com.fiap.soat11.production.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.soat11.production.dto.ConsumeDTO;
+import com.fiap.soat11.production.dto.MetaDTO;
+import com.fiap.soat11.production.dto.PayloadWrapperDTO;
+import com.fiap.soat11.production.dto.ProductionMessageDTO;
+import com.fiap.soat11.production.dto.ProductionPayloadDTO;
+import com.fiap.soat11.production.dto.ReceivedOrderDTO;
+import com.fiap.soat11.production.entity.Production;
+import com.fiap.soat11.production.mapper.ConsumeMessageDecoder;
+import com.fiap.soat11.production.mapper.ProductionMapper;
+import com.fiap.soat11.production.mapper.StatusMessageEncoder;
+
+/**
+ * Serialização da mensagem de status (ObjectMapper e StatusMessageEncoder), da lista de pendentes (corpo de GET /production)
+ * e desserialização da mensagem de pedido recebida da fila (ConsumeDTO + ProductionMapper e ConsumeMessageDecoder)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private ProductionMessageDTO statusMessage;
+    private List<Production> productions;
+    private byte[] consumeJson;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        statusMessage = new ProductionMessageDTO(
+            new MetaDTO("5b0f4a43-8a0b-4f4e-9a49-1d7f3c6f2a10", "2026-01-10T12:00:00Z",
+                "production-service", "order-service", "production.started"),
+            new PayloadWrapperDTO(new ProductionPayloadDTO("0c6f7e0e-2b8e-4b8a-9c43-7f1f5b8b6d21")));
+        productions = BenchmarkData.productions(rows);
+        consumeJson = BenchmarkData.CONSUME_JSON.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String serializeStatusMessage() throws IOException {
+        return objectMapper.writeValueAsString(statusMessage);
+    }
+
+    @Benchmark
+    public String encodeStatusMessage() {
+        return StatusMessageEncoder.encode(statusMessage.getMeta().getEventId(), statusMessage.getMeta().getEventDate(),
+            statusMessage.getMeta().getEventName(), statusMessage.getPayload().getProduction().getOrderId());
+    }
+
+    @Benchmark
+    public byte[] serializePendingList() throws IOException {
+        return objectMapper.writeValueAsBytes(productions);
+    }
+
+    @Benchmark
+    public ConsumeDTO deserializeConsumeDTO() throws IOException {
+        return objectMapper.readValue(consumeJson, ConsumeDTO.class);
+    }
+
+    @Benchmark
+    public Production deserializeAndMapConsumeDTO() throws IOException {
+        return ProductionMapper.toProduction(objectMapper.readValue(BenchmarkData.CONSUME_JSON, ConsumeDTO.class));
+    }
+
+    @Benchmark
+    public ReceivedOrderDTO decodeConsumeMessage() {
+        return ConsumeMessageDecoder.decode(BenchmarkData.CONSUME_JSON);
+    }
+}
@@ -0,0 +1,79 @@
+package com.fiap.soat11.production.benchmark;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import com.fiap.soat11.production.config.CachingJwtDecoder;
+import com.fiap.soat11.production.config.GrantedAuthoritiesExtractor;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+/**
+ * Autenticação de uma requisição com o mesmo token (decoder + conversão para JwtAuthenticationToken):
+ * NimbusJwtDecoder direto (verificação RSA a cada chamada) x CachingJwtDecoder (a partir da segunda chamada)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    private JwtDecoder nimbusDecoder;
+    private JwtDecoder cachingDecoder;
+    private GrantedAuthoritiesExtractor extractor;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        RSAKey rsaKey = new RSAKeyGenerator(2048).generate();
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .subject("user-123")
+            .issueTime(Date.from(now))
+            .expirationTime(Date.from(now.plus(1, ChronoUnit.HOURS)))
+            .claim("user_type", "admin kitchen")
+            .build();
+        SignedJWT signedJwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+        signedJwt.sign(new RSASSASigner(rsaKey));
+        token = signedJwt.serialize();
+
+        nimbusDecoder = NimbusJwtDecoder.withPublicKey(rsaKey.toRSAPublicKey()).build();
+        cachingDecoder = new CachingJwtDecoder(
+            NimbusJwtDecoder.withPublicKey(rsaKey.toRSAPublicKey()).build(), 10000, Clock.systemUTC());
+        extractor = new GrantedAuthoritiesExtractor();
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken nimbusDecoder() {
+        return extractor.convert(nimbusDecoder.decode(token));
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken cachingDecoder() {
+        return extractor.convert(cachingDecoder.decode(token));
+    }
+}
@@ -0,0 +1,149 @@
+package com.fiap.soat11.production.benchmark;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.OutputStreamAppender;
+
+import com.fiap.soat11.production.config.SamplingTurboFilter;
+
+/**
+ * Custo por mensagem, na thread que loga, de uma linha INFO por item (appender síncrono e
+ * AsyncAppender), de um log DEBUG por item amostrado pelo SamplingTurboFilter (1 a cada 100) e
+ * de um log DEBUG desabilitado por nível.
+ * O AsyncAppender roda sem descarte (discardingThreshold 0) e bloqueando com a fila cheia: todo
+ * evento é escrito, e o resultado é o custo sustentado, não o do caminho de descarte. O tearDown
+ * confere que nenhum evento foi perdido. A saída é descartada (nullOutputStream).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LoggingBenchmark {
+
+    private LoggerContext context;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+    private Logger sampledLogger;
+    private CountingAppender asyncOutput;
+    private final LongAdder asyncLogged = new LongAdder();
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        // Sem adapter de MDC cada evento lança e trata uma exceção ao copiar o MDC, o que distorce a medição
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        SamplingTurboFilter sampling = new SamplingTurboFilter();
+        sampling.setRate(100);
+        sampling.start();
+        context.addTurboFilter(sampling);
+        context.start();
+
+        CountingAppender output = output();
+        asyncOutput = output();
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(0);
+        async.setNeverBlock(false);
+        async.setMaxFlushTime(0);
+        async.addAppender(asyncOutput);
+        async.start();
+
+        syncLogger = logger("sync", Level.INFO, output);
+        asyncLogger = logger("async", Level.INFO, async);
+        sampledLogger = logger("sampled", Level.DEBUG, output);
+    }
+
+    @TearDown
+    public void tearDown() {
+        // Com maxFlushTime 0 o stop espera a fila do AsyncAppender esvaziar
+        context.stop();
+        long logged = asyncLogged.sum();
+        long written = asyncOutput.written.sum();
+        System.out.printf("asyncInfoPerItem: %d eventos logados, %d escritos, %d descartados%n",
+            logged, written, logged - written);
+        if (written != logged) {
+            throw new IllegalStateException("AsyncAppender descartou " + (logged - written) + " eventos");
+        }
+    }
+
+    @Benchmark
+    public void syncInfoPerItem() {
+        syncLogger.info("Production record created successfully with ID: {}", "0c6f7e0e-2b8e-4b8a-9c43-7f1f5b8b6d21");
+    }
+
+    @Benchmark
+    public void asyncInfoPerItem() {
+        asyncLogged.increment();
+        asyncLogger.info("Production record created successfully with ID: {}", "0c6f7e0e-2b8e-4b8a-9c43-7f1f5b8b6d21");
+    }
+
+    @Benchmark
+    public void sampledDebugPerItem() {
+        sampledLogger.debug("Production record created successfully with ID: {}", "0c6f7e0e-2b8e-4b8a-9c43-7f1f5b8b6d21");
+    }
+
+    @Benchmark
+    public void disabledDebugPerItem() {
+        syncLogger.debug("Production record created successfully with ID: {}", "0c6f7e0e-2b8e-4b8a-9c43-7f1f5b8b6d21");
+    }
+
+    private CountingAppender output() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %5p [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        CountingAppender output = new CountingAppender();
+        output.setContext(context);
+        output.setEncoder(encoder);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+        return output;
+    }
+
+    private Logger logger(String name, Level level, ch.qos.logback.core.Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger(name);
+        logger.setLevel(level);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    private static class CountingAppender extends OutputStreamAppender<ILoggingEvent> {
+
+        private final LongAdder written = new LongAdder();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            super.append(event);
+            written.increment();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.fiap.soat11.production.benchmark;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.entity.Production;
+import com.fiap.soat11.production.service.InMemoryProductionChangeChannel;
+import com.fiap.soat11.production.service.PendingProductionView;
+
+/**
+ * Caminhos da listagem de pendentes: a ordenação aplicada ao resultado do índice de status
+ * (mesmo pipeline de ProductionProducerService.queryPendingProductions) e as operações
+ * da PendingProductionView que servem GET /production
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PendingListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private List<Production> queried;
+    private PendingProductionView view;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        queried = BenchmarkData.productions(rows);
+        view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.reconcile(queried, 0L);
+    }
+
+    @Benchmark
+    public List<Production> sortQueryResult() {
+        return ProductionConstants.PRODUCTION_PENDING_STATUSES.stream()
+            .flatMap(status -> queried.stream().filter(production -> status.equals(production.getStatus())))
+            .sorted(Comparator.comparing(
+                (Production production) -> production.getUpdatedAt() != null ? production.getUpdatedAt() : 0L))
+            .toList();
+    }
+
+    @Benchmark
+    public List<Production> viewSnapshot() {
+        return view.snapshot();
+    }
+
+    @Benchmark
+    public String viewETag() {
+        return view.getETag();
+    }
+
+    @Benchmark
+    public int viewUpsert() {
+        int index = next++ % rows;
+        view.upsert(BenchmarkData.production(index, queried.get(index).getUpdatedAt() + next));
+        return view.size();
+    }
+
+    @Benchmark
+    public int viewReconcile() {
+        view.reconcile(queried, 0L);
+        return view.size();
+    }
+}
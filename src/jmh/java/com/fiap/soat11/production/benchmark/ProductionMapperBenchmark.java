@@ -0,0 +1,44 @@
+package com.fiap.soat11.production.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fiap.soat11.production.dto.ConsumeDTO;
+import com.fiap.soat11.production.entity.Production;
+import com.fiap.soat11.production.mapper.ProductionMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductionMapperBenchmark {
+
+    private ConsumeDTO consumeDTO;
+
+    @Setup
+    public void setUp() {
+        consumeDTO = BenchmarkData.consumeDTO();
+    }
+
+    @Benchmark
+    public Production toProduction() {
+        return ProductionMapper.toProduction(consumeDTO);
+    }
+
+    @Benchmark
+    public String toProductionId() {
+        return ProductionMapper.toProductionId("0c6f7e0e-2b8e-4b8a-9c43-7f1f5b8b6d21");
+    }
+}
@@ -0,0 +1,215 @@
+package com.fiap.soat11.production.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+
+/**
+ * Início a frio do jar empacotado, no mesmo layout da imagem Docker (app.jar + lib/): cada medição sobe
+ * uma JVM nova e espera o fim do refresh do contexto (spring.context.exit=onRefresh), sem acesso à AWS.
+ * Modos: jit (padrão), aot (-Dspring.aot.enabled), cds (arquivo de classes gerado por uma execução de treino)
+ * e aot-cds (o que a imagem usa). Os modos com AOT exigem o jar gerado com -Paot.
+ * O modo native (-p mode=native) executa target/production, gerado com -Pnative native:compile.
+ * O pico de RSS de cada execução (VmHWM, Linux) fica em target/startup-rss.json, por modo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final String AOT_INITIALIZER =
+        "com/fiap/soat11/production/ProductionApplication__ApplicationContextInitializer.class";
+    private static final Path TARGET = Path.of("target");
+    private static final Path RSS_REPORT = TARGET.resolve("startup-rss.json");
+
+    @Param({"jit", "aot", "cds", "aot-cds"})
+    public String mode;
+
+    private Path workDir;
+    private List<String> command;
+    private final List<Long> peakRssKb = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if ("native".equals(mode)) {
+            Path executable = TARGET.resolve("production").toAbsolutePath();
+            if (!Files.isExecutable(executable)) {
+                throw new IllegalStateException("Modo native exige o executável gerado com -Pnative native:compile: " + executable);
+            }
+            command = new ArrayList<>(List.of(executable.toString()));
+            command.addAll(applicationProperties());
+            return;
+        }
+
+        Path jar = packagedJar();
+        boolean aot = mode.startsWith("aot");
+        boolean cds = mode.endsWith("cds");
+        if (aot && !hasAotInitializer(jar)) {
+            throw new IllegalStateException("Modo " + mode + " exige o jar gerado com -Paot: " + jar);
+        }
+
+        workDir = Files.createTempDirectory(jar.getParent(), "startup-" + mode + "-");
+        Path extracted = workDir.resolve("extracted");
+        run(List.of(java(), "-Djarmode=tools", "-jar", jar.toString(), "extract", "--destination", extracted.toString()));
+        Path appJar = extracted.resolve(jar.getFileName());
+
+        List<String> base = new ArrayList<>();
+        base.add(java());
+        if (aot) {
+            base.add("-Dspring.aot.enabled=true");
+        }
+        base.addAll(applicationProperties());
+
+        command = new ArrayList<>(base);
+        if (cds) {
+            // Execução de treino, como no Dockerfile
+            Path archive = workDir.resolve("app.jsa");
+            List<String> training = new ArrayList<>(base);
+            training.add(1, "-XX:ArchiveClassesAtExit=" + archive);
+            training.addAll(List.of("-jar", appJar.toString()));
+            run(training);
+            command.add(1, "-XX:SharedArchiveFile=" + archive);
+        }
+        command.addAll(List.of("-jar", appJar.toString()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        writeRssReport();
+        if (workDir == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(workDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public long coldStart() throws Exception {
+        Process process = start(command);
+        Path status = Path.of("/proc", Long.toString(process.pid()), "status");
+        long peak = 0L;
+        // VmHWM só cresce: a última leitura antes do fim do processo é o pico (aproximado pelo intervalo de leitura)
+        while (!process.waitFor(5, TimeUnit.MILLISECONDS)) {
+            peak = Math.max(peak, readPeakRssKb(status));
+        }
+        checkExitCode(process, command);
+        if (peak > 0) {
+            peakRssKb.add(peak);
+        }
+        return peak;
+    }
+
+    private static List<String> applicationProperties() throws Exception {
+        return List.of(
+            "-Dspring.context.exit=onRefresh",
+            "-Dspring.cloud.aws.secretsmanager.enabled=false",
+            "-Dfase4.production.service.auth.jwk=" + new RSAKeyGenerator(2048).generate().toPublicJWK().toJSONString());
+    }
+
+    private static void run(List<String> command) throws IOException, InterruptedException {
+        Process process = start(command);
+        process.waitFor();
+        checkExitCode(process, command);
+    }
+
+    private static Process start(List<String> command) throws IOException {
+        return new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+    }
+
+    private static void checkExitCode(Process process, List<String> command) {
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException("Processo terminou com código " + process.exitValue() + ": " + String.join(" ", command));
+        }
+    }
+
+    private static long readPeakRssKb(Path status) {
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Processo já encerrado ou /proc indisponível (fora do Linux)
+        }
+        return 0L;
+    }
+
+    /**
+     * Acrescenta ao relatório o pico de RSS do modo atual; cada modo roda em um fork próprio, em sequência
+     */
+    private void writeRssReport() throws IOException {
+        if (peakRssKb.isEmpty()) {
+            return;
+        }
+        List<Long> sorted = peakRssKb.stream().sorted().toList();
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode report = Files.exists(RSS_REPORT)
+            ? (ObjectNode) objectMapper.readTree(RSS_REPORT.toFile())
+            : objectMapper.createObjectNode();
+        report.putObject(mode)
+            .put("runs", sorted.size())
+            .put("medianPeakRssMb", sorted.get(sorted.size() / 2) / 1024.0)
+            .put("maxPeakRssMb", sorted.get(sorted.size() - 1) / 1024.0);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(RSS_REPORT.toFile(), report);
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    /**
+     * Jar gerado pelo package (target/production-*.jar), ou o informado em -Dstartup.jar
+     */
+    private static Path packagedJar() throws IOException {
+        String configured = System.getProperty("startup.jar");
+        if (configured != null) {
+            return Path.of(configured).toAbsolutePath();
+        }
+        try (Stream<Path> jars = Files.list(TARGET)) {
+            return jars.filter(path -> path.getFileName().toString().matches("production-.*\\.jar"))
+                .findFirst()
+                .map(Path::toAbsolutePath)
+                .orElseThrow(() -> new IllegalStateException("Jar não encontrado em target/; execute o package antes"));
+        }
+    }
+
+    private static boolean hasAotInitializer(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getEntry("BOOT-INF/classes/" + AOT_INITIALIZER) != null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.fiap.soat11.production.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fiap.soat11.production.entity.Production;
+import com.fiap.soat11.production.entity.ProductionTableSchema;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * TableSchema.fromBean x ProductionTableSchema: conversão Production <-> AttributeValue (caminho de putItem,
+ * batchWriteItem, query e do stream) e criação do schema a frio, medida na primeira chamada de cada fork
+ * (o custo que entra no início da aplicação; por isso esses métodos não usam o estado com o schema já criado)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableSchemaBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Items {
+
+        private TableSchema<Production> beanSchema;
+        private Production production;
+        private Map<String, AttributeValue> item;
+
+        @Setup
+        public void setUp() {
+            beanSchema = TableSchema.fromBean(Production.class);
+            production = BenchmarkData.productions(1).get(0);
+            item = beanSchema.itemToMap(production, true);
+        }
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> beanItemToMap(Items items) {
+        return items.beanSchema.itemToMap(items.production, true);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> staticItemToMap(Items items) {
+        return ProductionTableSchema.PRODUCTION.itemToMap(items.production, true);
+    }
+
+    @Benchmark
+    public Production beanMapToItem(Items items) {
+        return items.beanSchema.mapToItem(items.item);
+    }
+
+    @Benchmark
+    public Production staticMapToItem(Items items) {
+        return ProductionTableSchema.PRODUCTION.mapToItem(items.item);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public TableSchema<Production> beanSchemaColdCreation() {
+        return TableSchema.fromBean(Production.class);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public TableSchema<Production> staticSchemaColdCreation() {
+        return ProductionTableSchema.PRODUCTION;
+    }
+}
@@ -0,0 +1,74 @@
+package com.fiap.soat11.production.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acumula latências (em nanos) de várias threads e calcula os percentis ao final.
+ * Guarda todas as amostras: o volume de um teste de carga local cabe em memória
+ * e os percentis saem exatos, sem a aproximação de um histograma.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+
+    synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    synchronized void recordError() {
+        errors++;
+    }
+
+    synchronized long count() {
+        return size;
+    }
+
+    synchronized long errors() {
+        return errors;
+    }
+
+    synchronized long percentileNanos(double percentile) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return percentile(sorted, percentile);
+    }
+
+    /**
+     * @param elapsedNanos Duração da janela medida, para o cálculo da vazão
+     * @return Resumo com contagem, erros, vazão (req/s) e percentis em milissegundos
+     */
+    synchronized Map<String, Object> summary(long elapsedNanos) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", size);
+        summary.put("errors", errors);
+        summary.put("throughputPerSecond", elapsedNanos > 0 ? size * 1e9 / elapsedNanos : 0.0);
+        summary.put("p50Ms", toMillis(percentile(sorted, 50)));
+        summary.put("p95Ms", toMillis(percentile(sorted, 95)));
+        summary.put("p99Ms", toMillis(percentile(sorted, 99)));
+        summary.put("maxMs", toMillis(percentile(sorted, 100)));
+        return summary;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
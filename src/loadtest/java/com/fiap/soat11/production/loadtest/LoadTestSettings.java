@@ -0,0 +1,34 @@
+package com.fiap.soat11.production.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Parâmetros do teste de carga, lidos de propriedades de sistema (-Dloadtest.*).
+ *
+ * @param duration Tempo de injeção de carga
+ * @param intakeRate Pedidos por segundo enviados à fila de produção
+ * @param httpClients Clientes HTTP concorrentes (GET e PUT em /production)
+ * @param putRatio Fração das requisições HTTP que avançam o status de uma produção
+ * @param drainTimeout Tempo máximo, após o fim da injeção, para a fila ser consumida
+ * @param maxHttpP99 Limite de p99 das requisições HTTP; zero desliga a verificação
+ * @param maxQueueLagP99 Limite de p99 do atraso fila → produção pendente; zero desliga a verificação
+ */
+record LoadTestSettings(Duration duration,
+                        int intakeRate,
+                        int httpClients,
+                        double putRatio,
+                        Duration drainTimeout,
+                        Duration maxHttpP99,
+                        Duration maxQueueLagP99) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            Duration.ofSeconds(Long.getLong("loadtest.duration-s", 30)),
+            Integer.getInteger("loadtest.intake-rate", 50),
+            Integer.getInteger("loadtest.http-clients", 16),
+            Double.parseDouble(System.getProperty("loadtest.put-ratio", "0.3")),
+            Duration.ofSeconds(Long.getLong("loadtest.drain-timeout-s", 60)),
+            Duration.ofMillis(Long.getLong("loadtest.max-http-p99-ms", 0)),
+            Duration.ofMillis(Long.getLong("loadtest.max-queue-lag-p99-ms", 0)));
+    }
+}
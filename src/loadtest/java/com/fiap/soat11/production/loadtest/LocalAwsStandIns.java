@@ -0,0 +1,157 @@
+package com.fiap.soat11.production.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+
+import org.elasticmq.rest.sqs.SQSRestServer;
+import org.elasticmq.rest.sqs.SQSRestServerBuilder;
+
+import com.amazonaws.services.dynamodbv2.local.main.ServerRunner;
+import com.amazonaws.services.dynamodbv2.local.server.DynamoDBProxyServer;
+import com.fiap.soat11.production.config.ProductionConstants;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.BillingMode;
+import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.StreamSpecification;
+import software.amazon.awssdk.services.dynamodb.model.StreamViewType;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
+
+/**
+ * DynamoDB Local e ElasticMQ em processo, no lugar do DynamoDB e do SQS da AWS.
+ * As tabelas (com o índice de status e o stream) e as filas seguem o deploy/terraform.
+ */
+final class LocalAwsStandIns implements AutoCloseable {
+
+    static final Region REGION = Region.US_EAST_1;
+    static final StaticCredentialsProvider CREDENTIALS =
+        StaticCredentialsProvider.create(AwsBasicCredentials.create("local", "local"));
+
+    private final DynamoDBProxyServer dynamoDbServer;
+    private final SQSRestServer sqsServer;
+    private final URI dynamoDbEndpoint;
+    private final URI sqsEndpoint;
+
+    private LocalAwsStandIns(DynamoDBProxyServer dynamoDbServer, URI dynamoDbEndpoint,
+                             SQSRestServer sqsServer, URI sqsEndpoint) {
+        this.dynamoDbServer = dynamoDbServer;
+        this.dynamoDbEndpoint = dynamoDbEndpoint;
+        this.sqsServer = sqsServer;
+        this.sqsEndpoint = sqsEndpoint;
+    }
+
+    static LocalAwsStandIns start() throws Exception {
+        int dynamoDbPort = freePort();
+        DynamoDBProxyServer dynamoDbServer = ServerRunner.createServerFromCommandLineArgs(
+            new String[] {"-inMemory", "-port", String.valueOf(dynamoDbPort)});
+        dynamoDbServer.start();
+
+        SQSRestServer sqsServer = SQSRestServerBuilder.withDynamicPort().withInterface("localhost").start();
+        int sqsPort = sqsServer.waitUntilStarted().localAddress().getPort();
+
+        LocalAwsStandIns standIns = new LocalAwsStandIns(
+            dynamoDbServer, URI.create("http://localhost:" + dynamoDbPort),
+            sqsServer, URI.create("http://localhost:" + sqsPort));
+        standIns.createTables();
+        standIns.createQueues();
+        return standIns;
+    }
+
+    URI dynamoDbEndpoint() {
+        return dynamoDbEndpoint;
+    }
+
+    URI sqsEndpoint() {
+        return sqsEndpoint;
+    }
+
+    SqsAsyncClient sqsClient() {
+        return SqsAsyncClient.builder()
+            .endpointOverride(sqsEndpoint)
+            .region(REGION)
+            .credentialsProvider(CREDENTIALS)
+            .build();
+    }
+
+    @Override
+    public void close() throws Exception {
+        sqsServer.stopAndWait();
+        dynamoDbServer.stop();
+    }
+
+    private void createTables() {
+        try (DynamoDbClient client = DynamoDbClient.builder()
+                .endpointOverride(dynamoDbEndpoint)
+                .region(REGION)
+                .credentialsProvider(CREDENTIALS)
+                .build()) {
+
+            client.createTable(CreateTableRequest.builder()
+                .tableName(ProductionConstants.DYNAMODB_TABLE_NAME)
+                .billingMode(BillingMode.PAY_PER_REQUEST)
+                .attributeDefinitions(
+                    attribute("id", ScalarAttributeType.S),
+                    attribute("status", ScalarAttributeType.S),
+                    attribute("updatedAt", ScalarAttributeType.N))
+                .keySchema(key("id", KeyType.HASH))
+                .globalSecondaryIndexes(GlobalSecondaryIndex.builder()
+                    .indexName(ProductionConstants.DYNAMODB_STATUS_INDEX_NAME)
+                    .keySchema(key("status", KeyType.HASH), key("updatedAt", KeyType.RANGE))
+                    .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+                    .build())
+                .streamSpecification(StreamSpecification.builder()
+                    .streamEnabled(true)
+                    .streamViewType(StreamViewType.NEW_IMAGE)
+                    .build())
+                .build());
+
+            client.createTable(CreateTableRequest.builder()
+                .tableName(ProductionConstants.DYNAMODB_OUTBOX_TABLE_NAME)
+                .billingMode(BillingMode.PAY_PER_REQUEST)
+                .attributeDefinitions(
+                    attribute("id", ScalarAttributeType.S),
+                    attribute("relayShard", ScalarAttributeType.S),
+                    attribute("createdAt", ScalarAttributeType.N))
+                .keySchema(key("id", KeyType.HASH))
+                .globalSecondaryIndexes(GlobalSecondaryIndex.builder()
+                    .indexName(ProductionConstants.DYNAMODB_OUTBOX_INDEX_NAME)
+                    .keySchema(key("relayShard", KeyType.HASH), key("createdAt", KeyType.RANGE))
+                    .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+                    .build())
+                .build());
+        }
+    }
+
+    private void createQueues() {
+        try (SqsAsyncClient client = sqsClient()) {
+            client.createQueue(CreateQueueRequest.builder().queueName(ProductionConstants.SQS_QUEUE_NAME).build()).join();
+            client.createQueue(CreateQueueRequest.builder().queueName(ProductionConstants.SQS_QUEUE_PRODUCER).build()).join();
+        }
+    }
+
+    private static AttributeDefinition attribute(String name, ScalarAttributeType type) {
+        return AttributeDefinition.builder().attributeName(name).attributeType(type).build();
+    }
+
+    private static KeySchemaElement key(String name, KeyType type) {
+        return KeySchemaElement.builder().attributeName(name).keyType(type).build();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.fiap.soat11.production.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.dto.ConsumeDTO;
+import com.fiap.soat11.production.dto.CustomerDTO;
+import com.fiap.soat11.production.dto.ItensDTO;
+import com.fiap.soat11.production.dto.MetaDTO;
+import com.fiap.soat11.production.dto.PayloadDTO;
+import com.fiap.soat11.production.dto.ProductionEventDTO;
+import com.fiap.soat11.production.service.PendingProductionView;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+
+/**
+ * Teste de carga de ponta a ponta: a aplicação sobe inteira contra DynamoDB Local e ElasticMQ
+ * (LocalAwsStandIns), recebe pedidos na fila de produção à taxa configurada e, ao mesmo tempo,
+ * GET e PUT concorrentes em /production. O relatório traz vazão e percentis de latência do HTTP,
+ * o atraso entre o envio do pedido à fila e a produção pendente aparecer na visão (queue lag)
+ * e a profundidade da fila ao longo do teste.
+ * Parâmetros em LoadTestSettings; spring.threads.virtual.enabled=true roda o mesmo cenário com virtual threads
+ * no Tomcat e nos executores do Spring (os @SqsListener continuam no pool do container).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.cloud.aws.secretsmanager.enabled=false",
+    "fase4.production.service.logging.console-appender=CONSOLE"
+})
+@DirtiesContext
+class ProductionLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductionLoadTest.class);
+
+    private static final int INTAKE_TICKS_PER_SECOND = 10;
+
+    private static LocalAwsStandIns standIns;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private PendingProductionView pendingView;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    private final Map<String, Long> sentAtByOrder = new ConcurrentHashMap<>();
+    private final Queue<String> receivedIds = new ConcurrentLinkedQueue<>();
+    private final Queue<String> startedIds = new ConcurrentLinkedQueue<>();
+    private final LatencyRecorder queueLag = new LatencyRecorder();
+    private final LatencyRecorder getLatency = new LatencyRecorder();
+    private final LatencyRecorder putLatency = new LatencyRecorder();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final List<Integer> queueDepthTimeline = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void awsStandIns(DynamicPropertyRegistry registry) throws Exception {
+        standIns = LocalAwsStandIns.start();
+        String jwk = new RSAKeyGenerator(2048).generate().toPublicJWK().toJSONString();
+
+        registry.add("spring.cloud.aws.region.static", LocalAwsStandIns.REGION::id);
+        registry.add("spring.cloud.aws.credentials.access-key", () -> "local");
+        registry.add("spring.cloud.aws.credentials.secret-key", () -> "local");
+        registry.add("spring.cloud.aws.dynamodb.endpoint", () -> standIns.dynamoDbEndpoint().toString());
+        registry.add("spring.cloud.aws.sqs.endpoint", () -> standIns.sqsEndpoint().toString());
+        registry.add("fase4.production.service.auth.jwk", () -> jwk);
+    }
+
+    /**
+     * Os stand-ins são encerrados junto com o contexto, depois dos listeners SQS e das tarefas agendadas
+     */
+    @TestConfiguration
+    static class StandInsLifecycle {
+
+        @Bean(destroyMethod = "close")
+        LocalAwsStandIns localAwsStandIns() {
+            return standIns;
+        }
+    }
+
+    @Test
+    void shouldSustainOrderIntakeAndConcurrentHttpTraffic() throws Exception {
+        pendingView.addListener(this::onPendingChange);
+
+        try (SqsAsyncClient sqsClient = standIns.sqsClient();
+             HttpClient httpClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+
+            String queueUrl = sqsClient.getQueueUrl(GetQueueUrlRequest.builder()
+                    .queueName(ProductionConstants.SQS_QUEUE_NAME)
+                    .build())
+                .join()
+                .queueUrl();
+
+            ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+            ExecutorService httpWorkers = Executors.newVirtualThreadPerTaskExecutor();
+            long startedAt = System.nanoTime();
+            long deadline = startedAt + settings.duration().toNanos();
+
+            scheduler.scheduleAtFixedRate(() -> sendOrders(sqsClient, queueUrl),
+                0, 1000 / INTAKE_TICKS_PER_SECOND, TimeUnit.MILLISECONDS);
+            scheduler.scheduleAtFixedRate(() -> sampleQueueDepth(sqsClient, queueUrl), 0, 1, TimeUnit.SECONDS);
+            for (int i = 0; i < settings.httpClients(); i++) {
+                httpWorkers.execute(() -> runHttpClient(httpClient, deadline));
+            }
+
+            TimeUnit.NANOSECONDS.sleep(deadline - System.nanoTime());
+            scheduler.shutdownNow();
+            httpWorkers.shutdown();
+            httpWorkers.awaitTermination(30, TimeUnit.SECONDS);
+            long loadNanos = System.nanoTime() - startedAt;
+
+            // Após a injeção a fila precisa ser esvaziada; o tempo de drenagem mede o backlog acumulado
+            long drainStartedAt = System.nanoTime();
+            long drainDeadline = drainStartedAt + settings.drainTimeout().toNanos();
+            while (!sentAtByOrder.isEmpty() && System.nanoTime() < drainDeadline) {
+                TimeUnit.MILLISECONDS.sleep(100);
+            }
+            long drainNanos = System.nanoTime() - drainStartedAt;
+
+            Map<String, Object> report = report(loadNanos, drainNanos);
+            File reportFile = new File(System.getProperty("loadtest.report", "target/load-test-report.json"));
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile, report);
+            logger.info("Relatório do teste de carga ({}): {}", reportFile, report);
+
+            assertTrue(sentAtByOrder.isEmpty(),
+                sentAtByOrder.size() + " pedidos não consumidos em " + settings.drainTimeout());
+            assertEquals(0, getLatency.errors(), "Erros em GET /production");
+            assertEquals(0, putLatency.errors(), "Erros em PUT /production");
+            assertWithin(getLatency, settings.maxHttpP99(), "p99 de GET /production");
+            assertWithin(putLatency, settings.maxHttpP99(), "p99 de PUT /production");
+            assertWithin(queueLag, settings.maxQueueLagP99(), "p99 do queue lag");
+        }
+    }
+
+    private void onPendingChange(ProductionEventDTO event) {
+        if (!ProductionEventDTO.TYPE_ADD.equals(event.getType())) {
+            return;
+        }
+        Long sentAt = sentAtByOrder.remove(event.getProduction().getOrderID());
+        if (sentAt != null) {
+            queueLag.record(System.nanoTime() - sentAt);
+            consumed.incrementAndGet();
+            receivedIds.add(event.getProduction().getId());
+        }
+    }
+
+    private void sendOrders(SqsAsyncClient sqsClient, String queueUrl) {
+        int orders = settings.intakeRate() / INTAKE_TICKS_PER_SECOND;
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(ProductionConstants.SQS_SEND_BATCH_MAX_MESSAGES);
+        try {
+            for (int i = 0; i < orders; i++) {
+                ConsumeDTO order = order();
+                String orderId = order.getPayload().getId().toString();
+                entries.add(SendMessageBatchRequestEntry.builder()
+                    .id(String.valueOf(i))
+                    .messageBody(objectMapper.writeValueAsString(order))
+                    .build());
+                sentAtByOrder.put(orderId, System.nanoTime());
+
+                if (entries.size() == ProductionConstants.SQS_SEND_BATCH_MAX_MESSAGES || i == orders - 1) {
+                    sqsClient.sendMessageBatch(SendMessageBatchRequest.builder()
+                        .queueUrl(queueUrl)
+                        .entries(entries)
+                        .build()).join();
+                    sent.addAndGet(entries.size());
+                    entries = new ArrayList<>(ProductionConstants.SQS_SEND_BATCH_MAX_MESSAGES);
+                }
+            }
+        } catch (Exception ex) {
+            logger.error("Erro ao enviar pedidos para a fila: {}", ex.getMessage());
+        }
+    }
+
+    private void sampleQueueDepth(SqsAsyncClient sqsClient, String queueUrl) {
+        try {
+            Map<QueueAttributeName, String> attributes = sqsClient.getQueueAttributes(GetQueueAttributesRequest.builder()
+                    .queueUrl(queueUrl)
+                    .attributeNames(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES,
+                        QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE)
+                    .build())
+                .join()
+                .attributes();
+            int depth = Integer.parseInt(attributes.get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES))
+                + Integer.parseInt(attributes.get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE));
+            maxQueueDepth.accumulateAndGet(depth, Math::max);
+            synchronized (queueDepthTimeline) {
+                queueDepthTimeline.add(depth);
+            }
+        } catch (Exception ex) {
+            logger.warn("Erro ao ler profundidade da fila: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Cliente HTTP em laço fechado: consulta a lista de pendentes com If-None-Match, como um painel
+     * da cozinha, ou avança o status de uma produção (RECEIVED → STARTED → COMPLETED)
+     */
+    private void runHttpClient(HttpClient httpClient, long deadline) {
+        String etag = null;
+        while (System.nanoTime() < deadline) {
+            String transition = ThreadLocalRandom.current().nextDouble() < settings.putRatio()
+                ? nextTransition() : null;
+            try {
+                if (transition != null) {
+                    updateStatus(httpClient, transition);
+                } else {
+                    etag = listPending(httpClient, etag);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                (transition != null ? putLatency : getLatency).recordError();
+                logger.warn("Erro na requisição HTTP: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private String nextTransition() {
+        String id = startedIds.poll();
+        if (id != null) {
+            return "completed:" + id;
+        }
+        id = receivedIds.poll();
+        return id != null ? "started:" + id : null;
+    }
+
+    private void updateStatus(HttpClient httpClient, String transition) throws Exception {
+        String status = transition.substring(0, transition.indexOf(':'));
+        String id = transition.substring(transition.indexOf(':') + 1);
+        HttpRequest request = HttpRequest.newBuilder(uri("/production/" + id + "/" + status))
+            .PUT(HttpRequest.BodyPublishers.noBody())
+            .build();
+
+        long start = System.nanoTime();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        putLatency.record(System.nanoTime() - start);
+
+        if (response.statusCode() == 409) {
+            conflicts.incrementAndGet();
+        } else if (response.statusCode() != 200) {
+            putLatency.recordError();
+        } else if ("started".equals(status)) {
+            startedIds.add(id);
+        }
+    }
+
+    private String listPending(HttpClient httpClient, String etag) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/production")).GET();
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        getLatency.record(System.nanoTime() - start);
+
+        if (response.statusCode() == 304) {
+            notModified.incrementAndGet();
+        } else if (response.statusCode() != 200) {
+            getLatency.recordError();
+        }
+        return response.headers().firstValue("ETag").orElse(etag);
+    }
+
+    private Map<String, Object> report(long loadNanos, long drainNanos) {
+        Map<String, Object> intake = new LinkedHashMap<>();
+        intake.put("sent", sent.get());
+        intake.put("consumed", consumed.get());
+        intake.put("pending", sentAtByOrder.size());
+        intake.put("throughputPerSecond", consumed.get() * 1e9 / (loadNanos + drainNanos));
+
+        Map<String, Object> queue = new LinkedHashMap<>();
+        queue.put("lag", queueLag.summary(loadNanos + drainNanos));
+        queue.put("maxDepth", maxQueueDepth.get());
+        synchronized (queueDepthTimeline) {
+            queue.put("depthPerSecond", List.copyOf(queueDepthTimeline));
+        }
+        queue.put("drainMs", TimeUnit.NANOSECONDS.toMillis(drainNanos));
+
+        Map<String, Object> get = getLatency.summary(loadNanos);
+        get.put("notModified", notModified.get());
+        Map<String, Object> put = putLatency.summary(loadNanos);
+        put.put("conflicts", conflicts.get());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings.toString());
+        report.put("virtualThreads", virtualThreads);
+        report.put("intake", intake);
+        report.put("queue", queue);
+        report.put("httpGet", get);
+        report.put("httpPut", put);
+        return report;
+    }
+
+    private void assertWithin(LatencyRecorder recorder, Duration limit, String description) {
+        if (!limit.isZero()) {
+            long p99 = recorder.percentileNanos(99);
+            assertTrue(p99 <= limit.toNanos(),
+                description + " acima do limite: " + TimeUnit.NANOSECONDS.toMillis(p99) + " ms > " + limit.toMillis() + " ms");
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static ConsumeDTO order() {
+        ItensDTO item = new ItensDTO();
+        item.setName("X-Burger");
+        item.setQuantity(ThreadLocalRandom.current().nextInt(1, 4));
+
+        CustomerDTO customer = new CustomerDTO();
+        customer.setId(UUID.randomUUID().toString());
+        customer.setName("Cliente carga");
+
+        PayloadDTO payload = new PayloadDTO();
+        payload.setId(UUID.randomUUID());
+        payload.setItens(List.of(item));
+        payload.setCustomer(customer);
+
+        ConsumeDTO order = new ConsumeDTO();
+        order.setMeta(new MetaDTO(UUID.randomUUID().toString(), Instant.now().toString(),
+            "order-service", "production-service", "order.paid"));
+        order.setPayload(payload);
+        return order;
+    }
+}
@@ -2,8 +2,14 @@ package com.fiap.soat11.production;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.fiap.soat11.production.config.ProductionRuntimeHints;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(ProductionRuntimeHints.class)
 public class ProductionApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,94 @@
+package com.fiap.soat11.production.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * Cache local (LRU, tamanho limitado) dos tokens já verificados, na frente do NimbusJwtDecoder.
+ * A chave é o SHA-256 do token; o Jwt devolvido é o mesmo da primeira verificação até o exp do token,
+ * evitando a verificação RSA e o parse das claims a cada requisição.
+ * Tokens sem exp e tokens rejeitados pelo decoder não entram no cache.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Clock clock;
+    private final Map<String, Jwt> verified;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.verified = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Jwt> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (token == null) {
+            return delegate.decode(token);
+        }
+        String key = digest(token);
+        Jwt cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Jwt jwt = delegate.decode(token);
+        if (notExpired(jwt)) {
+            put(key, jwt);
+        }
+        return jwt;
+    }
+
+    private synchronized Jwt get(String key) {
+        Jwt jwt = verified.get(key);
+        if (jwt != null && !notExpired(jwt)) {
+            verified.remove(key);
+            return null;
+        }
+        return jwt;
+    }
+
+    private synchronized void put(String key, Jwt jwt) {
+        verified.put(key, jwt);
+    }
+
+    /**
+     * Descarta todos os tokens verificados (ex.: uma chave de assinatura foi removida)
+     */
+    public synchronized void invalidateAll() {
+        verified.clear();
+    }
+
+    synchronized int size() {
+        return verified.size();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private boolean notExpired(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        return expiresAt != null && clock.instant().isBefore(expiresAt);
+    }
+}
@@ -1,13 +1,28 @@
 package com.fiap.soat11.production.config;
 
+import java.net.URI;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
+import com.fiap.soat11.production.entity.OutboxMessage;
+import com.fiap.soat11.production.entity.OutboxTableSchema;
 import com.fiap.soat11.production.entity.Production;
+import com.fiap.soat11.production.entity.ProductionTableSchema;
 
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.regions.providers.AwsRegionProvider;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClientBuilder;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClientBuilder;
 
 @Configuration
 public class DynamoDbTableConfig {
@@ -16,7 +31,73 @@ public class DynamoDbTableConfig {
     public DynamoDbTable<Production> productionTable(DynamoDbEnhancedClient client) {
         return client.table(
             ProductionConstants.DYNAMODB_TABLE_NAME,
-            TableSchema.fromBean(Production.class)
+            ProductionTableSchema.PRODUCTION
+        );
+    }
+
+    @Bean
+    public DynamoDbTable<OutboxMessage> outboxTable(DynamoDbEnhancedClient client) {
+        return client.table(
+            ProductionConstants.DYNAMODB_OUTBOX_TABLE_NAME,
+            OutboxTableSchema.OUTBOX_MESSAGE
+        );
+    }
+
+    @Bean
+    public DynamoDbAsyncClient dynamoDbAsyncClient(AwsCredentialsProvider credentialsProvider,
+                                                   AwsRegionProvider regionProvider,
+                                                   MicrometerSdkMetricPublisher awsSdkMetricPublisher,
+                                                   DynamoDbWriteSignalPublisher dynamoDbWriteSignalPublisher,
+                                                   @Value("${spring.cloud.aws.dynamodb.endpoint:}") String endpoint) {
+        DynamoDbAsyncClientBuilder builder = DynamoDbAsyncClient.builder()
+            .credentialsProvider(credentialsProvider)
+            .region(regionProvider.getRegion())
+            .overrideConfiguration(override -> override
+                .addMetricPublisher(awsSdkMetricPublisher)
+                .addMetricPublisher(dynamoDbWriteSignalPublisher));
+        // Mesmo endpoint do DynamoDbClient auto-configurado (ex.: DynamoDB Local no teste de carga)
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsyncClient(DynamoDbAsyncClient dynamoDbAsyncClient) {
+        return DynamoDbEnhancedAsyncClient.builder()
+            .dynamoDbClient(dynamoDbAsyncClient)
+            .build();
+    }
+
+    @Bean
+    public DynamoDbAsyncTable<Production> productionAsyncTable(DynamoDbEnhancedAsyncClient client) {
+        return client.table(
+            ProductionConstants.DYNAMODB_TABLE_NAME,
+            ProductionTableSchema.PRODUCTION
         );
     }
+
+    @Bean
+    public DynamoDbAsyncTable<OutboxMessage> outboxAsyncTable(DynamoDbEnhancedAsyncClient client) {
+        return client.table(
+            ProductionConstants.DYNAMODB_OUTBOX_TABLE_NAME,
+            OutboxTableSchema.OUTBOX_MESSAGE
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "fase4.production.service.change-channel.type", havingValue = "dynamodb-streams")
+    public DynamoDbStreamsClient dynamoDbStreamsClient(AwsCredentialsProvider credentialsProvider,
+                                                       AwsRegionProvider regionProvider,
+                                                       MicrometerSdkMetricPublisher awsSdkMetricPublisher,
+                                                       @Value("${spring.cloud.aws.dynamodb.endpoint:}") String endpoint) {
+        DynamoDbStreamsClientBuilder builder = DynamoDbStreamsClient.builder()
+            .credentialsProvider(credentialsProvider)
+            .region(regionProvider.getRegion())
+            .overrideConfiguration(override -> override.addMetricPublisher(awsSdkMetricPublisher));
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
 }
@@ -0,0 +1,60 @@
+package com.fiap.soat11.production.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import com.fiap.soat11.production.service.AdaptiveConcurrencyLimiter;
+
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Repassa ao AdaptiveConcurrencyLimiter a latência e o throttling das gravações do consumidor
+ * (PutItem e BatchWriteItem), a partir das métricas que o AWS SDK coleta a cada chamada.
+ * Registrado nos clientes DynamoDB síncrono e assíncrono, junto do MicrometerSdkMetricPublisher.
+ */
+public class DynamoDbWriteSignalPublisher implements MetricPublisher {
+
+    private static final String DYNAMODB_SERVICE_ID = "DynamoDB";
+    private static final Set<String> WRITE_OPERATIONS = Set.of("PutItem", "BatchWriteItem");
+    private static final String API_CALL_ATTEMPT = "ApiCallAttempt";
+    // Valor de CoreMetric.ERROR_TYPE para respostas 400/429 de throttling (SdkErrorType.THROTTLING)
+    private static final String THROTTLING_ERROR_TYPE = "Throttling";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public DynamoDbWriteSignalPublisher(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        if (!DYNAMODB_SERVICE_ID.equals(first(metricCollection, CoreMetric.SERVICE_ID))
+                || !WRITE_OPERATIONS.contains(first(metricCollection, CoreMetric.OPERATION_NAME))) {
+            return;
+        }
+        Duration duration = metricCollection.metricValues(CoreMetric.API_CALL_DURATION).stream()
+            .findFirst()
+            .orElse(null);
+        if (duration == null) {
+            return;
+        }
+
+        boolean throttled = metricCollection.childrenWithName(API_CALL_ATTEMPT)
+            .anyMatch(attempt -> attempt.metricValues(CoreMetric.ERROR_TYPE).contains(THROTTLING_ERROR_TYPE));
+        limiter.onSample(duration, throttled);
+    }
+
+    @Override
+    public void close() {
+        // Nada a liberar
+    }
+
+    private static String first(MetricCollection metricCollection, SdkMetric<String> metric) {
+        List<String> values = metricCollection.metricValues(metric);
+        return values.isEmpty() ? null : values.get(0);
+    }
+}
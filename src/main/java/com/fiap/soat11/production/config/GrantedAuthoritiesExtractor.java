@@ -2,8 +2,9 @@ package com.fiap.soat11.production.config;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
@@ -14,22 +15,42 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtAut
 
 public class GrantedAuthoritiesExtractor implements Converter<Jwt, AbstractAuthenticationToken> {
 
+    private static final int MAX_CACHED_USER_TYPES = 64;
+
+    /**
+     * As authorities dependem só da claim user_type, que tem poucos valores distintos: a lista imutável
+     * é montada uma vez por valor. O JwtAuthenticationToken em si é criado a cada requisição, pois é mutável
+     * (o provider preenche os details).
+     */
+    private final Map<String, List<GrantedAuthority>> authoritiesByUserType =
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<GrantedAuthority>> eldest) {
+                return size() > MAX_CACHED_USER_TYPES;
+            }
+        };
+
     @Override
     public AbstractAuthenticationToken convert(Jwt jwt) {
-        String scopeClaim = jwt.getClaimAsString("user_type");
+        return new JwtAuthenticationToken(jwt, authorities(jwt.getClaimAsString("user_type")));
+    }
 
-        Collection<String> scopes = (scopeClaim != null && !scopeClaim.isBlank())
-                ? List.of(scopeClaim.trim().split("\\s+"))
-                : Collections.emptyList();
+    private synchronized List<GrantedAuthority> authorities(String scopeClaim) {
+        if (scopeClaim == null || scopeClaim.isBlank()) {
+            return Collections.emptyList();
+        }
+        return authoritiesByUserType.computeIfAbsent(scopeClaim, GrantedAuthoritiesExtractor::toAuthorities);
+    }
 
-        Collection<GrantedAuthority> authorities = scopes.stream()
+    private static List<GrantedAuthority> toAuthorities(String scopeClaim) {
+        Collection<String> scopes = List.of(scopeClaim.trim().split("\\s+"));
+
+        return scopes.stream()
                 .map(String::trim)
                 .filter(s -> !s.isEmpty())
                 .map(s -> "ROLE_" + s.toUpperCase())
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
-
-        return new JwtAuthenticationToken(jwt, authorities);
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
     }
-    
+
 }
@@ -0,0 +1,11 @@
+package com.fiap.soat11.production.config;
+
+/**
+ * Origem das chaves públicas de verificação dos tokens: um JWK ou um JWK set ({"keys": [...]}) em JSON.
+ * Relida periodicamente pelo RotatingJwkKeySelector; nos testes, basta uma lambda.
+ */
+@FunctionalInterface
+public interface JwkSetSource {
+
+    String load() throws Exception;
+}
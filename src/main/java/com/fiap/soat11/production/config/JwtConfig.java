@@ -1,32 +1,70 @@
 package com.fiap.soat11.production.config;
 
-import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+import io.awspring.cloud.autoconfigure.core.AwsClientBuilderConfigurer;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
 
 @Configuration
 public class JwtConfig {
 
-    @Value("${fase4.production.service.auth.jwk}")
+    private static final String JWK_PROPERTY = "fase4.production.service.auth.jwk";
+
+    @Value("${" + JWK_PROPERTY + "}")
     private String jwkJson;
 
+    @Value("${fase4.production.service.auth.jwt-cache.max-size:10000}")
+    private int jwtCacheMaxSize;
+
+    @Value("${fase4.production.service.auth.jwk-secret-id:fase4-production-service-secrets}")
+    private String jwkSecretId;
+
+    @Value("${spring.cloud.aws.secretsmanager.enabled:true}")
+    private boolean secretsManagerEnabled;
+
     @Bean
-    public JwtDecoder jwtDecoder() {
+    public RotatingJwkKeySelector jwkKeySelector(ObjectProvider<AwsClientBuilderConfigurer> awsClientBuilderConfigurer) {
         try {
-            JWK jwk = JWK.parse(jwkJson);
-            RSAKey rsaKey = jwk.toRSAKey();
-            RSAPublicKey publicKey = rsaKey.toRSAPublicKey();
-            return NimbusJwtDecoder.withPublicKey(publicKey).build();
+            // As chaves iniciais vêm da propriedade já importada; o Secrets Manager só é lido nas recargas
+            return new RotatingJwkKeySelector(jwkJson, jwkSetSource(awsClientBuilderConfigurer));
 
         } catch (Exception e) {
             throw new RuntimeException("Falha ao carregar ou parsear a chave pública JWK", e);
         }
     }
-}
\ No newline at end of file
+
+    @Bean
+    public JwtDecoder jwtDecoder(RotatingJwkKeySelector jwkKeySelector) {
+        // Mesma configuração do NimbusJwtDecoder.withPublicKey, com a seleção de chave por kid
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSTypeVerifier((type, context) -> { });
+        jwtProcessor.setJWSKeySelector(jwkKeySelector);
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+        // Tokens já verificados são servidos do cache até o exp, sem nova verificação RSA
+        CachingJwtDecoder jwtDecoder = new CachingJwtDecoder(new NimbusJwtDecoder(jwtProcessor), jwtCacheMaxSize, Clock.systemUTC());
+        jwkKeySelector.onKeysRemoved(jwtDecoder::invalidateAll);
+        return jwtDecoder;
+    }
+
+    private JwkSetSource jwkSetSource(ObjectProvider<AwsClientBuilderConfigurer> awsClientBuilderConfigurer) {
+        if (!secretsManagerEnabled) {
+            // Sem Secrets Manager (testes, execução de treino do CDS, process-aot): a própria propriedade, sem rotação
+            return () -> jwkJson;
+        }
+        SecretsManagerClient secretsManagerClient = awsClientBuilderConfigurer.getObject()
+            .configure(SecretsManagerClient.builder())
+            .build();
+        return new SecretsManagerJwkSetSource(secretsManagerClient, jwkSecretId, JWK_PROPERTY);
+    }
+}
@@ -0,0 +1,90 @@
+package com.fiap.soat11.production.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fiap.soat11.production.service.AdaptiveConcurrencyLimiter;
+import com.fiap.soat11.production.service.PendingProductionView;
+import com.fiap.soat11.production.service.ProductionEventStreamService;
+
+import io.awspring.cloud.autoconfigure.dynamodb.DynamoDbClientCustomizer;
+import io.awspring.cloud.autoconfigure.sqs.SqsAsyncClientCustomizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+ * Métricas da aplicação, expostas em /actuator/prometheus na porta de management (management.server.port).
+ * Métricas da aplicação, expostas em /actuator/prometheus.
+ * Os timers do serviço (prefixo "production.") e das chamadas ao AWS SDK publicam p50/p99
+ * e histograma, permitindo agregar percentis entre instâncias no Prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterFilter latencyDistributionMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id,
+                                                         DistributionStatisticConfig config) {
+                if (id.getType() == Meter.Type.TIMER
+                        && (id.getName().startsWith("production.") || id.getName().startsWith("aws.sdk."))) {
+                    return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.99)
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    @Bean
+    public MicrometerSdkMetricPublisher awsSdkMetricPublisher(MeterRegistry meterRegistry) {
+        return new MicrometerSdkMetricPublisher(meterRegistry);
+    }
+
+    @Bean
+    public DynamoDbWriteSignalPublisher dynamoDbWriteSignalPublisher(AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter) {
+        return new DynamoDbWriteSignalPublisher(adaptiveConcurrencyLimiter);
+    }
+
+    @Bean
+    public DynamoDbClientCustomizer dynamoDbClientMetricsCustomizer(MicrometerSdkMetricPublisher awsSdkMetricPublisher,
+                                                                   DynamoDbWriteSignalPublisher dynamoDbWriteSignalPublisher) {
+        return builder -> builder.overrideConfiguration(builder.overrideConfiguration().toBuilder()
+            .addMetricPublisher(awsSdkMetricPublisher)
+            .addMetricPublisher(dynamoDbWriteSignalPublisher)
+            .build());
+    }
+
+    @Bean
+    public SqsAsyncClientCustomizer sqsAsyncClientMetricsCustomizer(MicrometerSdkMetricPublisher awsSdkMetricPublisher) {
+        return builder -> builder.overrideConfiguration(builder.overrideConfiguration().toBuilder()
+            .addMetricPublisher(awsSdkMetricPublisher)
+            .build());
+    }
+
+    @Bean
+    public MeterBinder pendingProductionMetrics(PendingProductionView pendingView,
+                                                ProductionEventStreamService productionEventStreamService) {
+        return registry -> {
+            Gauge.builder(ProductionConstants.METRIC_PENDING_COUNT, pendingView, PendingProductionView::size)
+                .register(registry);
+            Gauge.builder(ProductionConstants.METRIC_STREAM_SUBSCRIBERS, productionEventStreamService,
+                    ProductionEventStreamService::getSubscriberCount)
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder consumerConcurrencyMetrics(AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter) {
+        return registry -> Gauge.builder(ProductionConstants.METRIC_CONSUMER_CONCURRENCY_LIMIT, adaptiveConcurrencyLimiter,
+                AdaptiveConcurrencyLimiter::getLimit)
+            .register(registry);
+    }
+}
@@ -0,0 +1,58 @@
+package com.fiap.soat11.production.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Publica no Micrometer as métricas coletadas pelo AWS SDK a cada chamada de API
+ * (duração total, incluindo retries, e quantidade de retries), com tags de serviço,
+ * operação e resultado. Registrado em todos os clientes DynamoDB e SQS.
+ */
+public class MicrometerSdkMetricPublisher implements MetricPublisher {
+
+    private final MeterRegistry meterRegistry;
+
+    public MicrometerSdkMetricPublisher(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        String service = first(metricCollection, CoreMetric.SERVICE_ID, "unknown");
+        String operation = first(metricCollection, CoreMetric.OPERATION_NAME, "unknown");
+        Boolean successful = first(metricCollection, CoreMetric.API_CALL_SUCCESSFUL, Boolean.FALSE);
+        Duration duration = first(metricCollection, CoreMetric.API_CALL_DURATION, null);
+        Integer retries = first(metricCollection, CoreMetric.RETRY_COUNT, 0);
+
+        if (duration != null) {
+            Timer.builder(ProductionConstants.METRIC_AWS_API_CALL)
+                .tag("service", service)
+                .tag("operation", operation)
+                .tag("outcome", Boolean.TRUE.equals(successful) ? "success" : "error")
+                .register(meterRegistry)
+                .record(duration);
+        }
+        if (retries != null && retries > 0) {
+            meterRegistry.counter(ProductionConstants.METRIC_AWS_API_RETRIES,
+                "service", service, "operation", operation).increment(retries);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Os medidores pertencem ao MeterRegistry da aplicação
+    }
+
+    private static <T> T first(MetricCollection metricCollection, SdkMetric<T> metric, T defaultValue) {
+        List<T> values = metricCollection.metricValues(metric);
+        return values.isEmpty() ? defaultValue : values.get(0);
+    }
+}
@@ -1,11 +1,39 @@
 package com.fiap.soat11.production.config;
 
+import java.util.List;
+
 public class ProductionConstants {
     
     public static final String DYNAMODB_TABLE_NAME = "fase4-production-service-table";
+    public static final String DYNAMODB_OUTBOX_TABLE_NAME = "fase4-production-service-outbox";
+    public static final String DYNAMODB_STATUS_INDEX_NAME = "status-updatedAt-index";
+    // Linha sem status (fora do índice e das listagens) gravada ao fim da migração do índice de status
+    public static final String STATUS_INDEX_MIGRATION_MARKER_ID = "migration#status-updatedAt-index";
+    public static final String DYNAMODB_OUTBOX_INDEX_NAME = "relayShard-createdAt-index";
+    public static final String OUTBOX_RELAY_SHARD = "pending";
     public static final String SQS_QUEUE_NAME = "fase4-production-service-queue";
     public static final String SQS_QUEUE_PRODUCER = "fase4-order-service-queue";
+    public static final int SQS_SEND_BATCH_MAX_MESSAGES = 10;
     public static final String PRODUCTION_STATUS_RECEIVED = "RECEIVED";
+    public static final String PRODUCTION_STATUS_STARTED = "STARTED";
+    public static final String PRODUCTION_STATUS_COMPLETED = "COMPLETED";
+    public static final List<String> PRODUCTION_STATUSES = List.of(
+        PRODUCTION_STATUS_RECEIVED, PRODUCTION_STATUS_STARTED, PRODUCTION_STATUS_COMPLETED);
+    // Todos os status gravados pelo serviço exceto STARTED e COMPLETED (filtro da listagem original)
+    public static final List<String> PRODUCTION_PENDING_STATUSES = List.of(PRODUCTION_STATUS_RECEIVED);
+    public static final int PRODUCTION_PAGE_MAX_LIMIT = 100;
+    public static final String METRIC_CONSUMER_HANDLE = "production.consumer.handle";
+    public static final String METRIC_CONSUMER_BATCH = "production.consumer.batch";
+    public static final String METRIC_CONSUMER_MESSAGES = "production.consumer.messages";
+    public static final String METRIC_CONSUMER_CONCURRENCY_LIMIT = "production.consumer.concurrency.limit";
+    public static final String METRIC_STATUS_UPDATE = "production.status.update";
+    public static final String METRIC_PENDING_LIST = "production.pending.list";
+    public static final String METRIC_PENDING_COUNT = "production.pending.count";
+    public static final String METRIC_STREAM_SUBSCRIBERS = "production.stream.subscribers";
+    public static final String METRIC_SQS_SEND_BATCH = "production.sqs.send.batch";
+    public static final String METRIC_SQS_BATCH_SIZE = "production.sqs.batch.size";
+    public static final String METRIC_AWS_API_CALL = "aws.sdk.api.call";
+    public static final String METRIC_AWS_API_RETRIES = "aws.sdk.api.retries";
     
     private ProductionConstants() {
         // Utility class
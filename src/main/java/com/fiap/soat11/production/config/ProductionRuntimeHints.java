@@ -0,0 +1,40 @@
+package com.fiap.soat11.production.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import com.fiap.soat11.production.consumer.ProductionBatchServiceConsumer;
+import com.fiap.soat11.production.consumer.ProductionServiceConsumer;
+import com.fiap.soat11.production.dto.ErrorResponse;
+import com.fiap.soat11.production.dto.ProductionEventDTO;
+import com.fiap.soat11.production.dto.ProductionPageDTO;
+import com.fiap.soat11.production.entity.OutboxMessage;
+import com.fiap.soat11.production.entity.Production;
+
+/**
+ * Metadados de reflexão para a imagem nativa (perfil native) que o processamento AOT não deduz sozinho:
+ * - corpos JSON das respostas: o controller devolve ResponseEntity<?>, então os tipos serializados pelo
+ *   Jackson (e as entidades geradas pelo Lombok dentro deles) são registrados explicitamente;
+ * - entidades com @TableName, lida por reflexão no DynamoDbTableNameResolver;
+ * - métodos @SqsListener, descobertos e invocados por reflexão pelo Spring Cloud AWS;
+ * - SamplingTurboFilter, instanciado e configurado por reflexão a partir do logback-spring.xml.
+ * As tabelas usam schemas estáticos (ProductionTableSchema, OutboxTableSchema) e não precisam de hints.
+ */
+public class ProductionRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+            Production.class, ProductionPageDTO.class, ProductionEventDTO.class, ErrorResponse.class, OutboxMessage.class);
+
+        hints.reflection()
+            .registerType(ProductionServiceConsumer.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+            .registerType(ProductionBatchServiceConsumer.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+            .registerType(SamplingTurboFilter.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
@@ -0,0 +1,143 @@
+package com.fiap.soat11.production.config;
+
+import java.security.Key;
+import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.proc.JWSKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.JSONObjectUtils;
+
+/**
+ * Chaves RSA de verificação dos tokens, selecionadas pelo kid do cabeçalho.
+ * As chaves são convertidas para RSAPublicKey uma vez, na carga; a seleção por requisição é só uma leitura
+ * de mapa. Uma tarefa agendada relê a origem (Secrets Manager) e troca o conjunto inteiro de uma vez,
+ * sem bloquear as requisições nem recriar o decoder; se a leitura falhar, as chaves atuais continuam valendo.
+ * Para rotacionar, publique a chave nova junto com a antiga e só passe a assinar com ela depois do intervalo de recarga.
+ */
+public class RotatingJwkKeySelector implements JWSKeySelector<SecurityContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(RotatingJwkKeySelector.class);
+
+    private final JwkSetSource source;
+    private volatile Keys keys;
+    private volatile Runnable keysRemovedListener = () -> { };
+
+    /**
+     * @param initialJwk JWK ou JWK set já disponível no início (propriedade importada do Secrets Manager)
+     * @param source     Origem relida a cada recarga
+     */
+    public RotatingJwkKeySelector(String initialJwk, JwkSetSource source) throws ParseException, JOSEException {
+        this.keys = Keys.parse(initialJwk);
+        this.source = source;
+    }
+
+    @Override
+    public List<? extends Key> selectJWSKeys(JWSHeader header, SecurityContext context) {
+        if (!JWSAlgorithm.RS256.equals(header.getAlgorithm())) {
+            return List.of();
+        }
+        Keys current = keys;
+        String kid = header.getKeyID();
+        if (kid == null) {
+            return current.all();
+        }
+        return current.byKid().getOrDefault(kid, current.withoutKid());
+    }
+
+    /**
+     * Relê as chaves da origem
+     *
+     * @return true se o conjunto de chaves foi trocado
+     */
+    @Scheduled(fixedDelayString = "${fase4.production.service.auth.jwk-refresh-interval-ms:300000}",
+        initialDelayString = "${fase4.production.service.auth.jwk-refresh-interval-ms:300000}")
+    public boolean refresh() {
+        Keys next;
+        try {
+            next = Keys.parse(source.load());
+        } catch (Exception ex) {
+            logger.warn("Falha ao recarregar as chaves JWK; mantendo as {} chaves atuais: {}", keys.all().size(), ex.getMessage());
+            return false;
+        }
+
+        Keys previous = keys;
+        if (next.all().equals(previous.all())) {
+            return false;
+        }
+        keys = next;
+        logger.info("Chaves JWK recarregadas: {} chaves (antes {})", next.all().size(), previous.all().size());
+
+        if (!next.all().containsAll(previous.all())) {
+            // Chave removida: tokens assinados por ela não podem continuar valendo pelo cache
+            keysRemovedListener.run();
+        }
+        return true;
+    }
+
+    /**
+     * Chamado quando uma recarga remove alguma chave (ex.: invalidar o cache de tokens verificados)
+     */
+    public void onKeysRemoved(Runnable listener) {
+        this.keysRemovedListener = listener;
+    }
+
+    /**
+     * Conjunto imutável de chaves: por kid (incluindo as chaves sem kid, candidatas para qualquer token),
+     * só as sem kid, e todas
+     */
+    private record Keys(Map<String, List<RSAPublicKey>> byKid, List<RSAPublicKey> withoutKid, List<RSAPublicKey> all) {
+
+        static Keys parse(String json) throws ParseException, JOSEException {
+            if (json == null || json.isBlank()) {
+                throw new ParseException("JWK vazio", 0);
+            }
+            Map<String, Object> jsonObject = JSONObjectUtils.parse(json);
+            List<JWK> jwks = jsonObject.containsKey("keys")
+                ? JWKSet.parse(jsonObject).getKeys()
+                : List.of(JWK.parse(jsonObject));
+
+            Map<String, List<RSAPublicKey>> identified = new HashMap<>();
+            List<RSAPublicKey> withoutKid = new ArrayList<>();
+            List<RSAPublicKey> all = new ArrayList<>();
+            for (JWK jwk : jwks) {
+                if (!(jwk instanceof RSAKey rsaKey) || KeyUse.ENCRYPTION.equals(jwk.getKeyUse())) {
+                    continue;
+                }
+                RSAPublicKey publicKey = rsaKey.toRSAPublicKey();
+                all.add(publicKey);
+                if (jwk.getKeyID() == null) {
+                    withoutKid.add(publicKey);
+                } else {
+                    identified.computeIfAbsent(jwk.getKeyID(), kid -> new ArrayList<>()).add(publicKey);
+                }
+            }
+            if (all.isEmpty()) {
+                throw new ParseException("Nenhuma chave RSA de assinatura no JWK", 0);
+            }
+
+            Map<String, List<RSAPublicKey>> byKid = new HashMap<>();
+            identified.forEach((kid, kidKeys) -> {
+                List<RSAPublicKey> candidates = new ArrayList<>(kidKeys);
+                candidates.addAll(withoutKid);
+                byKid.put(kid, List.copyOf(candidates));
+            });
+            return new Keys(Map.copyOf(byKid), List.copyOf(withoutKid), List.copyOf(all));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.fiap.soat11.production.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Amostragem dos logs por item: com DEBUG habilitado no caminho quente, só 1 a cada {@code rate}
+ * eventos de nível {@code level} ou abaixo é registrado. O filtro roda antes da criação do evento,
+ * então os descartados não chegam à fila do AsyncAppender. WARN e ERROR nunca são amostrados, e as
+ * checagens isDebugEnabled() (sem mensagem) não consomem a amostra. Com rate 1 (padrão) tudo passa.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final AtomicLong events = new AtomicLong();
+
+    private int rate = 1;
+    private Level level = Level.DEBUG;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (rate <= 1 || format == null || level == null
+                || level.toInt() > this.level.toInt()
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        return events.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.DEBUG);
+    }
+}
@@ -0,0 +1,44 @@
+package com.fiap.soat11.production.config;
+
+import java.text.ParseException;
+import java.util.Map;
+
+import com.nimbusds.jose.util.JSONObjectUtils;
+
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+
+/**
+ * Lê o JWK do mesmo segredo importado no início da aplicação (spring.config.import), para que a rotação
+ * da chave no Secrets Manager chegue à instância sem redeploy
+ */
+public class SecretsManagerJwkSetSource implements JwkSetSource {
+
+    private final SecretsManagerClient secretsManagerClient;
+    private final String secretId;
+    private final String secretKey;
+
+    public SecretsManagerJwkSetSource(SecretsManagerClient secretsManagerClient, String secretId, String secretKey) {
+        this.secretsManagerClient = secretsManagerClient;
+        this.secretId = secretId;
+        this.secretKey = secretKey;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String load() throws ParseException {
+        String secret = secretsManagerClient.getSecretValue(GetSecretValueRequest.builder()
+                .secretId(secretId)
+                .build())
+            .secretString();
+
+        // O segredo é um JSON de propriedades; o JWK pode estar como texto ou como objeto
+        Object jwk = JSONObjectUtils.parse(secret).get(secretKey);
+        if (jwk == null) {
+            throw new IllegalStateException("Chave " + secretKey + " ausente no segredo " + secretId);
+        }
+        return jwk instanceof Map<?, ?> map
+            ? JSONObjectUtils.toJSONString((Map<String, ?>) map)
+            : jwk.toString();
+    }
+}
@@ -3,6 +3,7 @@ package com.fiap.soat11.production.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.soat11.production.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -11,6 +12,7 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
@@ -30,12 +32,39 @@ public class SecurityConfig {
         return new ObjectMapper();
     }
 
+    /**
+     * O /actuator/prometheus só é liberado na porta de management (management.server.port), que não
+     * está no target group do ALB nem no security group das tasks; na porta da aplicação ele cai na
+     * cadeia autenticada
+     */
+    @Bean
+    @Order(0)
+    @SuppressWarnings("java:S4502")
+    public SecurityFilterChain managementSecurityFilterChain(HttpSecurity http,
+            @Value("${management.server.port:-1}") int managementPort) throws Exception {
+        http
+                .securityMatcher(managementEndpoint(managementPort, "/actuator/prometheus"))
+                .authorizeHttpRequests(auth -> auth
+                        .anyRequest().permitAll()
+                )
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(STATELESS));
+
+        return http.build();
+    }
+
+    static RequestMatcher managementEndpoint(int managementPort, String path) {
+        return request -> managementPort > 0
+                && request.getLocalPort() == managementPort
+                && path.equals(request.getRequestURI());
+    }
+
     @Bean
     @Order(1)
     @SuppressWarnings("java:S4502")
     public SecurityFilterChain publicSecurityFilterChain(HttpSecurity http) throws Exception {
         http
-                .securityMatcher("/health", "/health/**")
+                .securityMatcher("/health", "/health/**", "/actuator/health")
                 .authorizeHttpRequests(auth -> auth
                         .anyRequest().permitAll()
                 )
@@ -0,0 +1,36 @@
+package com.fiap.soat11.production.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fiap.soat11.production.consumer.AdaptiveBackPressureHandler;
+import com.fiap.soat11.production.service.AdaptiveConcurrencyLimiter;
+
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+
+@Configuration
+public class SqsListenerConfig {
+
+    /**
+     * Troca o back pressure da fábrica de containers auto-configurada pelo Spring Cloud AWS pelo
+     * AdaptiveBackPressureHandler. A auto-configuração não expõe um customizer para as ContainerOptions,
+     * então a fábrica é ajustada depois de criada, antes de os containers dos @SqsListener serem montados.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "fase4.production.service.sqs.adaptive-concurrency.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor adaptiveBackPressurePostProcessor(ObjectProvider<AdaptiveConcurrencyLimiter> adaptiveConcurrencyLimiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof SqsMessageListenerContainerFactory<?> factory) {
+                    factory.configure(options -> options.backPressureHandlerFactory(
+                        containerOptions -> new AdaptiveBackPressureHandler(adaptiveConcurrencyLimiter.getObject(), containerOptions)));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+package com.fiap.soat11.production.consumer;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.fiap.soat11.production.service.AdaptiveConcurrencyLimiter;
+
+import io.awspring.cloud.sqs.listener.ContainerOptions;
+import io.awspring.cloud.sqs.listener.IdentifiableContainerComponent;
+import io.awspring.cloud.sqs.listener.backpressure.BatchAwareBackPressureHandler;
+
+/**
+ * Back pressure do container SQS com limite variável: cada poll pede no máximo
+ * min(maxMessagesPerPoll, limite atual - mensagens em processamento), então o limite do
+ * AdaptiveConcurrencyLimiter reduz ao mesmo tempo a concorrência e o tamanho do lote recebido.
+ * O maxConcurrentMessages do container continua como teto. Se não houver vaga, o poll espera
+ * uma liberação por até maxDelayBetweenPolls, como o handler padrão do Spring Cloud AWS.
+ */
+public class AdaptiveBackPressureHandler implements BatchAwareBackPressureHandler, IdentifiableContainerComponent {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final int maxConcurrentMessages;
+    private final int maxMessagesPerPoll;
+    private final Duration acquireTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private int inFlight;
+    private String id = getClass().getSimpleName();
+
+    public AdaptiveBackPressureHandler(AdaptiveConcurrencyLimiter limiter, ContainerOptions<?, ?> options) {
+        this(limiter, options.getMaxConcurrentMessages(), options.getMaxMessagesPerPoll(), options.getMaxDelayBetweenPolls());
+    }
+
+    AdaptiveBackPressureHandler(AdaptiveConcurrencyLimiter limiter, int maxConcurrentMessages,
+                                int maxMessagesPerPoll, Duration acquireTimeout) {
+        this.limiter = limiter;
+        this.maxConcurrentMessages = maxConcurrentMessages;
+        this.maxMessagesPerPoll = maxMessagesPerPoll;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public int requestBatch() throws InterruptedException {
+        return request(maxMessagesPerPoll);
+    }
+
+    @Override
+    public int request(int amount) throws InterruptedException {
+        long remainingNanos = acquireTimeout.toNanos();
+        lock.lockInterruptibly();
+        try {
+            int available;
+            while ((available = currentLimit() - inFlight) <= 0) {
+                if (remainingNanos <= 0) {
+                    return 0;
+                }
+                remainingNanos = released.awaitNanos(remainingNanos);
+            }
+            int granted = Math.min(amount, available);
+            inFlight += granted;
+            return granted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void release(int amount, ReleaseReason reason) {
+        if (amount <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            inFlight = Math.max(0, inFlight - amount);
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean drain(Duration timeout) {
+        long remainingNanos = timeout.toNanos();
+        lock.lock();
+        try {
+            while (inFlight > 0) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = released.awaitNanos(remainingNanos);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getBatchSize() {
+        return maxMessagesPerPoll;
+    }
+
+    @Override
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int currentLimit() {
+        return Math.min(limiter.getLimit(), maxConcurrentMessages);
+    }
+}
@@ -0,0 +1,51 @@
+package com.fiap.soat11.production.consumer;
+
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Service;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.service.ProductionConsumerService;
+
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement;
+
+@Service
+@ConditionalOnProperty(name = "fase4.production.service.sqs.batch.enabled", havingValue = "true")
+public class ProductionBatchServiceConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductionBatchServiceConsumer.class);
+
+    private final ProductionConsumerService productionConsumerService;
+
+    public ProductionBatchServiceConsumer(ProductionConsumerService productionConsumerService) {
+        this.productionConsumerService = productionConsumerService;
+    }
+
+    @SqsListener(
+        value = ProductionConstants.SQS_QUEUE_NAME,
+        maxMessagesPerPoll = "${fase4.production.service.sqs.batch.max-messages-per-poll:10}",
+        maxConcurrentMessages = "${fase4.production.service.sqs.batch.max-concurrent-messages:10}",
+        acknowledgementMode = "MANUAL"
+    )
+    public void listen(List<Message<String>> messages, BatchAcknowledgement<String> acknowledgement) {
+        logger.debug("Received batch of {} messages from SQS queue", messages.size());
+
+        Set<String> persisted = productionConsumerService.handleJsonBatch(
+            messages.stream().map(Message::getPayload).toList());
+
+        // Mensagens não gravadas ficam sem ack e voltam para a fila após o visibility timeout
+        List<Message<String>> processed = messages.stream()
+            .filter(message -> persisted.contains(message.getPayload()))
+            .toList();
+
+        if (!processed.isEmpty()) {
+            acknowledgement.acknowledge(processed);
+        }
+    }
+}
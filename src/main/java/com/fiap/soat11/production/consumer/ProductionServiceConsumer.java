@@ -1,16 +1,19 @@
 package com.fiap.soat11.production.consumer;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import com.fiap.soat11.production.config.ProductionConstants;
-import com.fiap.soat11.production.dto.ConsumeDTO;
 import com.fiap.soat11.production.service.ProductionConsumerService;
 
 import io.awspring.cloud.sqs.annotation.SqsListener;
 
 @Service
+@ConditionalOnProperty(name = "fase4.production.service.sqs.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class ProductionServiceConsumer {
     
     private static final Logger logger = LoggerFactory.getLogger(ProductionServiceConsumer.class);
@@ -22,9 +25,12 @@ public class ProductionServiceConsumer {
     }
 
     @SqsListener(ProductionConstants.SQS_QUEUE_NAME)
-    public void listen(ConsumeDTO message) {
+    public CompletableFuture<Void> listen(String body) {
         logger.debug("Received message from SQS queue");
-        productionConsumerService.handle(message);
+        // O corpo chega sem conversão e é lido direto em Production pelo ConsumeMessageDecoder;
+        // a mensagem só recebe ack quando o future completa com sucesso. O handleJsonAsync não bloqueia,
+        // então a thread do container volta ao pool assim que a escrita é disparada
+        return productionConsumerService.handleJsonAsync(body);
     }
 
 }
@@ -2,19 +2,31 @@ package com.fiap.soat11.production.controller;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import com.fiap.soat11.production.config.ProductionConstants;
 import com.fiap.soat11.production.dto.ErrorResponse;
+import com.fiap.soat11.production.dto.ProductionPageDTO;
 import com.fiap.soat11.production.entity.Production;
 import com.fiap.soat11.production.exception.ProductionException;
+import com.fiap.soat11.production.exception.ProductionStatusConflictException;
+import com.fiap.soat11.production.service.ProductionEventStreamService;
 import com.fiap.soat11.production.service.ProductionProducerService;
 
 @RestController
@@ -24,70 +36,144 @@ public class ProductionController {
     private static final Logger logger = LoggerFactory.getLogger(ProductionController.class);
 
     private final ProductionProducerService productionProducerService;
+    private final ProductionEventStreamService productionEventStreamService;
 
-    public ProductionController(ProductionProducerService productionProducerService) {
+    public ProductionController(ProductionProducerService productionProducerService,
+                                ProductionEventStreamService productionEventStreamService) {
         this.productionProducerService = productionProducerService;
+        this.productionEventStreamService = productionEventStreamService;
     }
 
     @PutMapping("/{productionId}/started")
-    public ResponseEntity<?> updateProductionStatusToStarted(@PathVariable String productionId) {
+    public CompletableFuture<ResponseEntity<?>> updateProductionStatusToStarted(@PathVariable String productionId) {
 
-        try {
-            logger.debug("Recebida requisição para atualizar status da Production para STARTED");
+        logger.debug("Recebida requisição para atualizar status da Production para STARTED");
 
-            Production updatedProduction = productionProducerService
-                    .updateStatusAndPublish(productionId, "STARTED");
+        return toUpdateResponse(productionProducerService
+                .updateStatusAndPublishAsync(productionId, ProductionConstants.PRODUCTION_STATUS_STARTED), ProductionConstants.PRODUCTION_STATUS_STARTED);
+    }
 
-            logger.debug("Production atualizada com sucesso para STARTED");
+    @PutMapping("/{productionId}/completed")
+    public CompletableFuture<ResponseEntity<?>> updateProductionStatusToCompleted(@PathVariable String productionId) {
 
+        logger.debug("Recebida requisição para atualizar status da Production para COMPLETED");
+
+        return toUpdateResponse(productionProducerService
+                .updateStatusAndPublishAsync(productionId, ProductionConstants.PRODUCTION_STATUS_COMPLETED), ProductionConstants.PRODUCTION_STATUS_COMPLETED);
+    }
+
+    private CompletableFuture<ResponseEntity<?>> toUpdateResponse(CompletableFuture<Production> update, String status) {
+        return update.<ResponseEntity<?>>thenApply(updatedProduction -> {
+            logger.debug("Production atualizada com sucesso para {}", status);
             return ResponseEntity.ok(updatedProduction);
+        }).exceptionally(throwable -> {
+            Throwable ex = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+
+            if (ex instanceof ProductionStatusConflictException) {
+                logger.error("Transição de status inválida: {}", ex.getMessage());
+                ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), 409);
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+            }
+
+            if (ex instanceof ProductionException) {
+                logger.error("Erro ao atualizar Production: {}", ex.getMessage());
+                ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), 404);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+            }
 
-        } catch (ProductionException ex) {
-            logger.error("Erro ao atualizar Production: {}", ex.getMessage());
-            ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), 404);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
-        } catch (Exception ex) {
             logger.error("Erro inesperado ao atualizar Production: {}", ex.getMessage(), ex);
             ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), 500);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+        });
     }
 
-    @PutMapping("/{productionId}/completed")
-    public ResponseEntity<?> updateProductionStatusToCompleted(@PathVariable String productionId) {
-
+    @GetMapping
+    public ResponseEntity<?> listPendingProductions(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            logger.debug("Recebida requisição para atualizar status da Production para COMPLETED");
+            logger.debug("Recebida requisição para listar produções pendentes");
 
-            Production updatedProduction = productionProducerService
-                    .updateStatusAndPublish(productionId, "COMPLETED");
+            // ETag lido antes da lista: o corpo devolvido nunca é mais antigo que a versão informada
+            String etag = productionProducerService.getPendingProductionsETag();
+            if (etag != null && matchesETag(ifNoneMatch, etag)) {
+                logger.debug("Produções pendentes não modificadas");
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+            }
 
-            logger.debug("Production atualizada com sucesso para COMPLETED");
+            List<Production> productions = productionProducerService.listPendingProductions();
 
-            return ResponseEntity.ok(updatedProduction);
+            logger.debug("Listagem de produções pendentes concluída com sucesso. Total: {}", productions.size());
+
+            if (etag == null) {
+                return ResponseEntity.ok(productions);
+            }
+            return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(productions);
 
         } catch (ProductionException ex) {
-            logger.error("Erro ao atualizar Production: {}", ex.getMessage());
-            ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), 404);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+            logger.error("Erro ao listar produções: {}", ex.getMessage());
+            ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), 500);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         } catch (Exception ex) {
-            logger.error("Erro inesperado ao atualizar Production: {}", ex.getMessage(), ex);
+            logger.error("Erro inesperado ao listar produções: {}", ex.getMessage(), ex);
             ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), 500);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
 
-    @GetMapping
-    public ResponseEntity<?> listPendingProductions() {
+    private boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            // If-None-Match usa comparação fraca: W/"x" equivale a "x"
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProductions() {
+        logger.debug("Recebida conexão no stream de produções");
+
+        return productionEventStreamService.subscribe(productionProducerService::listPendingProductions);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<?> listPendingProductionsPage(@RequestParam int limit,
+                                                        @RequestParam(required = false) String cursor) {
+        if (limit < 1 || limit > ProductionConstants.PRODUCTION_PAGE_MAX_LIMIT) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                "limit deve estar entre 1 e " + ProductionConstants.PRODUCTION_PAGE_MAX_LIMIT, 400);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
         try {
-            logger.debug("Recebida requisição para listar produções pendentes");
+            logger.debug("Recebida requisição para listar página de produções pendentes");
 
-            List<Production> productions = productionProducerService.listPendingProductions();
+            ProductionPageDTO page = productionProducerService.listPendingProductions(limit, cursor);
 
-            logger.debug("Listagem de produções pendentes concluída com sucesso. Total: {}", productions.size());
+            logger.debug("Página de produções pendentes concluída com sucesso. Total: {}", page.getItems().size());
 
-            return ResponseEntity.ok(productions);
+            return ResponseEntity.ok(page);
 
+        } catch (IllegalArgumentException ex) {
+            logger.error("Cursor inválido ao listar produções: {}", ex.getMessage());
+            ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), 400);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
         } catch (ProductionException ex) {
             logger.error("Erro ao listar produções: {}", ex.getMessage());
             ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), 500);
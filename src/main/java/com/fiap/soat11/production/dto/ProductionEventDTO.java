@@ -0,0 +1,21 @@
+package com.fiap.soat11.production.dto;
+
+import com.fiap.soat11.production.entity.Production;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductionEventDTO {
+
+    public static final String TYPE_ADD = "add";
+    public static final String TYPE_UPDATE = "update";
+    public static final String TYPE_REMOVE = "remove";
+
+    private String type;
+
+    private Production production;
+}
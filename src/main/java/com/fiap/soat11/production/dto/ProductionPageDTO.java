@@ -0,0 +1,21 @@
+package com.fiap.soat11.production.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fiap.soat11.production.entity.Production;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductionPageDTO {
+
+    private List<Production> items;
+
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+}
@@ -0,0 +1,20 @@
+package com.fiap.soat11.production.dto;
+
+import com.fiap.soat11.production.entity.Production;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pedido recebido da fila já convertido: event_id (deduplicação) e a Production a ser gravada
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReceivedOrderDTO {
+
+    private String eventId;
+
+    private Production production;
+}
@@ -0,0 +1,62 @@
+package com.fiap.soat11.production.entity;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.config.TableName;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+
+/**
+ * Registro do outbox: mensagem gravada na mesma transação da mudança de status
+ * e publicada depois na fila pelo OutboxRelayService.
+ * claimedBy e leaseUntil registram a instância do relay que reivindicou a mensagem e até quando.
+ * relayShard e createdAt formam o índice consultado pelo relay (mais antigas primeiro).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamoDbBean
+@TableName("fase4-production-service-outbox")
+public class OutboxMessage {
+
+    private String id;
+
+    private String queueName;
+
+    private String payload;
+
+    private Long createdAt;
+
+    private String relayShard;
+
+    private String claimedBy;
+
+    private Long leaseUntil;
+
+    /**
+     * Mensagem ainda não reivindicada por nenhuma instância do relay
+     */
+    public OutboxMessage(String id, String queueName, String payload, Long createdAt) {
+        this(id, queueName, payload, createdAt, ProductionConstants.OUTBOX_RELAY_SHARD, null, null);
+    }
+
+    @DynamoDbPartitionKey
+    public String getId() {
+        return id;
+    }
+
+    @DynamoDbSecondarySortKey(indexNames = ProductionConstants.DYNAMODB_OUTBOX_INDEX_NAME)
+    public Long getCreatedAt() {
+        return createdAt;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = ProductionConstants.DYNAMODB_OUTBOX_INDEX_NAME)
+    public String getRelayShard() {
+        return relayShard;
+    }
+}
@@ -0,0 +1,48 @@
+package com.fiap.soat11.production.entity;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondarySortKey;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+/**
+ * Schema declarado da tabela de outbox, equivalente ao TableSchema.fromBean(OutboxMessage.class)
+ * (ver ProductionTableSchema). Um atributo novo em OutboxMessage precisa ser declarado aqui também.
+ */
+public class OutboxTableSchema {
+
+    public static final StaticTableSchema<OutboxMessage> OUTBOX_MESSAGE = StaticTableSchema.builder(OutboxMessage.class)
+        .newItemSupplier(OutboxMessage::new)
+        .addAttribute(String.class, attribute -> attribute.name("id")
+            .getter(OutboxMessage::getId)
+            .setter(OutboxMessage::setId)
+            .tags(primaryPartitionKey()))
+        .addAttribute(String.class, attribute -> attribute.name("queueName")
+            .getter(OutboxMessage::getQueueName)
+            .setter(OutboxMessage::setQueueName))
+        .addAttribute(String.class, attribute -> attribute.name("payload")
+            .getter(OutboxMessage::getPayload)
+            .setter(OutboxMessage::setPayload))
+        .addAttribute(Long.class, attribute -> attribute.name("createdAt")
+            .getter(OutboxMessage::getCreatedAt)
+            .setter(OutboxMessage::setCreatedAt)
+            .tags(secondarySortKey(ProductionConstants.DYNAMODB_OUTBOX_INDEX_NAME)))
+        .addAttribute(String.class, attribute -> attribute.name("relayShard")
+            .getter(OutboxMessage::getRelayShard)
+            .setter(OutboxMessage::setRelayShard)
+            .tags(secondaryPartitionKey(ProductionConstants.DYNAMODB_OUTBOX_INDEX_NAME)))
+        .addAttribute(String.class, attribute -> attribute.name("claimedBy")
+            .getter(OutboxMessage::getClaimedBy)
+            .setter(OutboxMessage::setClaimedBy))
+        .addAttribute(Long.class, attribute -> attribute.name("leaseUntil")
+            .getter(OutboxMessage::getLeaseUntil)
+            .setter(OutboxMessage::setLeaseUntil))
+        .build();
+
+    private OutboxTableSchema() {
+        // Utility class
+    }
+}
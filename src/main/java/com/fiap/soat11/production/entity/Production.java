@@ -3,6 +3,7 @@ package com.fiap.soat11.production.entity;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fiap.soat11.production.config.ProductionConstants;
 import com.fiap.soat11.production.config.TableName;
 
 import lombok.AllArgsConstructor;
@@ -10,6 +11,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
 
 @Data
 @NoArgsConstructor
@@ -36,4 +39,14 @@ public class Production {
     public String getId() {
         return id;
     }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = ProductionConstants.DYNAMODB_STATUS_INDEX_NAME)
+    public String getStatus() {
+        return status;
+    }
+
+    @DynamoDbSecondarySortKey(indexNames = ProductionConstants.DYNAMODB_STATUS_INDEX_NAME)
+    public Long getUpdatedAt() {
+        return updatedAt;
+    }
 }
\ No newline at end of file
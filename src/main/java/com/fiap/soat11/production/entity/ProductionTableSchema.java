@@ -0,0 +1,65 @@
+package com.fiap.soat11.production.entity;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondarySortKey;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+/**
+ * Schemas declarados das entidades da tabela de produção, equivalentes ao TableSchema.fromBean
+ * (mesmos nomes de atributos, chave e índice de status), mas sem introspecção de beans nem acessores
+ * gerados por reflexão: getters e setters são referências de método resolvidas na compilação.
+ * Um atributo novo na entidade precisa ser declarado aqui também.
+ */
+public class ProductionTableSchema {
+
+    public static final StaticTableSchema<Customer> CUSTOMER = StaticTableSchema.builder(Customer.class)
+        .newItemSupplier(Customer::new)
+        .addAttribute(String.class, attribute -> attribute.name("name")
+            .getter(Customer::getName)
+            .setter(Customer::setName))
+        .build();
+
+    public static final StaticTableSchema<OrderItem> ORDER_ITEM = StaticTableSchema.builder(OrderItem.class)
+        .newItemSupplier(OrderItem::new)
+        .addAttribute(String.class, attribute -> attribute.name("name")
+            .getter(OrderItem::getName)
+            .setter(OrderItem::setName))
+        .addAttribute(Integer.class, attribute -> attribute.name("quantity")
+            .getter(OrderItem::getQuantity)
+            .setter(OrderItem::setQuantity))
+        .build();
+
+    public static final StaticTableSchema<Production> PRODUCTION = StaticTableSchema.builder(Production.class)
+        .newItemSupplier(Production::new)
+        .addAttribute(String.class, attribute -> attribute.name("id")
+            .getter(Production::getId)
+            .setter(Production::setId)
+            .tags(primaryPartitionKey()))
+        .addAttribute(String.class, attribute -> attribute.name("orderID")
+            .getter(Production::getOrderID)
+            .setter(Production::setOrderID))
+        .addAttribute(String.class, attribute -> attribute.name("status")
+            .getter(Production::getStatus)
+            .setter(Production::setStatus)
+            .tags(secondaryPartitionKey(ProductionConstants.DYNAMODB_STATUS_INDEX_NAME)))
+        .addAttribute(Long.class, attribute -> attribute.name("updatedAt")
+            .getter(Production::getUpdatedAt)
+            .setter(Production::setUpdatedAt)
+            .tags(secondarySortKey(ProductionConstants.DYNAMODB_STATUS_INDEX_NAME)))
+        .addAttribute(EnhancedType.documentOf(Customer.class, CUSTOMER), attribute -> attribute.name("customer")
+            .getter(Production::getCustomer)
+            .setter(Production::setCustomer))
+        .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(OrderItem.class, ORDER_ITEM)), attribute -> attribute.name("items")
+            .getter(Production::getItems)
+            .setter(Production::setItems))
+        .build();
+
+    private ProductionTableSchema() {
+        // Utility class
+    }
+}
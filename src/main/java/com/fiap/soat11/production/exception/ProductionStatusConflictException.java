@@ -0,0 +1,8 @@
+package com.fiap.soat11.production.exception;
+
+public class ProductionStatusConflictException extends ProductionException {
+
+    public ProductionStatusConflictException(String message) {
+        super(message);
+    }
+}
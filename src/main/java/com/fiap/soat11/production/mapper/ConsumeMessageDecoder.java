@@ -0,0 +1,225 @@
+package com.fiap.soat11.production.mapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.dto.ReceivedOrderDTO;
+import com.fiap.soat11.production.entity.Customer;
+import com.fiap.soat11.production.entity.OrderItem;
+import com.fiap.soat11.production.entity.Production;
+import com.fiap.soat11.production.exception.ProductionException;
+
+/**
+ * Converte o corpo JSON da mensagem de pedido (formato do ConsumeDTO) direto em Production,
+ * lendo os tokens com o JsonParser do Jackson, sem montar PayloadDTO, ItensDTO e CustomerDTO.
+ * Só os campos usados são lidos (meta.event_id, payload.id, payload.customer.name e payload.itens);
+ * os demais são ignorados. A validação e as mensagens de erro são as mesmas do ProductionMapper.
+ */
+public class ConsumeMessageDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private ConsumeMessageDecoder() {
+        // Utility class
+    }
+
+    /**
+     * @param json Corpo da mensagem recebida da fila
+     * @return event_id e Production com status RECEIVED
+     * @throws ProductionException se o JSON for inválido ou faltar algum dado obrigatório
+     */
+    public static ReceivedOrderDTO decode(String json) {
+        if (json == null || json.isBlank()) {
+            throw new ProductionException("ConsumeDTO cannot be null");
+        }
+
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            Message message = new Message();
+            JsonToken root = parser.nextToken();
+            if (root == JsonToken.VALUE_NULL) {
+                throw new ProductionException("ConsumeDTO cannot be null");
+            }
+            expect(parser, root, JsonToken.START_OBJECT);
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "meta" -> readMeta(parser, value, message);
+                    case "payload" -> readPayload(parser, value, message);
+                    default -> parser.skipChildren();
+                }
+            }
+            return message.toReceivedOrder();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new ProductionException("Invalid message: " + e.getMessage(), e);
+        }
+    }
+
+    private static void readMeta(JsonParser parser, JsonToken token, Message message) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, token, JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("event_id".equals(field)) {
+                message.eventId = text(parser, value);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readPayload(JsonParser parser, JsonToken token, Message message) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, token, JsonToken.START_OBJECT);
+        message.hasPayload = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> {
+                    String id = text(parser, value);
+                    // Mesmo formato do UUID.toString() usado na conversão do ConsumeDTO
+                    message.orderId = id != null ? UUID.fromString(id).toString() : null;
+                }
+                case "customer" -> readCustomer(parser, value, message);
+                case "itens" -> readItems(parser, value, message);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readCustomer(JsonParser parser, JsonToken token, Message message) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, token, JsonToken.START_OBJECT);
+        message.hasCustomer = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("name".equals(field)) {
+                message.customerName = text(parser, value);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readItems(JsonParser parser, JsonToken token, Message message) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, token, JsonToken.START_ARRAY);
+        message.items = new ArrayList<>();
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_NULL) {
+                throw new ProductionException("Items cannot contain null");
+            }
+            expect(parser, token, JsonToken.START_OBJECT);
+            String name = null;
+            Integer quantity = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "name" -> name = text(parser, value);
+                    case "quantity" -> quantity = quantity(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+            message.items.add(new OrderItem(name, quantity));
+        }
+    }
+
+    /**
+     * Mesmas coerções do binding do ItensDTO.quantity (Integer) pelo Jackson: inteiro, número com
+     * casas decimais (truncado, ACCEPT_FLOAT_AS_INT) ou texto com um inteiro; texto vazio ou "null"
+     * viram null. Fora da faixa de int, texto não numérico, booleano, objeto e array são rejeitados
+     * (getValueAsInt() os converteria em 0 em silêncio).
+     */
+    private static Integer quantity(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getIntValue();
+            case VALUE_STRING -> quantity(parser.getText().trim());
+            default -> throw new ProductionException("Invalid item quantity: expected a number but found " + token);
+        };
+    }
+
+    private static Integer quantity(String text) {
+        if (text.isEmpty() || "null".equals(text)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(text);
+        } catch (NumberFormatException e) {
+            throw new ProductionException("Invalid item quantity: " + text);
+        }
+    }
+
+    private static String text(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new IllegalArgumentException("Unexpected " + token + " for field " + parser.currentName());
+        }
+        return parser.getText();
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IllegalArgumentException("Expected " + expected + " but found " + actual
+                + " for field " + parser.currentName());
+        }
+    }
+
+    /**
+     * Campos lidos da mensagem; a validação acontece ao final, na mesma ordem do ProductionMapper
+     */
+    private static final class Message {
+
+        private String eventId;
+        private boolean hasPayload;
+        private String orderId;
+        private boolean hasCustomer;
+        private String customerName;
+        private List<OrderItem> items;
+
+        private ReceivedOrderDTO toReceivedOrder() {
+            if (!hasPayload) {
+                throw new ProductionException("Payload cannot be null");
+            }
+            if (orderId == null) {
+                throw new ProductionException("Order ID cannot be null");
+            }
+            if (!hasCustomer || customerName == null) {
+                throw new ProductionException("Customer data is invalid");
+            }
+            if (items == null || items.isEmpty()) {
+                throw new ProductionException("Items cannot be empty");
+            }
+
+            Production production = new Production();
+            production.setId(ProductionMapper.toProductionId(orderId));
+            production.setOrderID(orderId);
+            production.setStatus(ProductionConstants.PRODUCTION_STATUS_RECEIVED);
+            production.setUpdatedAt(System.currentTimeMillis());
+            production.setCustomer(new Customer(customerName));
+            production.setItems(items);
+            return new ReceivedOrderDTO(eventId, production);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.fiap.soat11.production.mapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Converte a posição de leitura no índice status-updatedAt-index (status e lastEvaluatedKey)
+ * em um cursor opaco para a paginação de GET /production, e vice-versa.
+ */
+public class PageCursorMapper {
+
+    private static final String ID = "id";
+    private static final String STATUS = "status";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String SEPARATOR = "\n";
+
+    private PageCursorMapper() {
+        // Utility class
+    }
+
+    /**
+     * @param status Status pendente em que a próxima página começa
+     * @param lastEvaluatedKey Chave retornada pelo DynamoDB, ou null para o início do status
+     */
+    public static String toCursor(String status, Map<String, AttributeValue> lastEvaluatedKey) {
+        boolean hasKey = lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty();
+
+        String raw = status + SEPARATOR
+                + (hasKey ? lastEvaluatedKey.get(UPDATED_AT).n() : "") + SEPARATOR
+                + (hasKey ? lastEvaluatedKey.get(ID).s() : "");
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String statusOf(String cursor) {
+        return decode(cursor)[0];
+    }
+
+    /**
+     * @return exclusiveStartKey do índice, ou null quando o cursor aponta para o início do status
+     */
+    public static Map<String, AttributeValue> toExclusiveStartKey(String cursor) {
+        String[] parts = decode(cursor);
+        if (parts[1].isEmpty()) {
+            return null;
+        }
+
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put(STATUS, AttributeValue.builder().s(parts[0]).build());
+        key.put(UPDATED_AT, AttributeValue.builder().n(parts[1]).build());
+        key.put(ID, AttributeValue.builder().s(parts[2]).build());
+        return key;
+    }
+
+    private static String[] decode(String cursor) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+
+        boolean validKey = parts.length == 3
+                && (parts[1].isEmpty() ? parts[2].isEmpty() : parts[1].matches("-?\\d+") && !parts[2].isEmpty());
+
+        if (!validKey || parts[0].isEmpty()) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+        return parts;
+    }
+}
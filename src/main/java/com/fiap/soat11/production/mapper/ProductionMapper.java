@@ -1,5 +1,6 @@
 package com.fiap.soat11.production.mapper;
 
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import com.fiap.soat11.production.config.ProductionConstants;
@@ -14,10 +15,13 @@ public class ProductionMapper {
     public static Production toProduction(ConsumeDTO consumeDTO) {
         validateConsumeDTO(consumeDTO);
         
+        String orderID = consumeDTO.getPayload().getId().toString();
+        
         Production production = new Production();
-        production.setId(UUID.randomUUID().toString());
-        production.setOrderID(consumeDTO.getPayload().getId().toString());
+        production.setId(toProductionId(orderID));
+        production.setOrderID(orderID);
         production.setStatus(ProductionConstants.PRODUCTION_STATUS_RECEIVED);
+        production.setUpdatedAt(System.currentTimeMillis());
         production.setCustomer(new Customer(consumeDTO.getPayload().getCustomer().getName()));
         production.setItems(consumeDTO.getPayload().getItens().stream()
                 .map(item -> new OrderItem(item.getName(), item.getQuantity()))
@@ -26,6 +30,14 @@ public class ProductionMapper {
         return production;
     }
 
+    /**
+     * Id determinístico da Production a partir do orderID: redeliveries do mesmo pedido
+     * resultam na mesma chave, permitindo a escrita condicional
+     */
+    public static String toProductionId(String orderID) {
+        return UUID.nameUUIDFromBytes(("production:" + orderID).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
     private static void validateConsumeDTO(ConsumeDTO consumeDTO) {
         if (consumeDTO == null) {
             throw new ProductionException("ConsumeDTO cannot be null");
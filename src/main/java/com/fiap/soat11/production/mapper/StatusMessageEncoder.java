@@ -0,0 +1,101 @@
+package com.fiap.soat11.production.mapper;
+
+/**
+ * Gera o JSON da mensagem de status (ProductionMessageDTO) sem montar os DTOs nem passar pelo ObjectMapper.
+ * A estrutura é fixa: o texto entre os campos variáveis é pré-montado e os valores são escritos
+ * em um único buffer dimensionado de antemão. A saída é idêntica à serialização dos DTOs pelo Jackson,
+ * inclusive no escape de strings (aspas, barra invertida e caracteres de controle).
+ */
+public class StatusMessageEncoder {
+
+    public static final String EVENT_SOURCE = "production-service";
+    public static final String EVENT_TARGET = "order-service";
+
+    private static final String META_EVENT_ID = "{\"meta\":{\"event_id\":";
+    private static final String EVENT_DATE = ",\"event_date\":";
+    private static final String SOURCE_AND_TARGET = ",\"event_source\":\"" + EVENT_SOURCE
+            + "\",\"event_target\":\"" + EVENT_TARGET + "\"";
+    private static final String EVENT_NAME = ",\"event_name\":";
+    private static final String PAYLOAD_ORDER_ID = "},\"payload\":{\"production\":{\"order_id\":";
+    private static final String END = "}}}";
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private StatusMessageEncoder() {
+        // Utility class
+    }
+
+    /**
+     * @param eventId Identificador do evento (meta.event_id)
+     * @param eventDate Data do evento em ISO-8601 (meta.event_date)
+     * @param eventName Nome do evento (meta.event_name)
+     * @param orderId Pedido da Production (payload.production.order_id)
+     * @return JSON da mensagem de status
+     */
+    public static String encode(String eventId, String eventDate, String eventName, String orderId) {
+        StringBuilder json = new StringBuilder(META_EVENT_ID.length() + EVENT_DATE.length() + SOURCE_AND_TARGET.length()
+                + EVENT_NAME.length() + PAYLOAD_ORDER_ID.length() + END.length()
+                + length(eventId) + length(eventDate) + length(eventName) + length(orderId));
+
+        json.append(META_EVENT_ID);
+        appendString(json, eventId);
+        json.append(EVENT_DATE);
+        appendString(json, eventDate);
+        json.append(SOURCE_AND_TARGET);
+        json.append(EVENT_NAME);
+        appendString(json, eventName);
+        json.append(PAYLOAD_ORDER_ID);
+        appendString(json, orderId);
+        json.append(END);
+        return json.toString();
+    }
+
+    /**
+     * Tamanho esperado do valor já com aspas; escapes raros apenas fazem o buffer crescer
+     */
+    private static int length(String value) {
+        return value == null ? 4 : value.length() + 2;
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        int escapeFrom = firstEscaped(value);
+        // Caso comum (UUIDs, datas ISO-8601): nada a escapar, o valor é copiado de uma vez
+        json.append(value, 0, escapeFrom);
+        for (int i = escapeFrom; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                appendControl(json, c);
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    private static int firstEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                return i;
+            }
+        }
+        return value.length();
+    }
+
+    private static void appendControl(StringBuilder json, char c) {
+        switch (c) {
+            case '\b' -> json.append("\\b");
+            case '\t' -> json.append("\\t");
+            case '\n' -> json.append("\\n");
+            case '\f' -> json.append("\\f");
+            case '\r' -> json.append("\\r");
+            default -> json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+        }
+    }
+}
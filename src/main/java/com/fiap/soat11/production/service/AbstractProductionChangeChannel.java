@@ -0,0 +1,40 @@
+package com.fiap.soat11.production.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fiap.soat11.production.entity.Production;
+
+/**
+ * Base dos canais: guarda os assinantes e entrega as mudanças isolando falhas de cada um
+ */
+public abstract class AbstractProductionChangeChannel implements ProductionChangeChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractProductionChangeChannel.class);
+
+    private final List<Consumer<Production>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Production production) {
+        deliver(production);
+    }
+
+    @Override
+    public void subscribe(Consumer<Production> listener) {
+        listeners.add(listener);
+    }
+
+    protected void deliver(Production production) {
+        for (Consumer<Production> listener : listeners) {
+            try {
+                listener.accept(production);
+            } catch (Exception ex) {
+                logger.error("Erro ao entregar mudança da Production {}: {}", production.getId(), ex.getMessage(), ex);
+            }
+        }
+    }
+}
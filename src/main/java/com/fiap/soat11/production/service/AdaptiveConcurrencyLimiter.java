@@ -0,0 +1,55 @@
+package com.fiap.soat11.production.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limite de mensagens em processamento simultâneo no consumidor SQS, ajustado por AIMD a partir das
+ * gravações no DynamoDB (PutItem/BatchWriteItem): cada gravação com throttling ou acima do limiar de latência
+ * multiplica o limite por backoff-ratio; cada gravação normal soma 1/limite (cerca de +1 por rodada completa).
+ * Assim o consumidor converge para a vazão que a tabela sustenta, em vez de acumular retries e estourar
+ * o visibility timeout. O limite é lido sem lock pelo AdaptiveBackPressureHandler a cada poll.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final Duration latencyThreshold;
+    private final double backoffRatio;
+
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${fase4.production.service.sqs.adaptive-concurrency.min-limit:1}") int minLimit,
+            @Value("${fase4.production.service.sqs.adaptive-concurrency.max-limit:10}") int maxLimit,
+            @Value("${fase4.production.service.sqs.adaptive-concurrency.latency-threshold-ms:250}") long latencyThresholdMs,
+            @Value("${fase4.production.service.sqs.adaptive-concurrency.backoff-ratio:0.9}") double backoffRatio) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyThreshold = Duration.ofMillis(latencyThresholdMs);
+        this.backoffRatio = backoffRatio;
+        // Começa no máximo: sem sinal de saturação, o comportamento é o mesmo do limite fixo
+        this.limit = this.maxLimit;
+    }
+
+    /**
+     * Registra o resultado de uma gravação no DynamoDB
+     *
+     * @param latency   Duração total da chamada, incluindo retries
+     * @param throttled true se alguma tentativa recebeu throttling (ex.: ProvisionedThroughputExceeded)
+     */
+    public synchronized void onSample(Duration latency, boolean throttled) {
+        if (throttled || latency.compareTo(latencyThreshold) > 0) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+}
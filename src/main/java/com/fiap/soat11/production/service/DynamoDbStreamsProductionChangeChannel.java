@@ -0,0 +1,213 @@
+package com.fiap.soat11.production.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.entity.Production;
+import com.fiap.soat11.production.entity.ProductionTableSchema;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DescribeStreamRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeStreamResponse;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetRecordsRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetRecordsResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetShardIteratorRequest;
+import software.amazon.awssdk.services.dynamodb.model.OperationType;
+import software.amazon.awssdk.services.dynamodb.model.Record;
+import software.amazon.awssdk.services.dynamodb.model.Shard;
+import software.amazon.awssdk.services.dynamodb.model.ShardIteratorType;
+import software.amazon.awssdk.services.dynamodb.model.TrimmedDataAccessException;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
+
+/**
+ * Canal baseado no DynamoDB Streams da tabela de Production: cada instância lê todos os shards
+ * abertos do stream e entrega as mudanças (inclusive as feitas por outras instâncias) aos assinantes.
+ * Publicações locais são entregues imediatamente; o mesmo evento chega depois pelo stream
+ * e é descartado pela versão (updatedAt) na PendingProductionView.
+ * Na inicialização a leitura começa em LATEST (o estado anterior vem da reconciliação);
+ * shards descobertos depois (divisões do stream) são lidos desde TRIM_HORIZON.
+ * Se o iterador de um shard expirar ou se perder, a leitura retoma logo após o último registro
+ * entregue (AFTER_SEQUENCE_NUMBER), sem pular as mudanças do intervalo.
+ */
+@Component
+@ConditionalOnProperty(name = "fase4.production.service.change-channel.type", havingValue = "dynamodb-streams")
+public class DynamoDbStreamsProductionChangeChannel extends AbstractProductionChangeChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(DynamoDbStreamsProductionChangeChannel.class);
+
+    private static final TableSchema<Production> PRODUCTION_SCHEMA = ProductionTableSchema.PRODUCTION;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final DynamoDbStreamsClient streamsClient;
+
+    // Acessados apenas pelo poll, cujas execuções (fixedDelay) nunca se sobrepõem, mesmo em threads diferentes do pool
+    private String streamArn;
+    private final Map<String, String> shardIterators = new LinkedHashMap<>();
+    private final Map<String, String> lastSequenceNumbers = new HashMap<>();
+    private final Map<String, ShardIteratorType> startPositions = new HashMap<>();
+    private final Set<String> finishedShards = new HashSet<>();
+    private boolean started;
+    private boolean refreshShards = true;
+
+    public DynamoDbStreamsProductionChangeChannel(DynamoDbClient dynamoDbClient, DynamoDbStreamsClient streamsClient) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.streamsClient = streamsClient;
+    }
+
+    /**
+     * Lê os registros novos de cada shard acompanhado
+     *
+     * @return Quantidade de mudanças entregues
+     */
+    @Scheduled(fixedDelayString = "${fase4.production.service.change-channel.poll-interval-ms:500}")
+    public int poll() {
+        try {
+            if (streamArn == null) {
+                streamArn = dynamoDbClient.describeTable(DescribeTableRequest.builder()
+                        .tableName(ProductionConstants.DYNAMODB_TABLE_NAME)
+                        .build())
+                    .table()
+                    .latestStreamArn();
+                if (streamArn == null) {
+                    logger.warn("Stream não habilitado na tabela {}", ProductionConstants.DYNAMODB_TABLE_NAME);
+                    return 0;
+                }
+            }
+            if (refreshShards) {
+                refreshShards();
+            }
+        } catch (Exception ex) {
+            logger.error("Erro ao descobrir shards do stream: {}", ex.getMessage(), ex);
+            return 0;
+        }
+
+        int delivered = 0;
+        for (Map.Entry<String, String> shard : List.copyOf(shardIterators.entrySet())) {
+            delivered += readShard(shard.getKey(), shard.getValue());
+        }
+        return delivered;
+    }
+
+    int getFinishedShardCount() {
+        return finishedShards.size();
+    }
+
+    private int readShard(String shardId, String iterator) {
+        try {
+            GetRecordsResponse response = streamsClient.getRecords(GetRecordsRequest.builder()
+                .shardIterator(iterator)
+                .build());
+
+            for (Record streamRecord : response.records()) {
+                deliver(toProduction(streamRecord));
+                lastSequenceNumbers.put(shardId, streamRecord.dynamodb().sequenceNumber());
+            }
+
+            if (response.nextShardIterator() == null) {
+                // Shard fechado: os filhos aparecem na próxima descrição do stream
+                shardIterators.remove(shardId);
+                lastSequenceNumbers.remove(shardId);
+                startPositions.remove(shardId);
+                finishedShards.add(shardId);
+                refreshShards = true;
+            } else {
+                shardIterators.put(shardId, response.nextShardIterator());
+            }
+            return response.records().size();
+        } catch (Exception ex) {
+            logger.error("Erro ao ler shard {} do stream: {}", shardId, ex.getMessage());
+            // Iterador perdido (ex.: expirado): a próxima descrição do stream o recria a partir do último registro entregue
+            shardIterators.remove(shardId);
+            refreshShards = true;
+            return 0;
+        }
+    }
+
+    private void refreshShards() {
+        Set<String> describedShards = new HashSet<>();
+        String exclusiveStartShardId = null;
+        do {
+            DescribeStreamResponse response = streamsClient.describeStream(DescribeStreamRequest.builder()
+                .streamArn(streamArn)
+                .exclusiveStartShardId(exclusiveStartShardId)
+                .build());
+
+            for (Shard shard : response.streamDescription().shards()) {
+                String shardId = shard.shardId();
+                describedShards.add(shardId);
+                boolean open = shard.sequenceNumberRange() == null
+                    || shard.sequenceNumberRange().endingSequenceNumber() == null;
+
+                if (shardIterators.containsKey(shardId) || finishedShards.contains(shardId)) {
+                    continue;
+                }
+
+                if (!started && !open) {
+                    finishedShards.add(shardId);
+                    continue;
+                }
+                shardIterators.put(shardId, openIterator(shardId));
+            }
+            exclusiveStartShardId = response.streamDescription().lastEvaluatedShardId();
+        } while (exclusiveStartShardId != null);
+
+        // Shards removidos do stream (retenção de 24h) não voltam: esquece o que foi guardado sobre eles
+        finishedShards.retainAll(describedShards);
+        lastSequenceNumbers.keySet().retainAll(describedShards);
+        startPositions.keySet().retainAll(describedShards);
+        started = true;
+        refreshShards = false;
+    }
+
+    /**
+     * Obtém o iterador de um shard: após o último registro entregue, se houver; senão, na posição
+     * em que o shard começou a ser lido (LATEST na inicialização, TRIM_HORIZON para shards novos)
+     */
+    private String openIterator(String shardId) {
+        String lastSequenceNumber = lastSequenceNumbers.get(shardId);
+        if (lastSequenceNumber != null) {
+            try {
+                return getShardIterator(GetShardIteratorRequest.builder()
+                    .shardId(shardId)
+                    .shardIteratorType(ShardIteratorType.AFTER_SEQUENCE_NUMBER)
+                    .sequenceNumber(lastSequenceNumber));
+            } catch (TrimmedDataAccessException ex) {
+                // O registro já saiu da retenção: lê o que restou; o intervalo perdido fica para a reconciliação
+                logger.warn("Registros do shard {} expiraram antes da retomada; lendo desde TRIM_HORIZON", shardId);
+                lastSequenceNumbers.remove(shardId);
+                startPositions.put(shardId, ShardIteratorType.TRIM_HORIZON);
+            }
+        }
+        ShardIteratorType type = startPositions.computeIfAbsent(shardId,
+            id -> started ? ShardIteratorType.TRIM_HORIZON : ShardIteratorType.LATEST);
+        return getShardIterator(GetShardIteratorRequest.builder()
+            .shardId(shardId)
+            .shardIteratorType(type));
+    }
+
+    private String getShardIterator(GetShardIteratorRequest.Builder request) {
+        return streamsClient.getShardIterator(request.streamArn(streamArn).build()).shardIterator();
+    }
+
+    private Production toProduction(Record streamRecord) {
+        if (streamRecord.eventName() == OperationType.REMOVE || !streamRecord.dynamodb().hasNewImage()) {
+            Production removed = new Production();
+            removed.setId(streamRecord.dynamodb().keys().get("id").s());
+            return removed;
+        }
+        return PRODUCTION_SCHEMA.mapToItem(streamRecord.dynamodb().newImage());
+    }
+}
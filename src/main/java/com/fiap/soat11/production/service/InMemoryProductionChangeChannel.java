@@ -0,0 +1,13 @@
+package com.fiap.soat11.production.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Canal dentro da JVM: entrega as mudanças apenas aos assinantes desta instância.
+ * Usado em testes e em execuções com uma única instância.
+ */
+@Component
+@ConditionalOnProperty(name = "fase4.production.service.change-channel.type", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryProductionChangeChannel extends AbstractProductionChangeChannel {
+}
@@ -0,0 +1,184 @@
+package com.fiap.soat11.production.service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.entity.OutboxMessage;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.IgnoreNullsMode;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+/**
+ * Publica as mensagens gravadas no outbox pelo ProductionProducerService.
+ * O caminho rápido é o dispatch, chamado logo após a transação; a execução periódica
+ * recupera apenas as entradas mais antigas que min-age-ms, que o dispatch não conseguiu publicar.
+ * Toda entrada tem uma concessão (claimedBy, leaseUntil): a gravada pela transação já nasce com a
+ * concessão da instância que fará o dispatch (leaseForDispatch), e o relay reivindica as demais por
+ * uma escrita condicional antes do envio. Só quem detém a concessão publica, e a entrada só volta a
+ * ser elegível quando a concessão (lease-ms) expira sem que ela tenha sido removida; uma entrada que
+ * falhou no envio espera a concessão expirar antes da nova tentativa.
+ * Cada rodada percorre o índice relayShard-createdAt-index, mais antigas primeiro, filtrando as
+ * entradas com concessão vigente, até reunir max-messages entradas ou esgotar o índice: entradas
+ * reivindicadas em outra instância não escondem as mais novas.
+ * As mensagens passam pelo SqsBatchPublisher e só são removidas do outbox após aceitas pela fila.
+ * A entrega é at-least-once: uma falha entre o envio e a remoção reenvia a mensagem.
+ */
+@Service
+public class OutboxRelayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelayService.class);
+
+    private final DynamoDbTable<OutboxMessage> outboxTable;
+    private final DynamoDbAsyncTable<OutboxMessage> outboxAsyncTable;
+    private final SqsBatchPublisher sqsBatchPublisher;
+    private final int maxMessages;
+    private final long minAgeMillis;
+    private final long leaseMillis;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public OutboxRelayService(DynamoDbTable<OutboxMessage> outboxTable,
+                              DynamoDbAsyncTable<OutboxMessage> outboxAsyncTable,
+                              SqsBatchPublisher sqsBatchPublisher,
+                              @Value("${fase4.production.service.outbox.relay.max-messages:100}") int maxMessages,
+                              @Value("${fase4.production.service.outbox.relay.min-age-ms:1000}") long minAgeMillis,
+                              @Value("${fase4.production.service.outbox.relay.lease-ms:30000}") long leaseMillis) {
+        this.outboxTable = outboxTable;
+        this.outboxAsyncTable = outboxAsyncTable;
+        this.sqsBatchPublisher = sqsBatchPublisher;
+        this.maxMessages = maxMessages;
+        this.minAgeMillis = minAgeMillis;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * Atribui à mensagem, antes de ela ser gravada, a concessão desta instância até agora + lease-ms,
+     * para que o relay de nenhuma instância a publique enquanto o dispatch estiver em andamento
+     *
+     * @param message Mensagem ainda não gravada no outbox
+     * @return A própria mensagem, reivindicada por esta instância
+     */
+    public OutboxMessage leaseForDispatch(OutboxMessage message) {
+        message.setClaimedBy(instanceId);
+        message.setLeaseUntil(System.currentTimeMillis() + leaseMillis);
+        return message;
+    }
+
+    /**
+     * Publica uma mensagem do outbox reivindicada por esta instância e a remove após a fila aceitá-la
+     *
+     * @param message Mensagem gravada no outbox
+     * @return Future com true se a mensagem foi publicada e removida; false se permanece no outbox
+     */
+    public CompletableFuture<Boolean> dispatch(OutboxMessage message) {
+        return sqsBatchPublisher.publish(message.getQueueName(), message.getPayload())
+            .thenCompose(published -> outboxAsyncTable.deleteItem(Key.builder().partitionValue(message.getId()).build()))
+            .thenApply(deleted -> true)
+            .exceptionally(ex -> {
+                logger.warn("Mensagem {} permanece no outbox: {}", message.getId(), ex.getMessage());
+                return false;
+            });
+    }
+
+    /**
+     * Executa uma rodada do relay sobre as entradas antigas do outbox, publicando apenas
+     * as que esta instância conseguiu reivindicar
+     *
+     * @return Quantidade de mensagens publicadas e removidas do outbox
+     */
+    @Scheduled(fixedDelayString = "${fase4.production.service.outbox.relay.fixed-delay-ms:200}")
+    public int relay() {
+        try {
+            long now = System.currentTimeMillis();
+            Expression unleased = Expression.builder()
+                .expression("attribute_not_exists(#leaseUntil) OR #leaseUntil < :now")
+                .putExpressionName("#leaseUntil", "leaseUntil")
+                .putExpressionValue(":now", AttributeValue.builder().n(String.valueOf(now)).build())
+                .build();
+            QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.sortLessThan(Key.builder()
+                    .partitionValue(ProductionConstants.OUTBOX_RELAY_SHARD)
+                    .sortValue(now - minAgeMillis)
+                    .build()))
+                .filterExpression(unleased)
+                .scanIndexForward(true)
+                .limit(maxMessages)
+                .build();
+
+            // As páginas são lidas sob demanda: o filtro é aplicado depois do limit, então uma página
+            // pode vir vazia, e a leitura segue até reunir max-messages entradas ou esgotar o índice
+            List<OutboxMessage> pending = outboxTable.index(ProductionConstants.DYNAMODB_OUTBOX_INDEX_NAME)
+                .query(request)
+                .stream()
+                .flatMap(page -> page.items().stream())
+                .limit(maxMessages)
+                .toList();
+
+            if (pending.isEmpty()) {
+                return 0;
+            }
+
+            List<CompletableFuture<Boolean>> results = pending.stream()
+                .map(message -> claim(message, now)
+                    .thenCompose(claimed -> claimed ? dispatch(message) : CompletableFuture.completedFuture(false)))
+                .toList();
+            int relayed = (int) results.stream().filter(CompletableFuture::join).count();
+
+            logger.debug("Outbox relay publicou {} de {} mensagens", relayed, pending.size());
+            return relayed;
+        } catch (Exception ex) {
+            logger.error("Erro ao publicar mensagens do outbox: {}", ex.getMessage(), ex);
+            return 0;
+        }
+    }
+
+    /**
+     * Reivindica a entrada para esta instância até now + lease-ms. A condição só aceita entradas
+     * ainda no outbox e sem concessão vigente, então apenas uma instância vence por rodada.
+     *
+     * @return Future com true se esta instância venceu a condição
+     */
+    private CompletableFuture<Boolean> claim(OutboxMessage message, long now) {
+        OutboxMessage lease = new OutboxMessage();
+        lease.setId(message.getId());
+        lease.setClaimedBy(instanceId);
+        lease.setLeaseUntil(now + leaseMillis);
+
+        Expression unclaimed = Expression.builder()
+            .expression("attribute_exists(#id) AND (attribute_not_exists(#leaseUntil) OR #leaseUntil < :now)")
+            .putExpressionName("#id", "id")
+            .putExpressionName("#leaseUntil", "leaseUntil")
+            .putExpressionValue(":now", AttributeValue.builder().n(String.valueOf(now)).build())
+            .build();
+
+        return outboxAsyncTable.updateItem(UpdateItemEnhancedRequest.builder(OutboxMessage.class)
+                .item(lease)
+                .ignoreNullsMode(IgnoreNullsMode.SCALAR_ONLY)
+                .conditionExpression(unclaimed)
+                .build())
+            .thenApply(claimed -> true)
+            .exceptionally(ex -> {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                if (!(cause instanceof ConditionalCheckFailedException)) {
+                    logger.warn("Erro ao reivindicar a mensagem {} do outbox: {}", message.getId(), cause.getMessage());
+                }
+                return false;
+            });
+    }
+}
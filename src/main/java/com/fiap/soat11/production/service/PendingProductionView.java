@@ -0,0 +1,318 @@
+package com.fiap.soat11.production.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.dto.ProductionEventDTO;
+import com.fiap.soat11.production.entity.Production;
+
+/**
+ * Visão em memória das produções pendentes, ordenada por updatedAt (mais velhos primeiro).
+ * É atualizada pelas mudanças do ProductionChangeChannel (escritas desta e das demais instâncias)
+ * e reconciliada periodicamente com o índice de status do DynamoDB (reconcile). Escritas são serializadas
+ * pelo lock da instância; a listagem devolve uma cópia imutável, refeita sob o lock só após alguma escrita.
+ * Enquanto a primeira reconciliação não terminar a visão não está pronta e a listagem usa o DynamoDB.
+ * Cada alteração efetiva do conteúdo (add, update, remove) é notificada aos listeners registrados.
+ * Também guarda as últimas produções em STARTED vistas pelo canal (fora da listagem), para que
+ * a mudança de status encontre a production sem ler a tabela (find).
+ * Desabilitada, não assina o canal e não guarda nada.
+ */
+@Component
+public class PendingProductionView {
+
+    private static final int MAX_STARTED = 10_000;
+
+    private static final Comparator<ViewKey> ORDER = Comparator.comparingLong(ViewKey::updatedAt)
+        .thenComparing(ViewKey::id);
+
+    private final boolean enabled;
+    private volatile boolean ready;
+    private volatile String etag = etag(0, 0L);
+    // Cópia imutável de entries; null quando uma escrita a invalidou
+    private volatile List<Production> snapshot = List.of();
+
+    // Acessados apenas sob o lock da instância
+    private NavigableMap<ViewKey, Production> entries = new TreeMap<>(ORDER);
+    private Map<String, ViewKey> keysById = new HashMap<>();
+    private final Map<String, Long> recentChanges = new HashMap<>();
+    private final Map<String, Long> removedVersions = new HashMap<>();
+    private final Map<String, Production> started = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Production> eldest) {
+            return size() > MAX_STARTED;
+        }
+    };
+    private final List<Consumer<ProductionEventDTO>> listeners = new CopyOnWriteArrayList<>();
+    private volatile int count;
+    private long fingerprint;
+    private long lastExpiry;
+
+    public PendingProductionView(ProductionChangeChannel changeChannel,
+                                 @Value("${fase4.production.service.pending-view.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        if (enabled) {
+            changeChannel.subscribe(this::upsert);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * Registra um listener chamado, sob o lock da visão, a cada alteração efetiva do conteúdo.
+     * O listener não deve bloquear.
+     */
+    public void addListener(Consumer<ProductionEventDTO> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Versão do conteúdo da visão, derivada apenas das produções pendentes (id, status e updatedAt):
+     * instâncias com o mesmo conteúdo produzem o mesmo valor. Deve ser lida antes do snapshot,
+     * para que o conteúdo devolvido seja sempre igual ou mais novo que a versão informada.
+     *
+     * @return ETag forte no formato "quantidade-hash"
+     */
+    public String getETag() {
+        return etag;
+    }
+
+    /**
+     * @return Quantidade de produções pendentes na visão, sem percorrer o conteúdo
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * A cópia é feita sob o lock, então nunca mistura o estado anterior e o posterior de uma
+     * escrita (como a troca de chave de um update). Enquanto não houver escritas, as leituras
+     * devolvem a mesma cópia sem bloquear.
+     *
+     * @return Produções pendentes ordenadas por updatedAt (lista imutável)
+     */
+    public List<Production> snapshot() {
+        List<Production> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = List.copyOf(entries.values());
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Procura a production entre as pendentes e as em STARTED conhecidas pela visão.
+     * O status devolvido pode estar defasado; quem altera o status deve condicionar a escrita a ele.
+     *
+     * @param id ID da Production
+     * @return A production conhecida, ou null se a visão não a tiver (ou estiver desabilitada)
+     */
+    public synchronized Production find(String id) {
+        if (!enabled) {
+            return null;
+        }
+        ViewKey key = keysById.get(id);
+        return key != null ? entries.get(key) : started.get(id);
+    }
+
+    /**
+     * Aplica uma mudança recebida pelo ProductionChangeChannel: mantém a production se o status
+     * for pendente, senão a remove. Mudanças com updatedAt anterior ao já conhecido são ignoradas,
+     * pois o mesmo evento pode chegar pela escrita local e, depois, pelo canal entre instâncias.
+     */
+    public synchronized void upsert(Production production) {
+        if (!enabled) {
+            return;
+        }
+        String id = production.getId();
+        Long version = production.getUpdatedAt();
+        ViewKey previous = keysById.get(id);
+        if (version != null) {
+            Long removedVersion = removedVersions.get(id);
+            if ((previous != null && previous.updatedAt() > version) || (removedVersion != null && removedVersion > version)) {
+                return;
+            }
+        }
+
+        if (ProductionConstants.PRODUCTION_STATUS_STARTED.equals(production.getStatus())) {
+            started.put(id, production);
+        } else {
+            started.remove(id);
+        }
+
+        Production previousProduction = previous != null ? entries.remove(previous) : null;
+        if (previous != null) {
+            keysById.remove(id);
+            count--;
+            fingerprint -= entryHash(previousProduction);
+        }
+        if (isPending(production)) {
+            ViewKey key = ViewKey.of(production);
+            keysById.put(id, key);
+            entries.put(key, production);
+            count++;
+            fingerprint += entryHash(production);
+            removedVersions.remove(id);
+            if (previous == null) {
+                notifyListeners(ProductionEventDTO.TYPE_ADD, production);
+            } else if (!previous.equals(key) || !production.equals(previousProduction)) {
+                notifyListeners(ProductionEventDTO.TYPE_UPDATE, production);
+            }
+        } else {
+            if (version != null) {
+                removedVersions.put(id, version);
+            }
+            if (previous != null) {
+                notifyListeners(ProductionEventDTO.TYPE_REMOVE, production);
+            }
+        }
+        if (previous != null || isPending(production)) {
+            snapshot = null;
+        }
+        etag = etag(count, fingerprint);
+        recentChanges.put(id, System.currentTimeMillis());
+    }
+
+    /**
+     * Substitui o conteúdo pelo resultado de uma consulta ao DynamoDB iniciada em startedAt.
+     * Escritas locais feitas depois de startedAt prevalecem sobre a consulta, que pode não vê-las.
+     *
+     * @param pending Produções pendentes lidas do índice
+     * @param startedAt Instante (epoch millis) em que a consulta começou
+     */
+    public synchronized void reconcile(List<Production> pending, long startedAt) {
+        Map<String, Production> next = new HashMap<>();
+        pending.forEach(production -> next.put(production.getId(), production));
+
+        expireChanges(startedAt);
+        for (String id : recentChanges.keySet()) {
+            ViewKey key = keysById.get(id);
+            if (key != null) {
+                next.put(id, entries.get(key));
+            } else {
+                next.remove(id);
+            }
+        }
+
+        NavigableMap<ViewKey, Production> rebuilt = new TreeMap<>(ORDER);
+        Map<String, ViewKey> rebuiltKeys = new HashMap<>();
+        long rebuiltFingerprint = 0L;
+        for (Production production : next.values()) {
+            ViewKey key = ViewKey.of(production);
+            rebuilt.put(key, production);
+            rebuiltKeys.put(production.getId(), key);
+            rebuiltFingerprint += entryHash(production);
+        }
+
+        notifyDifferences(rebuilt, rebuiltKeys);
+        keysById = rebuiltKeys;
+        entries = rebuilt;
+        snapshot = null;
+        count = rebuilt.size();
+        fingerprint = rebuiltFingerprint;
+        etag = etag(count, fingerprint);
+        ready = true;
+    }
+
+    /**
+     * Descarta as mudanças registradas antes da execução anterior: uma consulta de reconciliação
+     * mais antiga que isso já terminou. Não depende do reconcile, que para de rodar se o DynamoDB
+     * falhar, para que recentChanges e removedVersions não cresçam sem limite.
+     */
+    @Scheduled(fixedDelayString = "${fase4.production.service.pending-view.change-retention-ms:600000}")
+    public synchronized void expireChanges() {
+        long now = System.currentTimeMillis();
+        if (lastExpiry > 0) {
+            expireChanges(lastExpiry);
+        }
+        lastExpiry = now;
+    }
+
+    synchronized void expireChanges(long olderThan) {
+        recentChanges.entrySet().removeIf(change -> change.getValue() < olderThan);
+        removedVersions.keySet().retainAll(recentChanges.keySet());
+    }
+
+    int getTrackedChangeCount() {
+        return recentChanges.size() + removedVersions.size();
+    }
+
+    private void notifyDifferences(Map<ViewKey, Production> rebuilt, Map<String, ViewKey> rebuiltKeys) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, ViewKey> current : keysById.entrySet()) {
+            if (!rebuiltKeys.containsKey(current.getKey())) {
+                notifyListeners(ProductionEventDTO.TYPE_REMOVE, entries.get(current.getValue()));
+            }
+        }
+        for (Map.Entry<String, ViewKey> next : rebuiltKeys.entrySet()) {
+            ViewKey currentKey = keysById.get(next.getKey());
+            Production production = rebuilt.get(next.getValue());
+            if (currentKey == null) {
+                notifyListeners(ProductionEventDTO.TYPE_ADD, production);
+            } else if (!currentKey.equals(next.getValue()) || !production.equals(entries.get(currentKey))) {
+                notifyListeners(ProductionEventDTO.TYPE_UPDATE, production);
+            }
+        }
+    }
+
+    private void notifyListeners(String type, Production production) {
+        ProductionEventDTO event = new ProductionEventDTO(type, production);
+        for (Consumer<ProductionEventDTO> listener : listeners) {
+            listener.accept(event);
+        }
+    }
+
+    /**
+     * Hash de cada entrada, somado ao fingerprint: a soma independe da ordem
+     * e permite atualizar a versão em O(1) a cada mudança
+     */
+    private static long entryHash(Production production) {
+        long hash = production.getId().hashCode();
+        hash = 31 * hash + Objects.hashCode(production.getStatus());
+        hash = 31 * hash + Objects.hashCode(production.getUpdatedAt());
+        // Finalizador do SplitMix64: espalha os bits para que somas de entradas diferentes não colidam
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private static String etag(int count, long fingerprint) {
+        return "\"" + count + "-" + Long.toHexString(fingerprint) + "\"";
+    }
+
+    private boolean isPending(Production production) {
+        return production.getStatus() != null
+            && ProductionConstants.PRODUCTION_PENDING_STATUSES.contains(production.getStatus());
+    }
+
+    private record ViewKey(long updatedAt, String id) {
+
+        static ViewKey of(Production production) {
+            return new ViewKey(production.getUpdatedAt() != null ? production.getUpdatedAt() : 0L, production.getId());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.fiap.soat11.production.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache local (LRU, tamanho limitado) dos event_id já processados nesta instância.
+ * Redeliveries recentes do SQS são descartadas sem nenhuma chamada ao DynamoDB;
+ * as demais caem na escrita condicional por orderID.
+ */
+@Component
+public class ProcessedEventCache {
+
+    private final Map<String, Boolean> eventIds;
+
+    public ProcessedEventCache(@Value("${fase4.production.service.sqs.dedup.cache-size:10000}") int maxSize) {
+        this.eventIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized boolean contains(String eventId) {
+        return eventId != null && eventIds.get(eventId) != null;
+    }
+
+    public synchronized void add(String eventId) {
+        if (eventId != null) {
+            eventIds.put(eventId, Boolean.TRUE);
+        }
+    }
+}
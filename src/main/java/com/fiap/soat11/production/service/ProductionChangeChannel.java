@@ -0,0 +1,24 @@
+package com.fiap.soat11.production.service;
+
+import java.util.function.Consumer;
+
+import com.fiap.soat11.production.entity.Production;
+
+/**
+ * Canal de notificação de mudanças de Production entre instâncias.
+ * Cada escrita local é publicada no canal e entregue a todos os assinantes de todas as instâncias,
+ * mantendo as visões em memória coerentes sem depender apenas da reconciliação periódica.
+ * Uma Production sem status representa a remoção do item.
+ */
+public interface ProductionChangeChannel {
+
+    /**
+     * Publica a mudança de uma escrita feita nesta instância
+     */
+    void publish(Production production);
+
+    /**
+     * Registra um assinante para as mudanças locais e remotas
+     */
+    void subscribe(Consumer<Production> listener);
+}
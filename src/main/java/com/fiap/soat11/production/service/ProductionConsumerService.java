@@ -1,47 +1,275 @@
 package com.fiap.soat11.production.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import com.fiap.soat11.production.dto.ConsumeDTO;
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.dto.ReceivedOrderDTO;
 import com.fiap.soat11.production.entity.Production;
 import com.fiap.soat11.production.exception.ProductionException;
-import com.fiap.soat11.production.mapper.ProductionMapper;
+import com.fiap.soat11.production.mapper.ConsumeMessageDecoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
-import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
 @Service
 public class ProductionConsumerService {
     
     private static final Logger logger = LoggerFactory.getLogger(ProductionConsumerService.class);
     
-    private final DynamoDbTable<Production> dynamoDBClient;
+    private final DynamoDbAsyncTable<Production> asyncTable;
+    private final ProcessedEventCache processedEventCache;
+    private final ProductionChangeChannel changeChannel;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer handleTimer;
+    private final Timer batchTimer;
 
-    public ProductionConsumerService(DynamoDbTable<Production> dynamoDBClient) {
-        this.dynamoDBClient = dynamoDBClient;
+    // Contadores expostos como métricas e logados periodicamente em vez de uma linha INFO por mensagem
+    private final Counter createdCount;
+    private final Counter duplicateCount;
+    private final Counter failedCount;
+    private double reportedCreated;
+    private double reportedDuplicates;
+    private double reportedFailed;
+
+    public ProductionConsumerService(DynamoDbAsyncTable<Production> asyncTable,
+                                     ProcessedEventCache processedEventCache,
+                                     ProductionChangeChannel changeChannel,
+                                     MeterRegistry meterRegistry) {
+        this.asyncTable = asyncTable;
+        this.processedEventCache = processedEventCache;
+        this.changeChannel = changeChannel;
+        this.meterRegistry = meterRegistry;
+        this.handleTimer = meterRegistry.timer(ProductionConstants.METRIC_CONSUMER_HANDLE);
+        this.batchTimer = meterRegistry.timer(ProductionConstants.METRIC_CONSUMER_BATCH);
+        this.createdCount = messageCounter("created", meterRegistry);
+        this.duplicateCount = messageCounter("duplicate", meterRegistry);
+        this.failedCount = messageCounter("failed", meterRegistry);
     }
     
-    public void handle(ConsumeDTO message) {
+    /**
+     * Grava a Production da mensagem pelo DynamoDbAsyncTable, com PutItem condicional
+     * (attribute_not_exists), sem ocupar a thread chamadora. O ConsumeMessageDecoder lê direto
+     * do corpo JSON a Production e o event_id, sem materializar o ConsumeDTO.
+     * 
+     * @param body Corpo da mensagem recebida da fila
+     * @return Future concluído após a gravação, ou com ProductionException se o corpo for inválido ou a gravação falhar
+     */
+    public CompletableFuture<Void> handleJsonAsync(String body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return handleAsyncUntimed(body).whenComplete((ignored, ex) -> sample.stop(handleTimer));
+    }
+
+    private CompletableFuture<Void> handleAsyncUntimed(String body) {
+        ReceivedOrderDTO order;
         try {
-            logger.info("Processing message with order ID: {}", 
-                message.getPayload().getId());
-            
-            Production production = ProductionMapper.toProduction(message);
-            
-            dynamoDBClient.putItem(production);
-            
-            logger.info("Production record created successfully with ID: {}", 
-                production.getId());
-            
+            order = ConsumeMessageDecoder.decode(body);
         } catch (ProductionException e) {
+            failedCount.increment();
             logger.error("Validation error while processing production: {}", 
                 e.getMessage());
-            throw e;
+            return CompletableFuture.failedFuture(e);
+        }
+
+        String eventId = order.getEventId();
+        if (processedEventCache.contains(eventId)) {
+            duplicateCount.increment();
+            logger.debug("Duplicate event ignored: {}", eventId);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Production production = order.getProduction();
+        logger.debug("Processing message with order ID: {}", 
+            production.getOrderID());
+
+        return asyncTable.putItem(buildConditionalPut(production))
+            .handle((ignored, ex) -> {
+                if (ex != null) {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (!(cause instanceof ConditionalCheckFailedException)) {
+                        failedCount.increment();
+                        logger.error("Unexpected error while processing production: {}", 
+                            cause.getMessage(), cause);
+                        throw new ProductionException("Error processing production order", cause);
+                    }
+                    duplicateCount.increment();
+                    logger.debug("Production already exists for order ID: {}", 
+                        production.getOrderID());
+                } else {
+                    changeChannel.publish(production);
+                    createdCount.increment();
+                    logger.debug("Production record created successfully with ID: {}", 
+                        production.getId());
+                }
+                processedEventCache.add(eventId);
+                return null;
+            });
+    }
+
+    /**
+     * Persiste um lote de mensagens a partir dos corpos JSON (ver handleJsonAsync). Eventos já vistos
+     * são descartados e confirmados como duplicados; cada Production do lote é gravada em paralelo com
+     * PutItem condicional (attribute_not_exists), e a condição falha identifica as já existentes, sem
+     * leitura prévia. O BatchWriteItem não aceita condição e sobrescreveria com RECEIVED uma Production
+     * já avançada. Corpos inválidos são contados como falha e não entram no retorno.
+     * 
+     * @param bodies Corpos das mensagens recebidas da fila
+     * @return Corpos gravados ou identificados como duplicados (por identidade)
+     */
+    public Set<String> handleJsonBatch(List<String> bodies) {
+        return batchTimer.record(() -> handleBatchUntimed(bodies));
+    }
+
+    private Set<String> handleBatchUntimed(List<String> messages) {
+        Set<String> persisted = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<String, List<Received>> messagesByProductionId = new LinkedHashMap<>();
+        List<Production> productions = new ArrayList<>(messages.size());
+
+        for (String message : messages) {
+            ReceivedOrderDTO order;
+            try {
+                order = ConsumeMessageDecoder.decode(message);
+            } catch (ProductionException e) {
+                failedCount.increment();
+                logger.error("Validation error while processing production: {}", 
+                    e.getMessage());
+                continue;
+            }
+            if (processedEventCache.contains(order.getEventId())) {
+                duplicateCount.increment();
+                logger.debug("Duplicate event ignored: {}", order.getEventId());
+                persisted.add(message);
+                continue;
+            }
+            Production production = order.getProduction();
+            List<Received> sameOrder = messagesByProductionId.computeIfAbsent(production.getId(), id -> new ArrayList<>());
+            if (sameOrder.isEmpty()) {
+                productions.add(production);
+            }
+            sameOrder.add(new Received(message, order.getEventId()));
+        }
+
+        // As escritas correm em paralelo; os resultados são aplicados nesta thread, na ordem do lote
+        List<CompletableFuture<WriteOutcome>> writes = productions.stream()
+            .map(this::putIfAbsent)
+            .toList();
+        for (int i = 0; i < productions.size(); i++) {
+            Production production = productions.get(i);
+            switch (writes.get(i).join()) {
+                case CREATED -> {
+                    createdCount.increment();
+                    changeChannel.publish(production);
+                    acknowledge(messagesByProductionId.get(production.getId()), persisted);
+                }
+                case EXISTS -> {
+                    duplicateCount.increment();
+                    logger.debug("Production already exists for order ID: {}", 
+                        production.getOrderID());
+                    acknowledge(messagesByProductionId.get(production.getId()), persisted);
+                }
+                case FAILED -> failedCount.increment();
+            }
+        }
+
+        logger.debug("Batch processed: {} of {} messages persisted or deduplicated", 
+            persisted.size(), messages.size());
+        return persisted;
+    }
+
+    /**
+     * Registra em uma única linha INFO o total de mensagens processadas desde a última execução
+     */
+    @Scheduled(fixedDelayString = "${fase4.production.service.logging.summary-interval-ms:60000}")
+    public void logProcessingSummary() {
+        long created = (long) (createdCount.count() - reportedCreated);
+        long duplicates = (long) (duplicateCount.count() - reportedDuplicates);
+        long failed = (long) (failedCount.count() - reportedFailed);
+        reportedCreated += created;
+        reportedDuplicates += duplicates;
+        reportedFailed += failed;
+        if (created + duplicates + failed > 0) {
+            logger.info("Production messages processed: {} created, {} duplicates, {} failed", 
+                created, duplicates, failed);
+        }
+    }
+
+    private static Counter messageCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder(ProductionConstants.METRIC_CONSUMER_MESSAGES)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private PutItemEnhancedRequest<Production> buildConditionalPut(Production production) {
+        return PutItemEnhancedRequest.builder(Production.class)
+            .item(production)
+            .conditionExpression(Expression.builder()
+                .expression("attribute_not_exists(#id)")
+                .putExpressionName("#id", "id")
+                .build())
+            .build();
+    }
+
+    private void acknowledge(List<Received> messages, Set<String> persisted) {
+        for (Received received : messages) {
+            persisted.add(received.message());
+            processedEventCache.add(received.eventId());
+        }
+    }
+
+    /**
+     * Corpo de uma mensagem do lote junto do event_id já extraído
+     */
+    private record Received(String message, String eventId) {
+    }
+
+    /**
+     * Grava a Production com a mesma escrita condicional de handleJsonAsync, sem sobrescrever uma já existente
+     *
+     * @return Future que sempre completa normalmente, com o resultado da escrita
+     */
+    private CompletableFuture<WriteOutcome> putIfAbsent(Production production) {
+        CompletableFuture<Void> put;
+        try {
+            put = asyncTable.putItem(buildConditionalPut(production));
         } catch (Exception e) {
-            logger.error("Unexpected error while processing production: {}", 
-                e.getMessage(), e);
-            throw new ProductionException("Error processing production order", e);
+            put = CompletableFuture.failedFuture(e);
         }
+        return put.handle((ignored, ex) -> {
+            if (ex == null) {
+                return WriteOutcome.CREATED;
+            }
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof ConditionalCheckFailedException) {
+                return WriteOutcome.EXISTS;
+            }
+            logger.error("Unexpected error while writing production {}: {}", 
+                production.getId(), cause.getMessage(), cause);
+            return WriteOutcome.FAILED;
+        });
+    }
+
+    private enum WriteOutcome {
+        CREATED,
+        EXISTS,
+        FAILED
     }
 }
@@ -0,0 +1,189 @@
+package com.fiap.soat11.production.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fiap.soat11.production.dto.ProductionEventDTO;
+import com.fiap.soat11.production.entity.Production;
+
+/**
+ * Distribui as mudanças da PendingProductionView aos clientes conectados em GET /production/stream.
+ * Ao conectar, o cliente recebe um evento "snapshot" com as produções pendentes e, em seguida,
+ * eventos "add", "update" e "remove" com a Production alterada.
+ * Cada cliente tem um buffer limitado e uma virtual thread própria que faz os envios, em ordem:
+ * o fan-out só enfileira, então um cliente lento ou meio aberto não atrasa os demais.
+ * Clientes com o buffer cheio ou que falham no envio são descartados e reconectam pelo próprio
+ * EventSource, recebendo um novo snapshot.
+ */
+@Service
+public class ProductionEventStreamService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductionEventStreamService.class);
+
+    public static final String EVENT_SNAPSHOT = "snapshot";
+
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final ExecutorService senders;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    public ProductionEventStreamService(PendingProductionView pendingView,
+                                        @Value("${fase4.production.service.stream.timeout-ms:1800000}") long timeoutMillis,
+                                        @Value("${fase4.production.service.stream.buffer-size:256}") int bufferSize) {
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("production-event-stream-", 0).factory());
+        pendingView.addListener(this::broadcast);
+    }
+
+    /**
+     * Registra um novo cliente. A inscrição vale antes da leitura do snapshot, que acontece na
+     * thread do próprio cliente: mudanças concorrentes ficam no buffer e são enviadas depois do
+     * snapshot. Como cada evento traz a Production inteira, reaplicá-las em ordem converge para o
+     * estado atual mesmo quando o snapshot já as contém.
+     *
+     * @param snapshot Fonte das produções pendentes enviadas na conexão
+     * @return Emitter a ser devolvido pelo controller
+     */
+    public SseEmitter subscribe(Supplier<List<Production>> snapshot) {
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(emitter, bufferSize);
+        emitter.onCompletion(subscriber::stop);
+        emitter.onTimeout(subscriber::stop);
+        emitter.onError(ex -> subscriber.stop());
+
+        subscribers.add(subscriber);
+        subscriber.start(snapshot);
+        return emitter;
+    }
+
+    /**
+     * Envia um comentário a todos os clientes para manter a conexão aberta em proxies e load balancers
+     * e detectar clientes desconectados
+     */
+    @Scheduled(fixedDelayString = "${fase4.production.service.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            sendToAll(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(subscriber -> {
+            subscriber.stop();
+            subscriber.emitter.complete();
+        });
+        senders.shutdownNow();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Chamado pela PendingProductionView sob o seu lock: apenas enfileira, sem bloquear
+     */
+    private void broadcast(ProductionEventDTO event) {
+        if (!subscribers.isEmpty()) {
+            sendToAll(SseEmitter.event().name(event.getType()).data(event.getProduction()));
+        }
+    }
+
+    private void sendToAll(SseEmitter.SseEventBuilder event) {
+        // O builder acumula o texto do evento: é montado uma única vez e reaproveitado por todos os clientes
+        Set<ResponseBodyEmitter.DataWithMediaType> data = event.build();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(data);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+        private volatile Future<?> sender;
+        private volatile boolean stopped;
+
+        Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void start(Supplier<List<Production>> snapshot) {
+            sender = senders.submit(() -> run(snapshot));
+            if (stopped) {
+                sender.cancel(true);
+            }
+        }
+
+        void offer(Set<ResponseBodyEmitter.DataWithMediaType> data) {
+            if (!buffer.offer(data)) {
+                logger.warn("Cliente do stream descartado: {} eventos pendentes de envio", bufferSize);
+                fail(new IllegalStateException("Buffer do cliente do stream cheio"));
+            }
+        }
+
+        private void run(Supplier<List<Production>> snapshot) {
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_SNAPSHOT).data(snapshot.get()));
+            } catch (Exception ex) {
+                logger.warn("Erro ao enviar snapshot ao cliente do stream: {}", ex.getMessage());
+                fail(ex);
+                return;
+            }
+
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    emitter.send(buffer.take());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (Exception ex) {
+                logger.debug("Cliente do stream desconectado: {}", ex.getMessage());
+                fail(ex);
+            }
+        }
+
+        private void fail(Exception ex) {
+            if (stop()) {
+                emitter.completeWithError(ex);
+            }
+        }
+
+        /**
+         * Remove o cliente e interrompe a sua thread de envio
+         *
+         * @return true se o cliente ainda estava inscrito
+         */
+        boolean stop() {
+            stopped = true;
+            boolean removed = subscribers.remove(this);
+            Future<?> current = sender;
+            if (current != null) {
+                current.cancel(true);
+            }
+            return removed;
+        }
+    }
+}
@@ -2,136 +2,286 @@ package com.fiap.soat11.production.service;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.fiap.soat11.production.config.ProductionConstants;
-import com.fiap.soat11.production.dto.MetaDTO;
-import com.fiap.soat11.production.dto.PayloadWrapperDTO;
-import com.fiap.soat11.production.dto.ProductionMessageDTO;
-import com.fiap.soat11.production.dto.ProductionPayloadDTO;
+import com.fiap.soat11.production.dto.ProductionPageDTO;
+import com.fiap.soat11.production.entity.OutboxMessage;
 import com.fiap.soat11.production.entity.Production;
 import com.fiap.soat11.production.exception.ProductionException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.soat11.production.exception.ProductionStatusConflictException;
+import com.fiap.soat11.production.mapper.PageCursorMapper;
+import com.fiap.soat11.production.mapper.StatusMessageEncoder;
 
-import io.awspring.cloud.sqs.operations.SqsTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.IgnoreNullsMode;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactUpdateItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 @Service
 public class ProductionProducerService {
 
     private static final Logger logger = LoggerFactory.getLogger(ProductionProducerService.class);
+    
+    private static final Comparator<Production> SCAN_ORDER = Comparator
+        .comparingInt((Production production) -> ProductionConstants.PRODUCTION_PENDING_STATUSES
+            .indexOf(production.getStatus().toUpperCase(Locale.ROOT)))
+        .thenComparingLong(ProductionProducerService::updatedAtOf)
+        .thenComparing(Production::getId);
 
     private final DynamoDbTable<Production> dynamoDBClient;
-    private final SqsTemplate sqsTemplate;
-    private final ObjectMapper objectMapper;
+    private final DynamoDbAsyncTable<Production> asyncTable;
+    private final DynamoDbTable<OutboxMessage> outboxTable;
+    private final DynamoDbEnhancedAsyncClient enhancedAsyncClient;
+    private final OutboxRelayService outboxRelayService;
+    private final PendingProductionView pendingView;
+    private final ProductionChangeChannel changeChannel;
+    private final MeterRegistry meterRegistry;
+    private final boolean backfillEnabled;
+    // Até a migração do índice de status terminar (nesta ou em outra instância) a listagem usa o Scan
+    private volatile boolean statusIndexMigrated;
     
     public ProductionProducerService(DynamoDbTable<Production> dynamoDBClient, 
-                                     SqsTemplate sqsTemplate, 
-                                     ObjectMapper objectMapper) {
+                                     DynamoDbAsyncTable<Production> asyncTable,
+                                     DynamoDbTable<OutboxMessage> outboxTable,
+                                     DynamoDbEnhancedAsyncClient enhancedAsyncClient,
+                                     OutboxRelayService outboxRelayService,
+                                     PendingProductionView pendingView,
+                                     ProductionChangeChannel changeChannel,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${fase4.production.service.pending-view.backfill-enabled:true}") boolean backfillEnabled) {
         this.dynamoDBClient = dynamoDBClient;
-        this.sqsTemplate = sqsTemplate;
-        this.objectMapper = objectMapper;
+        this.asyncTable = asyncTable;
+        this.outboxTable = outboxTable;
+        this.enhancedAsyncClient = enhancedAsyncClient;
+        this.outboxRelayService = outboxRelayService;
+        this.pendingView = pendingView;
+        this.changeChannel = changeChannel;
+        this.meterRegistry = meterRegistry;
+        this.backfillEnabled = backfillEnabled;
     }
     
     /**
-     * Atualiza o status e updatedAt de uma Production no DynamoDB e publica o status na fila SQS
+     * Atualiza o status e updatedAt de uma Production e grava a mensagem de status no outbox
+     * na mesma transação (TransactWriteItems), pelo DynamoDbEnhancedAsyncClient, sem ocupar a thread
+     * chamadora. Após a transação a mensagem é entregue ao OutboxRelayService para publicação em lote,
+     * sem aguardar a fila SQS.
+     * A atualização é condicionada ao status anterior válido (RECEIVED -> STARTED -> COMPLETED);
+     * a transação é a única ida ao DynamoDB quando a PendingProductionView conhece a production.
      * 
      * @param productionId ID da Production a ser atualizada
      * @param status Novo status da Production
-     * @return A Production atualizada
-     * @throws ProductionException se a Production não for encontrada
+     * @return Future com a Production atualizada; falha com ProductionException se a Production não for
+     *         encontrada e com ProductionStatusConflictException se a transição de status não for válida
      */
-    public Production updateStatusAndPublish(String productionId, String status) {
+    public CompletableFuture<Production> updateStatusAndPublishAsync(String productionId, String status) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return updateStatusAsync(productionId, status)
+            .whenComplete((updated, ex) -> recordStatusUpdate(sample, ex));
+    }
+    
+    private CompletableFuture<Production> updateStatusAsync(String productionId, String status) {
+        logger.debug("Iniciando atualização assíncrona de status para Production");
+        
+        String previousStatus;
         try {
-            logger.debug("Iniciando atualização de status para Production");
-            
-            // Buscar a Production atual pelo ID
-            Key key = Key.builder().partitionValue(productionId).build();
-            Production production = dynamoDBClient.getItem(key);
-            
-            if (production == null) {
-                logger.error("Production não encontrada");
-                throw new ProductionException("Production não encontrada com ID: " + productionId);
-            }
-            
-            // Atualizar o status e o timestamp
-            production.setStatus(status);
-            production.setUpdatedAt(System.currentTimeMillis());
-            
-            // Salvar no DynamoDB
-            dynamoDBClient.putItem(production);
-            logger.debug("Production atualizada no DynamoDB");
-            
-            // Publicar apenas o status na fila SQS
-            publishStatusMessage(production);
-            logger.debug("Status publicado na fila SQS");
-            
-            return production;
+            previousStatus = mapStatusToPreviousStatus(status);
         } catch (ProductionException ex) {
             logger.error("Erro ao atualizar status da Production: {}", ex.getMessage());
-            throw ex;
-        } catch (Exception ex) {
-            logger.error("Erro inesperado ao atualizar status da Production: {}", ex.getMessage(), ex);
-            throw new ProductionException("Erro ao atualizar status da Production: " + ex.getMessage(), ex);
+            return CompletableFuture.failedFuture(ex);
         }
+        
+        Production known = pendingView.find(productionId);
+        CompletableFuture<Production> production = known != null
+            ? CompletableFuture.completedFuture(known)
+            : asyncTable.getItem(buildGetRequest(productionId));
+        
+        return production
+            .thenCompose(current -> {
+                Production updated = applyStatusChange(productionId, status, current);
+                OutboxMessage outboxMessage = createOutboxMessage(updated);
+                return enhancedAsyncClient.transactWriteItems(buildStatusTransaction(updated, previousStatus, outboxMessage))
+                    .thenApply(result -> {
+                        logger.debug("Production atualizada e mensagem gravada no outbox");
+                        changeChannel.publish(updated);
+                        outboxRelayService.dispatch(outboxMessage);
+                        return updated;
+                    });
+            })
+            .exceptionally(ex -> {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                if (cause instanceof TransactionCanceledException canceled) {
+                    cause = translateTransactionCanceled(productionId, status, canceled);
+                }
+                if (cause instanceof ProductionException productionException) {
+                    logger.error("Erro ao atualizar status da Production: {}", cause.getMessage());
+                    throw productionException;
+                }
+                logger.error("Erro inesperado ao atualizar status da Production: {}", cause.getMessage(), cause);
+                throw new ProductionException("Erro ao atualizar status da Production: " + cause.getMessage(), cause);
+            });
+    }
+    
+    /**
+     * Leitura usada apenas quando a production não está na PendingProductionView: dela só se
+     * aproveitam os campos imutáveis (orderID, customer, items), pois o status é garantido
+     * pela condição da transação, então a leitura eventualmente consistente basta
+     */
+    private GetItemEnhancedRequest buildGetRequest(String productionId) {
+        return GetItemEnhancedRequest.builder()
+            .key(Key.builder().partitionValue(productionId).build())
+            .build();
     }
     
     /**
-     * Publica o Meta com o eventName correspondente ao status na fila SQS
+     * Monta a Production atualizada a partir de uma cópia da conhecida, com o novo status e updatedAt.
+     * O status conhecido não é validado aqui: pode estar defasado, e a condição da transação decide.
      * 
-     * @param production Production com o status a ser publicado
+     * @throws ProductionException se a Production não for encontrada
      */
-    private void publishStatusMessage(Production production) {
-        try {
-            // Criar o MetaDTO com o eventName correspondente ao status
-            MetaDTO meta = createMetaFromStatus(production.getStatus());
-            
-            // Criar o ProductionPayloadDTO com o order_id
-            ProductionPayloadDTO productionPayload = new ProductionPayloadDTO(production.getOrderID());
-            
-            // Criar o PayloadWrapperDTO
-            PayloadWrapperDTO payloadWrapper = new PayloadWrapperDTO(productionPayload);
-            
-            // Criar a mensagem completa com meta e payload
-            ProductionMessageDTO message = new ProductionMessageDTO(meta, payloadWrapper);
-            
-            // Converter para JSON
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            
-            // Log da mensagem que será enviada
-            System.out.println("=== MENSAGEM ENVIADA PARA SQS ===");
-            System.out.println(jsonMessage);
-            System.out.println("=================================");
-            
-            // Enviar para a fila SQS
-            sqsTemplate.send(ProductionConstants.SQS_QUEUE_PRODUCER, jsonMessage);
-            
-            logger.debug("Meta enviado para SQS com conteúdo: {}", jsonMessage);
-        } catch (Exception ex) {
-            logger.error("Erro ao publicar status na fila: {}", ex.getMessage(), ex);
-            throw new ProductionException("Erro ao publicar status na fila: " + ex.getMessage(), ex);
+    private Production applyStatusChange(String productionId, String status, Production production) {
+        if (production == null) {
+            throw new ProductionException("Production não encontrada com ID: " + productionId);
         }
+        
+        return new Production(production.getId(), production.getOrderID(), status, System.currentTimeMillis(),
+            production.getCustomer(), production.getItems());
     }
     
     /**
-     * Cria um MetaDTO baseado no status fornecido
+     * Monta a transação com o UpdateItem de status e updatedAt, condicionado ao status anterior,
+     * e o Put da mensagem no outbox. Se a condição falhar, o item atual volta no cancelamento
+     * (ReturnValuesOnConditionCheckFailure.ALL_OLD) e distingue production inexistente de conflito.
+     * A requisição usa apenas o schema e o nome das tabelas, que vêm do DynamoDbTable síncrono.
      * 
-     * @param status O status da production
-     * @return MetaDTO com eventName correspondente
+     * @param production Production já com o novo status
+     * @param previousStatus Status exigido antes da atualização
+     * @param outboxMessage Mensagem de status a ser gravada no outbox
+     * @return Requisição de TransactWriteItems
+     */
+    private TransactWriteItemsEnhancedRequest buildStatusTransaction(Production production, String previousStatus,
+                                                                     OutboxMessage outboxMessage) {
+        Production changes = new Production();
+        changes.setId(production.getId());
+        changes.setStatus(production.getStatus());
+        changes.setUpdatedAt(production.getUpdatedAt());
+        
+        Expression condition = Expression.builder()
+            .expression("attribute_exists(#id) AND #status = :previousStatus")
+            .putExpressionName("#id", "id")
+            .putExpressionName("#status", "status")
+            .putExpressionValue(":previousStatus", AttributeValue.builder().s(previousStatus).build())
+            .build();
+        
+        return TransactWriteItemsEnhancedRequest.builder()
+            .addUpdateItem(dynamoDBClient, TransactUpdateItemEnhancedRequest.builder(Production.class)
+                .item(changes)
+                .ignoreNullsMode(IgnoreNullsMode.SCALAR_ONLY)
+                .conditionExpression(condition)
+                .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+                .build())
+            .addPutItem(outboxTable, outboxMessage)
+            .build();
+    }
+    
+    /**
+     * Cria a mensagem do outbox já reivindicada por esta instância, que a publica logo após a transação
+     */
+    private OutboxMessage createOutboxMessage(Production production) {
+        return outboxRelayService.leaseForDispatch(new OutboxMessage(
+            UUID.randomUUID().toString(),
+            ProductionConstants.SQS_QUEUE_PRODUCER,
+            toStatusMessageJson(production),
+            production.getUpdatedAt()));
+    }
+    
+    /**
+     * Converte o cancelamento da transação: na falha de condição, o item devolvido indica se a
+     * Production não existe (sem item) ou se o status atual não permite a transição
      */
-    private MetaDTO createMetaFromStatus(String status) {
-        String eventName = mapStatusToEventName(status);
+    private ProductionException translateTransactionCanceled(String productionId, String status,
+                                                             TransactionCanceledException ex) {
+        CancellationReason conditionFailure = !ex.hasCancellationReasons() ? null : ex.cancellationReasons().stream()
+            .filter(reason -> "ConditionalCheckFailed".equals(reason.code()))
+            .findFirst()
+            .orElse(null);
         
-        MetaDTO meta = new MetaDTO();
-        meta.setEventId(java.util.UUID.randomUUID().toString());
-        meta.setEventDate(Instant.now().toString());
-        meta.setEventSource("production-service");
-        meta.setEventTarget("order-service");
-        meta.setEventName(eventName);
+        if (conditionFailure == null) {
+            return new ProductionException("Erro ao atualizar status da Production: " + ex.getMessage(), ex);
+        }
+        if (!conditionFailure.hasItem() || conditionFailure.item().isEmpty()) {
+            return new ProductionException("Production não encontrada com ID: " + productionId);
+        }
+        AttributeValue currentStatus = conditionFailure.item().get("status");
+        return new ProductionStatusConflictException("Transição de status inválida: "
+            + (currentStatus != null ? currentStatus.s() : null) + " -> " + status);
+    }
+    
+    /**
+     * Mapeia o novo status para o status anterior exigido pela transição
+     * 
+     * @param status O novo status da production
+     * @return O status que a production precisa ter antes da atualização
+     */
+    private String mapStatusToPreviousStatus(String status) {
+        if (status == null) {
+            throw new ProductionException("Status não pode ser nulo");
+        }
         
-        return meta;
+        return switch (status.toUpperCase()) {
+            case ProductionConstants.PRODUCTION_STATUS_STARTED -> ProductionConstants.PRODUCTION_STATUS_RECEIVED;
+            case ProductionConstants.PRODUCTION_STATUS_COMPLETED -> ProductionConstants.PRODUCTION_STATUS_STARTED;
+            default -> throw new ProductionException("Status inválido: " + status);
+        };
+    }
+    
+    /**
+     * Monta a mensagem de status (meta + payload) em JSON
+     * 
+     * @param production Production com o status a ser publicado
+     * @return JSON da mensagem a ser enviada para a fila
+     */
+    private String toStatusMessageJson(Production production) {
+        String jsonMessage = StatusMessageEncoder.encode(
+            UUID.randomUUID().toString(),
+            Instant.now().toString(),
+            mapStatusToEventName(production.getStatus()),
+            production.getOrderID());
+
+        logger.debug("Mensagem de status para SQS: {}", jsonMessage);
+
+        return jsonMessage;
     }
     
     /**
@@ -146,8 +296,8 @@ public class ProductionProducerService {
         }
         
         return switch (status.toUpperCase()) {
-            case "STARTED" -> "production-started-event";
-            case "COMPLETED" -> "production-completed-event";
+            case ProductionConstants.PRODUCTION_STATUS_STARTED -> "production-started-event";
+            case ProductionConstants.PRODUCTION_STATUS_COMPLETED -> "production-completed-event";
             default -> throw new ProductionException("Status inválido: " + status);
         };
     }
@@ -157,52 +307,321 @@ public class ProductionProducerService {
     }
     
     /**
-     * Lista todas as produções com status diferente de STARTED e COMPLETED,
-     * ordenadas pelo updatedAt (mais velhos primeiro)
+     * Lista as produções pendentes (status em PRODUCTION_PENDING_STATUSES),
+     * ordenadas pelo updatedAt (mais velhos primeiro).
+     * Servida pela PendingProductionView em memória; até a primeira reconciliação
+     * (ou com a visão desabilitada) consulta o índice status-updatedAt-index, ou a tabela
+     * inteira enquanto a migração do backfillPendingIndex() não tiver terminado.
      * 
      * @return Lista de produções filtradas e ordenadas
      */
-    public java.util.List<Production> listPendingProductions() {
+    public List<Production> listPendingProductions() {
+        if (pendingView.isReady()) {
+            return meterRegistry.timer(ProductionConstants.METRIC_PENDING_LIST, "source", "view")
+                .record(pendingView::snapshot);
+        }
+        
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            logger.info("Listando produções com status pendente: {}", ProductionConstants.PRODUCTION_PENDING_STATUSES);
+            
+            List<Production> pendingProductions = queryPendingProductions();
+            
+            logger.info("Total de produções pendentes: {}", pendingProductions.size());
+            return pendingProductions;
+        } catch (Exception ex) {
+            logger.error("Erro ao listar produções: {}", ex.getMessage(), ex);
+            throw new ProductionException("Erro ao listar produções: " + ex.getMessage(), ex);
+        } finally {
+            sample.stop(meterRegistry.timer(ProductionConstants.METRIC_PENDING_LIST, "source", "dynamodb"));
+        }
+    }
+    
+    /**
+     * ETag da lista de pendentes, disponível apenas quando ela é servida pela PendingProductionView
+     *
+     * @return ETag atual ou null se a listagem ainda consulta o DynamoDB
+     */
+    public String getPendingProductionsETag() {
+        return pendingView.isReady() ? pendingView.getETag() : null;
+    }
+    
+    private void recordStatusUpdate(Timer.Sample sample, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+            ? failure.getCause()
+            : failure;
+        String outcome;
+        if (cause == null) {
+            outcome = "success";
+        } else if (cause instanceof ProductionStatusConflictException) {
+            outcome = "conflict";
+        } else {
+            outcome = "error";
+        }
+        sample.stop(meterRegistry.timer(ProductionConstants.METRIC_STATUS_UPDATE, "outcome", outcome));
+    }
+    
+    /**
+     * Reconcilia a PendingProductionView com o índice de status, corrigindo escritas
+     * feitas por outras instâncias ou perdidas por esta
+     */
+    @Scheduled(fixedDelayString = "${fase4.production.service.pending-view.reconcile-interval-ms:300000}")
+    public void reconcilePendingView() {
+        if (!pendingView.isEnabled()) {
+            return;
+        }
+        
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<Production> pendingProductions = queryPendingProductions();
+            pendingView.reconcile(pendingProductions, startedAt);
+            logger.debug("Visão de pendentes reconciliada com {} produções", pendingProductions.size());
+        } catch (Exception ex) {
+            logger.error("Erro ao reconciliar visão de pendentes: {}", ex.getMessage(), ex);
+        }
+    }
+    
+    /**
+     * Migra as linhas gravadas antes do índice status-updatedAt-index: produções sem updatedAt
+     * ficam fora do índice esparso e status fora do padrão ("received", "Started") caem em
+     * outra partição. Cada linha recebe o status em maiúsculas e updatedAt = 0 quando ausente
+     * (a listagem antiga também ordenava updatedAt nulo como 0), condicionada ao status lido,
+     * para não sobrescrever uma alteração concorrente. Executa até concluir uma varredura
+     * completa sem erro e então grava a linha marcadora STATUS_INDEX_MIGRATION_MARKER_ID.
+     * 
+     * Roda no deploy, em todas as instâncias: a migração é idempotente e, quando alguma delas
+     * grava o marcador, as demais o encontram e deixam de varrer a tabela. Enquanto isso a
+     * listagem continua vindo do Scan, então nenhuma produção antiga some. Com
+     * pending-view.backfill-enabled=false a instância não migra, mas passa a usar o índice
+     * assim que o marcador existir. Status fora do padrão ficam em maiúsculas, mas só entram
+     * na listagem os PRODUCTION_PENDING_STATUSES.
+     */
+    @Scheduled(fixedDelayString = "${fase4.production.service.pending-view.backfill-retry-interval-ms:60000}")
+    public void backfillPendingIndex() {
+        if (statusIndexMigrated) {
+            return;
+        }
+        
         try {
-            logger.info("Listando produções com status diferente de STARTED e COMPLETED");
+            if (dynamoDBClient.getItem(GetItemEnhancedRequest.builder()
+                    .key(Key.builder().partitionValue(ProductionConstants.STATUS_INDEX_MIGRATION_MARKER_ID).build())
+                    .consistentRead(true)
+                    .build()) != null) {
+                statusIndexMigrated = true;
+                logger.info("Índice de status já migrado; a listagem passa a usar o índice");
+                return;
+            }
+            if (!backfillEnabled) {
+                return;
+            }
             
-            // Escanear toda a tabela
-            java.util.List<Production> allProductions = dynamoDBClient.scan()
-                .items()
-                .stream()
-                .toList();
+            Expression legacyRows = Expression.builder()
+                .expression("attribute_exists(#status) AND (attribute_not_exists(#updatedAt) "
+                    + "OR NOT #status IN (:received, :started, :completed))")
+                .putExpressionName("#status", "status")
+                .putExpressionName("#updatedAt", "updatedAt")
+                .putExpressionValue(":received", AttributeValue.builder().s(ProductionConstants.PRODUCTION_STATUS_RECEIVED).build())
+                .putExpressionValue(":started", AttributeValue.builder().s(ProductionConstants.PRODUCTION_STATUS_STARTED).build())
+                .putExpressionValue(":completed", AttributeValue.builder().s(ProductionConstants.PRODUCTION_STATUS_COMPLETED).build())
+                .build();
             
-            logger.info("Total de produções encontradas no DynamoDB: {}", allProductions.size());
+            int migrated = 0;
+            for (Production production : dynamoDBClient.scan(ScanEnhancedRequest.builder()
+                    .filterExpression(legacyRows)
+                    .build()).items()) {
+                if (backfillProduction(production)) {
+                    migrated++;
+                }
+            }
             
-            // Log dos status encontrados
-            allProductions.forEach(p -> {
-                logger.info("Production ID: {}, Status: {}, UpdatedAt: {}", 
-                    p.getId(), p.getStatus(), p.getUpdatedAt());
-            });
+            Production marker = new Production();
+            marker.setId(ProductionConstants.STATUS_INDEX_MIGRATION_MARKER_ID);
+            marker.setUpdatedAt(System.currentTimeMillis());
+            dynamoDBClient.putItem(marker);
+            statusIndexMigrated = true;
+            logger.info("Backfill do índice de status concluído: {} produções migradas", migrated);
+        } catch (Exception ex) {
+            logger.error("Erro no backfill do índice de status: {}", ex.getMessage(), ex);
+        }
+    }
+    
+    private boolean backfillProduction(Production production) {
+        String status = production.getStatus().toUpperCase(Locale.ROOT);
+        if (!ProductionConstants.PRODUCTION_STATUSES.contains(status)) {
+            logger.warn("Production {} com status desconhecido {} não aparecerá na listagem de pendentes",
+                production.getId(), production.getStatus());
+        }
+        
+        Production changes = new Production();
+        changes.setId(production.getId());
+        changes.setStatus(status);
+        changes.setUpdatedAt(production.getUpdatedAt() != null ? production.getUpdatedAt() : 0L);
+        
+        Expression unchanged = Expression.builder()
+            .expression("#status = :seenStatus")
+            .putExpressionName("#status", "status")
+            .putExpressionValue(":seenStatus", AttributeValue.builder().s(production.getStatus()).build())
+            .build();
+        
+        try {
+            dynamoDBClient.updateItem(UpdateItemEnhancedRequest.builder(Production.class)
+                .item(changes)
+                .ignoreNullsMode(IgnoreNullsMode.SCALAR_ONLY)
+                .conditionExpression(unchanged)
+                .build());
+            return true;
+        } catch (ConditionalCheckFailedException ex) {
+            // Alterada depois da leitura: a escrita concorrente já grava status e updatedAt canônicos
+            return false;
+        }
+    }
+    
+    private List<Production> queryPendingProductions() {
+        if (!statusIndexMigrated) {
+            return scanPendingProductions();
+        }
+        
+        DynamoDbIndex<Production> statusIndex = dynamoDBClient.index(ProductionConstants.DYNAMODB_STATUS_INDEX_NAME);
+        
+        // Cada partição do índice já vem ordenada por updatedAt;
+        // a ordenação final apenas intercala os status pendentes
+        return ProductionConstants.PRODUCTION_PENDING_STATUSES.stream()
+            .flatMap(status -> queryByStatus(statusIndex, status))
+            .sorted(Comparator.comparing(
+                p -> p.getUpdatedAt() != null ? p.getUpdatedAt() : 0L))
+            .toList();
+    }
+    
+    /**
+     * Leitura usada até a migração do índice terminar: varre a tabela como a listagem original,
+     * aceitando o status em qualquer caixa, na ordem do índice (status, updatedAt e id)
+     */
+    private List<Production> scanPendingProductions() {
+        Expression hasStatus = Expression.builder()
+            .expression("attribute_exists(#status)")
+            .putExpressionName("#status", "status")
+            .build();
+        
+        return dynamoDBClient.scan(ScanEnhancedRequest.builder()
+                .filterExpression(hasStatus)
+                .build())
+            .items()
+            .stream()
+            .filter(production -> ProductionConstants.PRODUCTION_PENDING_STATUSES
+                .contains(production.getStatus().toUpperCase(Locale.ROOT)))
+            .sorted(SCAN_ORDER)
+            .toList();
+    }
+    
+    /**
+     * Página equivalente à do índice, recortada do Scan: o cursor guarda status, updatedAt e id
+     * do último item, como o lastEvaluatedKey do índice, e continua válido depois da migração
+     */
+    private ProductionPageDTO scanPendingProductionsPage(int limit, int statusPosition, Map<String, AttributeValue> startKey) {
+        List<Production> pending = scanPendingProductions().stream()
+            .filter(production -> isAfterCursor(production, statusPosition, startKey))
+            .toList();
+        List<Production> items = pending.subList(0, Math.min(limit, pending.size()));
+        
+        String nextCursor = null;
+        if (pending.size() > limit) {
+            Production last = items.get(items.size() - 1);
+            nextCursor = PageCursorMapper.toCursor(last.getStatus().toUpperCase(Locale.ROOT), Map.of(
+                "id", AttributeValue.builder().s(last.getId()).build(),
+                "updatedAt", AttributeValue.builder().n(String.valueOf(updatedAtOf(last))).build()));
+        }
+        return new ProductionPageDTO(items, nextCursor);
+    }
+    
+    private boolean isAfterCursor(Production production, int statusPosition, Map<String, AttributeValue> startKey) {
+        int position = ProductionConstants.PRODUCTION_PENDING_STATUSES.indexOf(production.getStatus().toUpperCase(Locale.ROOT));
+        if (position != statusPosition || startKey == null) {
+            return position >= statusPosition;
+        }
+        int byUpdatedAt = Long.compare(updatedAtOf(production), Long.parseLong(startKey.get("updatedAt").n()));
+        return byUpdatedAt > 0 || (byUpdatedAt == 0 && production.getId().compareTo(startKey.get("id").s()) > 0);
+    }
+    
+    private static long updatedAtOf(Production production) {
+        return production.getUpdatedAt() != null ? production.getUpdatedAt() : 0L;
+    }
+    
+    /**
+     * Lista uma página de produções pendentes, na mesma ordem de listPendingProductions().
+     * O cursor é o lastEvaluatedKey do índice de status codificado por PageCursorMapper.
+     * 
+     * @param limit Quantidade máxima de produções na página
+     * @param cursor Cursor retornado pela página anterior, ou null para a primeira página
+     * @return Página de produções e o cursor da próxima página (null quando não há mais)
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public ProductionPageDTO listPendingProductions(int limit, String cursor) {
+        List<String> pendingStatuses = ProductionConstants.PRODUCTION_PENDING_STATUSES;
+        int statusPosition = cursor == null ? 0 : pendingStatuses.indexOf(PageCursorMapper.statusOf(cursor));
+        Map<String, AttributeValue> exclusiveStartKey = cursor == null ? null : PageCursorMapper.toExclusiveStartKey(cursor);
+        
+        if (statusPosition < 0) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+        
+        try {
+            logger.debug("Listando página de produções pendentes com limite {}", limit);
+            if (!statusIndexMigrated) {
+                return scanPendingProductionsPage(limit, statusPosition, exclusiveStartKey);
+            }
             
-            // Filtrar por status diferente de STARTED e COMPLETED
-            // e ordenar pelo updatedAt (mais velhos primeiro)
-            java.util.List<Production> filteredProductions = allProductions.stream()
-                .filter(p -> {
-                    boolean include = p.getStatus() != null && 
-                           !p.getStatus().equalsIgnoreCase("STARTED") && 
-                           !p.getStatus().equalsIgnoreCase("COMPLETED");
-                    logger.info("Production {} - Status: {} - Incluir: {}", 
-                        p.getId(), p.getStatus(), include);
-                    return include;
-                })
-                .sorted((p1, p2) -> {
-                    Long updated1 = p1.getUpdatedAt() != null ? p1.getUpdatedAt() : 0L;
-                    Long updated2 = p2.getUpdatedAt() != null ? p2.getUpdatedAt() : 0L;
-                    return updated1.compareTo(updated2);
-                })
-                .toList();
+            DynamoDbIndex<Production> statusIndex = dynamoDBClient.index(ProductionConstants.DYNAMODB_STATUS_INDEX_NAME);
+            List<Production> items = new ArrayList<>(limit);
             
-            logger.info("Total de produções filtradas: {}", filteredProductions.size());
-            return filteredProductions;
+            // Percorre os status pendentes em ordem até completar a página
+            while (items.size() < limit && statusPosition < pendingStatuses.size()) {
+                QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                    .queryConditional(QueryConditional.keyEqualTo(
+                        Key.builder().partitionValue(pendingStatuses.get(statusPosition)).build()))
+                    .scanIndexForward(true)
+                    .limit(limit - items.size())
+                    .exclusiveStartKey(exclusiveStartKey)
+                    .build();
+                
+                Page<Production> page = statusIndex.query(request).stream().findFirst().orElse(null);
+                exclusiveStartKey = page != null ? page.lastEvaluatedKey() : null;
+                if (page != null) {
+                    items.addAll(page.items());
+                }
+                
+                if (exclusiveStartKey == null || exclusiveStartKey.isEmpty()) {
+                    exclusiveStartKey = null;
+                    statusPosition++;
+                }
+            }
+            
+            String nextCursor = statusPosition < pendingStatuses.size()
+                ? PageCursorMapper.toCursor(pendingStatuses.get(statusPosition), exclusiveStartKey)
+                : null;
+            
+            logger.debug("Página de produções pendentes com {} itens", items.size());
+            return new ProductionPageDTO(items, nextCursor);
         } catch (Exception ex) {
-            logger.error("Erro ao listar produções: {}", ex.getMessage(), ex);
+            logger.error("Erro ao listar página de produções: {}", ex.getMessage(), ex);
             throw new ProductionException("Erro ao listar produções: " + ex.getMessage(), ex);
         }
     }
+    
+    /**
+     * Consulta o índice de status, em ordem crescente de updatedAt
+     * 
+     * @param statusIndex Índice status-updatedAt-index
+     * @param status Status a ser consultado
+     * @return Stream com as produções do status informado
+     */
+    private Stream<Production> queryByStatus(DynamoDbIndex<Production> statusIndex, String status) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+            .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(status).build()))
+            .scanIndexForward(true)
+            .build();
+        
+        return statusIndex.query(request)
+            .stream()
+            .flatMap(page -> page.items().stream());
+    }
 }
@@ -0,0 +1,198 @@
+package com.fiap.soat11.production.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.exception.ProductionException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+/**
+ * Agrupa as mensagens publicadas em uma janela curta (window-ms) ou até completar
+ * o lote máximo do SendMessageBatch, o que ocorrer primeiro, e envia uma única requisição por lote.
+ * Cada mensagem recebe seu próprio future, concluído conforme o resultado da sua entrada no lote.
+ * A URL de cada fila é resolvida uma vez e mantida como future, sem bloquear quem envia o lote.
+ */
+@Service
+public class SqsBatchPublisher implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqsBatchPublisher.class);
+
+    private final SqsAsyncClient sqsAsyncClient;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, List<PendingMessage>> buffers = new HashMap<>();
+    private final Map<String, CompletableFuture<String>> queueUrls = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSize;
+
+    public SqsBatchPublisher(SqsAsyncClient sqsAsyncClient,
+                             @Value("${fase4.production.service.sqs.publisher.window-ms:20}") long windowMillis,
+                             @Value("${fase4.production.service.sqs.publisher.max-batch-size:10}") int maxBatchSize,
+                             MeterRegistry meterRegistry) {
+        this.sqsAsyncClient = sqsAsyncClient;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = meterRegistry.summary(ProductionConstants.METRIC_SQS_BATCH_SIZE);
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = Math.clamp(maxBatchSize, 1, ProductionConstants.SQS_SEND_BATCH_MAX_MESSAGES);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sqs-batch-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Enfileira a mensagem para o próximo lote da fila
+     *
+     * @param queueName Nome da fila de destino
+     * @param body Corpo da mensagem
+     * @return Future concluído quando a fila aceitar a mensagem, ou com ProductionException em caso de falha
+     */
+    public CompletableFuture<Void> publish(String queueName, String body) {
+        PendingMessage message = new PendingMessage(body, new CompletableFuture<>());
+        List<PendingMessage> fullBatch = null;
+
+        synchronized (buffers) {
+            List<PendingMessage> buffer = buffers.computeIfAbsent(queueName, queue -> new ArrayList<>());
+            buffer.add(message);
+            if (buffer.size() >= maxBatchSize) {
+                fullBatch = buffers.remove(queueName);
+            } else if (buffer.size() == 1) {
+                scheduler.schedule(() -> flush(queueName), windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (fullBatch != null) {
+            send(queueName, fullBatch);
+        }
+        return message.result();
+    }
+
+    /**
+     * Envia imediatamente o lote pendente da fila, se houver
+     */
+    void flush(String queueName) {
+        List<PendingMessage> batch;
+        synchronized (buffers) {
+            batch = buffers.remove(queueName);
+        }
+        if (batch != null && !batch.isEmpty()) {
+            send(queueName, batch);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        List<String> queueNames;
+        synchronized (buffers) {
+            queueNames = new ArrayList<>(buffers.keySet());
+        }
+        queueNames.forEach(this::flush);
+        scheduler.shutdown();
+    }
+
+    private void send(String queueName, List<PendingMessage> batch) {
+        // Ids das entradas são posicionais: únicos dentro do lote, como exige o SendMessageBatch
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            entries.add(SendMessageBatchRequestEntry.builder()
+                .id(String.valueOf(i))
+                .messageBody(batch.get(i).body())
+                .build());
+        }
+
+        batchSize.record(batch.size());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<SendMessageBatchResponse> response = resolveQueueUrl(queueName)
+            .thenCompose(queueUrl -> sqsAsyncClient.sendMessageBatch(SendMessageBatchRequest.builder()
+                .queueUrl(queueUrl)
+                .entries(entries)
+                .build()));
+
+        response.whenComplete((result, error) -> {
+            Throwable ex = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            sample.stop(meterRegistry.timer(ProductionConstants.METRIC_SQS_SEND_BATCH,
+                "queue", queueName, "outcome", ex == null ? "success" : "error"));
+            if (ex != null) {
+                logger.error("Erro ao publicar lote de {} mensagens na fila {}: {}", batch.size(), queueName, ex.getMessage());
+                ProductionException failure = new ProductionException("Erro ao publicar mensagem na fila: " + ex.getMessage(), ex);
+                batch.forEach(message -> message.result().completeExceptionally(failure));
+                return;
+            }
+
+            Map<String, BatchResultErrorEntry> failedById = new HashMap<>();
+            result.failed().forEach(failed -> failedById.put(failed.id(), failed));
+
+            for (int i = 0; i < batch.size(); i++) {
+                BatchResultErrorEntry failed = failedById.get(String.valueOf(i));
+                if (failed == null) {
+                    batch.get(i).result().complete(null);
+                } else {
+                    logger.warn("Falha ao publicar mensagem na fila {}: {} - {}", queueName, failed.code(), failed.message());
+                    batch.get(i).result().completeExceptionally(new ProductionException(
+                        "Erro ao publicar mensagem na fila: " + failed.code() + " - " + failed.message()));
+                }
+            }
+            logger.debug("Lote de {} mensagens publicado na fila {}", batch.size(), queueName);
+        });
+    }
+
+    /**
+     * Resolve a URL da fila uma única vez: os envios seguintes compõem sobre o mesmo future.
+     * Uma falha remove o future do cache, para que o próximo lote tente de novo.
+     */
+    private CompletableFuture<String> resolveQueueUrl(String queueName) {
+        CompletableFuture<String> cached = queueUrls.get(queueName);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<String> resolved = new CompletableFuture<>();
+        CompletableFuture<String> existing = queueUrls.putIfAbsent(queueName, resolved);
+        if (existing != null) {
+            return existing;
+        }
+
+        // Exceções lançadas pelo próprio getQueueUrl também completam o future com falha
+        CompletableFuture.completedFuture(queueName)
+            .thenCompose(name -> sqsAsyncClient.getQueueUrl(GetQueueUrlRequest.builder().queueName(name).build()))
+            .whenComplete((response, ex) -> {
+                if (ex != null) {
+                    queueUrls.remove(queueName, resolved);
+                    resolved.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                } else {
+                    resolved.complete(response.queueUrl());
+                }
+            });
+        return resolved;
+    }
+
+    private record PendingMessage(String body, CompletableFuture<Void> result) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.fiap.soat11.production.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-10T12:00:00Z");
+
+    @Mock
+    private JwtDecoder delegate;
+
+    @Mock
+    private Clock clock;
+
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenReturn(NOW);
+        lenient().when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        decoder = new CachingJwtDecoder(delegate, 10, clock);
+    }
+
+    @Test
+    void testReturnsCachedJwtWithoutVerifyingAgain() {
+        // Arrange
+        Jwt jwt = jwt("token-1", NOW.plus(Duration.ofHours(1)));
+        when(delegate.decode("token-1")).thenReturn(jwt);
+
+        // Act
+        Jwt first = decoder.decode("token-1");
+        Jwt second = decoder.decode("token-1");
+
+        // Assert
+        assertSame(jwt, first);
+        assertSame(jwt, second);
+        verify(delegate, times(1)).decode("token-1");
+    }
+
+    @Test
+    void testVerifiesAgainAfterTokenExpires() {
+        // Arrange
+        Instant expiresAt = NOW.plus(Duration.ofMinutes(5));
+        when(delegate.decode("token-1")).thenReturn(jwt("token-1", expiresAt));
+        decoder.decode("token-1");
+        when(clock.instant()).thenReturn(expiresAt);
+
+        // Act
+        decoder.decode("token-1");
+
+        // Assert
+        verify(delegate, times(2)).decode("token-1");
+    }
+
+    @Test
+    void testDoesNotCacheTokenWithoutExpiration() {
+        // Arrange
+        when(delegate.decode("token-1")).thenReturn(jwt("token-1", null));
+
+        // Act
+        decoder.decode("token-1");
+        decoder.decode("token-1");
+
+        // Assert
+        verify(delegate, times(2)).decode("token-1");
+        assertEquals(0, decoder.size());
+    }
+
+    @Test
+    void testDoesNotCacheRejectedToken() {
+        // Arrange
+        when(delegate.decode("invalid")).thenThrow(new BadJwtException("invalid signature"));
+
+        // Act & Assert
+        assertThrows(BadJwtException.class, () -> decoder.decode("invalid"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("invalid"));
+        verify(delegate, times(2)).decode("invalid");
+        assertEquals(0, decoder.size());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedTokenWhenFull() {
+        // Arrange
+        decoder = new CachingJwtDecoder(delegate, 2, clock);
+        Instant expiresAt = NOW.plus(Duration.ofHours(1));
+        when(delegate.decode(anyString())).thenAnswer(invocation -> jwt(invocation.getArgument(0), expiresAt));
+        decoder.decode("token-1");
+        decoder.decode("token-2");
+        decoder.decode("token-1");
+
+        // Act
+        decoder.decode("token-3");
+        decoder.decode("token-1");
+        decoder.decode("token-2");
+
+        // Assert
+        assertEquals(2, decoder.size());
+        verify(delegate, times(1)).decode("token-1");
+        verify(delegate, times(2)).decode("token-2");
+    }
+
+    @Test
+    void testDistinctTokensAreCachedSeparately() {
+        // Arrange
+        Instant expiresAt = NOW.plus(Duration.ofHours(1));
+        Jwt jwt1 = jwt("token-1", expiresAt);
+        Jwt jwt2 = jwt("token-2", expiresAt);
+        when(delegate.decode("token-1")).thenReturn(jwt1);
+        when(delegate.decode("token-2")).thenReturn(jwt2);
+
+        // Act
+        decoder.decode("token-1");
+        decoder.decode("token-2");
+
+        // Assert
+        assertSame(jwt1, decoder.decode("token-1"));
+        assertSame(jwt2, decoder.decode("token-2"));
+    }
+
+    @Test
+    void testInvalidateAllVerifiesCachedTokensAgain() {
+        // Arrange
+        when(delegate.decode("token-1")).thenReturn(jwt("token-1", NOW.plus(Duration.ofHours(1))));
+        decoder.decode("token-1");
+
+        // Act
+        decoder.invalidateAll();
+        decoder.decode("token-1");
+
+        // Assert
+        verify(delegate, times(2)).decode("token-1");
+    }
+
+    private Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject("user-123")
+            .issuedAt(NOW.minus(Duration.ofMinutes(1)))
+            .expiresAt(expiresAt)
+            .claim("user_type", "admin")
+            .build();
+    }
+}
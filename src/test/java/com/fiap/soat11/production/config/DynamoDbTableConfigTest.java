@@ -2,15 +2,66 @@ package com.fiap.soat11.production.config;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.net.URI;
+
 import org.junit.jupiter.api.Test;
 
+import com.fiap.soat11.production.service.AdaptiveConcurrencyLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
+
 class DynamoDbTableConfigTest {
 
+    private final DynamoDbTableConfig config = new DynamoDbTableConfig();
+    private final StaticCredentialsProvider credentials =
+        StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test"));
+    private final MicrometerSdkMetricPublisher publisher = new MicrometerSdkMetricPublisher(new SimpleMeterRegistry());
+    private final DynamoDbWriteSignalPublisher writeSignalPublisher =
+        new DynamoDbWriteSignalPublisher(new AdaptiveConcurrencyLimiter(1, 10, 250, 0.9));
+
     @Test
     void testDynamoDbTableConfigInitialization() {
         // This is a configuration class and may not require extensive testing
         // as it's mostly Spring configuration
-        DynamoDbTableConfig config = new DynamoDbTableConfig();
         assertNotNull(config);
     }
+
+    @Test
+    void testAsyncClientUsesConfiguredEndpoint() {
+        // Act
+        try (DynamoDbAsyncClient client = config.dynamoDbAsyncClient(credentials, () -> Region.US_EAST_1, publisher, writeSignalPublisher,
+                "http://localhost:8000")) {
+
+            // Assert
+            assertEquals(URI.create("http://localhost:8000"),
+                client.serviceClientConfiguration().endpointOverride().orElseThrow());
+        }
+    }
+
+    @Test
+    void testAsyncClientWithoutEndpointUsesRegionDefault() {
+        // Act
+        try (DynamoDbAsyncClient client = config.dynamoDbAsyncClient(credentials, () -> Region.US_EAST_1, publisher, writeSignalPublisher, "")) {
+
+            // Assert
+            assertTrue(client.serviceClientConfiguration().endpointOverride().isEmpty());
+        }
+    }
+
+    @Test
+    void testStreamsClientUsesConfiguredEndpoint() {
+        // Act
+        try (DynamoDbStreamsClient client = config.dynamoDbStreamsClient(credentials, () -> Region.US_EAST_1, publisher,
+                "http://localhost:8000")) {
+
+            // Assert
+            assertEquals(URI.create("http://localhost:8000"),
+                client.serviceClientConfiguration().endpointOverride().orElseThrow());
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package com.fiap.soat11.production.config;
+
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fiap.soat11.production.service.AdaptiveConcurrencyLimiter;
+
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+@ExtendWith(MockitoExtension.class)
+class DynamoDbWriteSignalPublisherTest {
+
+    @Mock
+    private AdaptiveConcurrencyLimiter limiter;
+
+    private DynamoDbWriteSignalPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new DynamoDbWriteSignalPublisher(limiter);
+    }
+
+    @Test
+    void testPublishesPutItemLatency() {
+        // Arrange
+        MetricCollector collector = apiCall("DynamoDB", "PutItem", Duration.ofMillis(12));
+        collector.createChild("ApiCallAttempt").reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.ofMillis(10));
+
+        // Act
+        publisher.publish(collector.collect());
+
+        // Assert
+        verify(limiter).onSample(Duration.ofMillis(12), false);
+    }
+
+    @Test
+    void testPublishesThrottlingFromAnyAttempt() {
+        // Arrange
+        MetricCollector collector = apiCall("DynamoDB", "BatchWriteItem", Duration.ofMillis(180));
+        collector.createChild("ApiCallAttempt").reportMetric(CoreMetric.ERROR_TYPE, "Throttling");
+        collector.createChild("ApiCallAttempt").reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.ofMillis(9));
+
+        // Act
+        publisher.publish(collector.collect());
+
+        // Assert
+        verify(limiter).onSample(Duration.ofMillis(180), true);
+    }
+
+    @Test
+    void testIgnoresOtherOperationsAndServices() {
+        // Act
+        publisher.publish(apiCall("DynamoDB", "Query", Duration.ofMillis(5)).collect());
+        publisher.publish(apiCall("DynamoDB", "TransactWriteItems", Duration.ofMillis(5)).collect());
+        publisher.publish(apiCall("SQS", "SendMessageBatch", Duration.ofMillis(5)).collect());
+
+        // Assert
+        verifyNoInteractions(limiter);
+    }
+
+    @Test
+    void testIgnoresCallWithoutDuration() {
+        // Arrange
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+        collector.reportMetric(CoreMetric.OPERATION_NAME, "PutItem");
+
+        // Act
+        publisher.publish(collector.collect());
+
+        // Assert
+        verifyNoInteractions(limiter);
+    }
+
+    private MetricCollector apiCall(String service, String operation, Duration duration) {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.SERVICE_ID, service);
+        collector.reportMetric(CoreMetric.OPERATION_NAME, operation);
+        collector.reportMetric(CoreMetric.API_CALL_DURATION, duration);
+        return collector;
+    }
+}
@@ -176,6 +176,23 @@ class GrantedAuthoritiesExtractorTest {
         assertTrue(authorities.stream().anyMatch(a -> a.getAuthority().equals("ROLE_USER")));
     }
 
+    @Test
+    void testReusesAuthoritiesForSameUserType() {
+        // Arrange
+        Jwt first = createMockJwt("ADMIN USER");
+        Jwt second = createMockJwt("ADMIN USER");
+
+        // Act
+        AbstractAuthenticationToken firstToken = extractor.convert(first);
+        AbstractAuthenticationToken secondToken = extractor.convert(second);
+
+        // Assert
+        assertNotSame(firstToken, secondToken);
+        assertEquals(firstToken.getAuthorities(), secondToken.getAuthorities());
+        assertSame(firstToken.getAuthorities().iterator().next(), secondToken.getAuthorities().iterator().next());
+        assertSame(second, ((JwtAuthenticationToken) secondToken).getToken());
+    }
+
     // Helper methods
     private Jwt createMockJwt(String userType) {
         Jwt jwt = mock(Jwt.class);
@@ -4,20 +4,40 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import io.awspring.cloud.autoconfigure.core.AwsClientBuilderConfigurer;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClientBuilder;
+
 class JwtConfigTest {
 
     private JwtConfig jwtConfig;
+    private ObjectProvider<AwsClientBuilderConfigurer> awsClientBuilderConfigurerProvider;
     private String validJwkJson;
 
     @BeforeEach
     void setUp() {
         jwtConfig = new JwtConfig();
+        awsClientBuilderConfigurerProvider = mock(ObjectProvider.class);
         
         // Use a sample JWK JSON for testing
         validJwkJson = "{\"kty\":\"RSA\",\"use\":\"sig\",\"kid\":\"test-key\",\"n\":\"0vx7agoebGcQSuuPiLJXZptN9nndrQmbXEps2aiAFbWhM78LhWx4cbbfAAtVT86zwu1RK7aPFFxuhDR1L6tSoc_BJECPebWKRXjBZCiFV4n3oknjhMstn64tZ_2W-5JsGY4Hc5n9yBXArwl93lqt7_RN5w6Cf0h4QyQ5v-65YGjQR0_FDW2QvzqY368QQMicAtaSqzs8KJZgnYb9c7d0zgdAZHzu6qMQvRL5hajrn1n91CbOpbISD08qNLyrdkt-bFTWhAI4vMQFh6WeZu0fM4lFd2NcRwr3XPksINHaQ-G_xBniIqbw0Ls1jF44-csFCur-kEgU8awapJzKnqDKgw\",\"e\":\"AQAB\"}";
@@ -35,12 +55,25 @@ class JwtConfigTest {
         ReflectionTestUtils.setField(jwtConfig, "jwkJson", validJwkJson);
 
         // Act
-        JwtDecoder jwtDecoder = jwtConfig.jwtDecoder();
+        JwtDecoder jwtDecoder = jwtDecoder();
 
         // Assert
         assertNotNull(jwtDecoder);
     }
 
+    @Test
+    void testJwtDecoderBeanCachesVerifiedTokens() {
+        // Arrange
+        ReflectionTestUtils.setField(jwtConfig, "jwkJson", validJwkJson);
+        ReflectionTestUtils.setField(jwtConfig, "jwtCacheMaxSize", 100);
+
+        // Act
+        JwtDecoder jwtDecoder = jwtDecoder();
+
+        // Assert
+        assertInstanceOf(CachingJwtDecoder.class, jwtDecoder);
+    }
+
     @Test
     void testJwtDecoderBeanWithInvalidJwk() {
         // Arrange
@@ -49,7 +82,7 @@ class JwtConfigTest {
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> {
-            jwtConfig.jwtDecoder();
+            jwtDecoder();
         });
     }
 
@@ -60,7 +93,7 @@ class JwtConfigTest {
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            jwtConfig.jwtDecoder();
+            jwtDecoder();
         });
         assertTrue(exception.getMessage().contains("Falha ao carregar ou parsear"));
     }
@@ -72,7 +105,7 @@ class JwtConfigTest {
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> {
-            jwtConfig.jwtDecoder();
+            jwtDecoder();
         });
     }
 
@@ -83,7 +116,59 @@ class JwtConfigTest {
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> {
-            jwtConfig.jwtDecoder();
+            jwtDecoder();
         });
     }
+
+    @Test
+    void testJwtDecoderVerifiesTokenSignedByKeyInJwkSet() throws Exception {
+        // Arrange
+        RSAKey current = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        RSAKey previous = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        ReflectionTestUtils.setField(jwtConfig, "jwkJson",
+            "{\"keys\":[" + previous.toPublicJWK().toJSONString() + "," + current.toPublicJWK().toJSONString() + "]}");
+
+        // Act
+        Jwt jwt = jwtDecoder().decode(sign(current));
+
+        // Assert
+        assertEquals("user-123", jwt.getSubject());
+    }
+
+    @Test
+    void testJwkKeySelectorUsesSecretsManagerWhenEnabled() {
+        // Arrange
+        AwsClientBuilderConfigurer configurer = mock(AwsClientBuilderConfigurer.class);
+        when(awsClientBuilderConfigurerProvider.getObject()).thenReturn(configurer);
+        when(configurer.configure(any(SecretsManagerClientBuilder.class))).thenAnswer(invocation ->
+            invocation.<SecretsManagerClientBuilder>getArgument(0)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(AnonymousCredentialsProvider.create()));
+        ReflectionTestUtils.setField(jwtConfig, "jwkJson", validJwkJson);
+        ReflectionTestUtils.setField(jwtConfig, "jwkSecretId", "secret-id");
+        ReflectionTestUtils.setField(jwtConfig, "secretsManagerEnabled", true);
+
+        // Act
+        RotatingJwkKeySelector keySelector = jwtConfig.jwkKeySelector(awsClientBuilderConfigurerProvider);
+
+        // Assert
+        assertNotNull(keySelector);
+        verify(configurer).configure(any(SecretsManagerClientBuilder.class));
+    }
+
+    private JwtDecoder jwtDecoder() {
+        return jwtConfig.jwtDecoder(jwtConfig.jwkKeySelector(awsClientBuilderConfigurerProvider));
+    }
+
+    private String sign(RSAKey rsaKey) throws Exception {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .subject("user-123")
+            .issueTime(Date.from(now))
+            .expirationTime(Date.from(now.plus(1, ChronoUnit.HOURS)))
+            .build();
+        SignedJWT signedJwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(rsaKey.getKeyID()).build(), claims);
+        signedJwt.sign(new RSASSASigner(rsaKey));
+        return signedJwt.serialize();
+    }
 }
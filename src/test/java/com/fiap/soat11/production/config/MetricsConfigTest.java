@@ -0,0 +1,78 @@
+package com.fiap.soat11.production.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fiap.soat11.production.entity.Production;
+import com.fiap.soat11.production.service.AdaptiveConcurrencyLimiter;
+import com.fiap.soat11.production.service.InMemoryProductionChangeChannel;
+import com.fiap.soat11.production.service.PendingProductionView;
+import com.fiap.soat11.production.service.ProductionEventStreamService;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MetricsConfigTest {
+
+    private final MetricsConfig config = new MetricsConfig();
+
+    @Test
+    void testLatencyFilterPublishesPercentilesForServiceTimers() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(config.latencyDistributionMeterFilter());
+
+        // Act
+        Timer serviceTimer = registry.timer(ProductionConstants.METRIC_STATUS_UPDATE);
+        Timer otherTimer = registry.timer("http.server.requests");
+
+        // Assert
+        List<Double> percentiles = java.util.Arrays.stream(serviceTimer.takeSnapshot().percentileValues())
+            .map(ValueAtPercentile::percentile)
+            .toList();
+        assertEquals(List.of(0.5, 0.99), percentiles);
+        assertEquals(0, otherTimer.takeSnapshot().percentileValues().length);
+    }
+
+    @Test
+    void testPendingProductionGauges() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        ProductionEventStreamService streamService = new ProductionEventStreamService(view, 1000L, 16);
+        Production production = new Production();
+        production.setId("prod-1");
+        production.setStatus(ProductionConstants.PRODUCTION_STATUS_RECEIVED);
+        production.setUpdatedAt(1000L);
+
+        try {
+            // Act
+            config.pendingProductionMetrics(view, streamService).bindTo(registry);
+            view.upsert(production);
+
+            // Assert
+            assertEquals(1.0, registry.get(ProductionConstants.METRIC_PENDING_COUNT).gauge().value());
+            assertEquals(0.0, registry.get(ProductionConstants.METRIC_STREAM_SUBSCRIBERS).gauge().value());
+        } finally {
+            streamService.destroy();
+        }
+    }
+
+    @Test
+    void testConsumerConcurrencyLimitGauge() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 10, 250, 0.5);
+
+        // Act
+        config.consumerConcurrencyMetrics(limiter).bindTo(registry);
+        limiter.onSample(java.time.Duration.ofMillis(10), true);
+
+        // Assert
+        assertEquals(5.0, registry.get(ProductionConstants.METRIC_CONSUMER_CONCURRENCY_LIMIT).gauge().value());
+    }
+}
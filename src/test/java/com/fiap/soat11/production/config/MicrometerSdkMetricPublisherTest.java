@@ -0,0 +1,79 @@
+package com.fiap.soat11.production.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+class MicrometerSdkMetricPublisherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MicrometerSdkMetricPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new MicrometerSdkMetricPublisher(meterRegistry);
+    }
+
+    @Test
+    void testPublishRecordsApiCallDurationWithTags() {
+        // Arrange
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+        collector.reportMetric(CoreMetric.OPERATION_NAME, "TransactWriteItems");
+        collector.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, true);
+        collector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(12));
+        collector.reportMetric(CoreMetric.RETRY_COUNT, 0);
+
+        // Act
+        publisher.publish(collector.collect());
+
+        // Assert
+        Timer timer = meterRegistry.get(ProductionConstants.METRIC_AWS_API_CALL)
+            .tag("service", "DynamoDB")
+            .tag("operation", "TransactWriteItems")
+            .tag("outcome", "success")
+            .timer();
+        assertEquals(1, timer.count());
+        assertEquals(12.0, timer.totalTime(TimeUnit.MILLISECONDS));
+        assertNull(meterRegistry.find(ProductionConstants.METRIC_AWS_API_RETRIES).counter());
+    }
+
+    @Test
+    void testPublishCountsRetriesAndFailures() {
+        // Arrange
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.SERVICE_ID, "SQS");
+        collector.reportMetric(CoreMetric.OPERATION_NAME, "SendMessageBatch");
+        collector.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, false);
+        collector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(300));
+        collector.reportMetric(CoreMetric.RETRY_COUNT, 2);
+
+        // Act
+        publisher.publish(collector.collect());
+
+        // Assert
+        assertEquals(1, meterRegistry.get(ProductionConstants.METRIC_AWS_API_CALL).tag("outcome", "error").timer().count());
+        assertEquals(2.0, meterRegistry.get(ProductionConstants.METRIC_AWS_API_RETRIES)
+            .tag("service", "SQS").tag("operation", "SendMessageBatch").counter().count());
+    }
+
+    @Test
+    void testPublishWithoutDurationRecordsNothing() {
+        // Act
+        publisher.publish(MetricCollector.create("ApiCall").collect());
+
+        // Assert
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
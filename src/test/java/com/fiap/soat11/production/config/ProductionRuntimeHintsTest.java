@@ -0,0 +1,68 @@
+package com.fiap.soat11.production.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.ReflectionHintsPredicates;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import com.fiap.soat11.production.consumer.ProductionBatchServiceConsumer;
+import com.fiap.soat11.production.consumer.ProductionServiceConsumer;
+import com.fiap.soat11.production.dto.ErrorResponse;
+import com.fiap.soat11.production.dto.ProductionEventDTO;
+import com.fiap.soat11.production.dto.ProductionPageDTO;
+import com.fiap.soat11.production.entity.Customer;
+import com.fiap.soat11.production.entity.OrderItem;
+import com.fiap.soat11.production.entity.OutboxMessage;
+import com.fiap.soat11.production.entity.Production;
+
+class ProductionRuntimeHintsTest {
+
+    private final ReflectionHintsPredicates reflection = RuntimeHintsPredicates.reflection();
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new ProductionRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testRegistersResponseBodiesForJsonBinding() {
+        // Assert
+        assertTrue(reflection.onMethodInvocation(Production.class, "getOrderID").test(hints));
+        assertTrue(reflection.onMethodInvocation(ProductionPageDTO.class, "getNextCursor").test(hints));
+        assertTrue(reflection.onMethodInvocation(ProductionEventDTO.class, "getType").test(hints));
+        assertTrue(reflection.onMethodInvocation(ErrorResponse.class, "getMessage").test(hints));
+    }
+
+    @Test
+    void testRegistersNestedEntitiesOfResponseBodies() {
+        // Assert
+        assertTrue(reflection.onMethodInvocation(Customer.class, "getName").test(hints));
+        assertTrue(reflection.onMethodInvocation(OrderItem.class, "getQuantity").test(hints));
+    }
+
+    @Test
+    void testRegistersEntitiesWithTableNameAnnotation() {
+        // Assert
+        assertTrue(reflection.onType(Production.class).test(hints));
+        assertTrue(reflection.onType(OutboxMessage.class).test(hints));
+    }
+
+    @Test
+    void testRegistersSqsListenerMethodsForInvocation() {
+        // Assert
+        assertTrue(reflection.onMethodInvocation(ProductionServiceConsumer.class, "listen").test(hints));
+        assertTrue(reflection.onMethodInvocation(ProductionBatchServiceConsumer.class, "listen").test(hints));
+    }
+
+    @Test
+    void testRegistersLogbackSamplingFilterForConfiguration() {
+        // Assert
+        assertTrue(reflection.onMethodInvocation(SamplingTurboFilter.class, "setRate").test(hints));
+    }
+}
@@ -0,0 +1,198 @@
+package com.fiap.soat11.production.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.Key;
+import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+
+class RotatingJwkKeySelectorTest {
+
+    private static RSAKey key1;
+    private static RSAKey key2;
+    private static RSAKey keyWithoutKid;
+
+    private AtomicReference<String> sourceJwk;
+    private RotatingJwkKeySelector selector;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        key1 = new RSAKeyGenerator(2048).keyID("key-1").generate().toPublicJWK();
+        key2 = new RSAKeyGenerator(2048).keyID("key-2").generate().toPublicJWK();
+        keyWithoutKid = new RSAKeyGenerator(2048).generate().toPublicJWK();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sourceJwk = new AtomicReference<>(jwkSet(key1));
+        selector = new RotatingJwkKeySelector(jwkSet(key1), () -> sourceJwk.get());
+    }
+
+    @Test
+    void testSelectsKeyByKid() throws Exception {
+        // Arrange
+        selector = new RotatingJwkKeySelector(jwkSet(key1, key2), () -> null);
+
+        // Act
+        List<? extends Key> keys = selector.selectJWSKeys(header("key-2"), null);
+
+        // Assert
+        assertEquals(List.of(key2.toRSAPublicKey()), keys);
+    }
+
+    @Test
+    void testReturnsNoKeyForUnknownKid() {
+        // Act
+        List<? extends Key> keys = selector.selectJWSKeys(header("unknown"), null);
+
+        // Assert
+        assertTrue(keys.isEmpty());
+    }
+
+    @Test
+    void testReturnsAllKeysWhenHeaderHasNoKid() throws Exception {
+        // Arrange
+        selector = new RotatingJwkKeySelector(jwkSet(key1, key2), () -> null);
+
+        // Act
+        List<? extends Key> keys = selector.selectJWSKeys(header(null), null);
+
+        // Assert
+        assertEquals(List.of(key1.toRSAPublicKey(), key2.toRSAPublicKey()), keys);
+    }
+
+    @Test
+    void testSingleJwkWithoutKidMatchesAnyKid() throws Exception {
+        // Arrange
+        selector = new RotatingJwkKeySelector(keyWithoutKid.toJSONString(), () -> null);
+
+        // Act
+        List<? extends Key> keys = selector.selectJWSKeys(header("issuer-kid"), null);
+
+        // Assert
+        assertEquals(List.of(keyWithoutKid.toRSAPublicKey()), keys);
+    }
+
+    @Test
+    void testRejectsAlgorithmOtherThanRs256() {
+        // Act
+        List<? extends Key> keys = selector.selectJWSKeys(new JWSHeader.Builder(JWSAlgorithm.HS256).keyID("key-1").build(), null);
+
+        // Assert
+        assertTrue(keys.isEmpty());
+    }
+
+    @Test
+    void testIgnoresEncryptionKeys() throws Exception {
+        // Arrange
+        RSAKey encryptionKey = new RSAKey.Builder(key2).keyUse(KeyUse.ENCRYPTION).build();
+        selector = new RotatingJwkKeySelector(jwkSet(key1, encryptionKey), () -> null);
+
+        // Act
+        List<? extends Key> keys = selector.selectJWSKeys(header("key-2"), null);
+
+        // Assert
+        assertTrue(keys.isEmpty());
+    }
+
+    @Test
+    void testConstructorRejectsInvalidJwk() {
+        // Act & Assert
+        assertThrows(ParseException.class, () -> new RotatingJwkKeySelector("{invalid json}", () -> null));
+        assertThrows(ParseException.class, () -> new RotatingJwkKeySelector("", () -> null));
+        assertThrows(ParseException.class, () -> new RotatingJwkKeySelector("{\"keys\":[]}", () -> null));
+    }
+
+    @Test
+    void testRefreshSwapsKeysFromSource() {
+        // Arrange
+        sourceJwk.set(jwkSet(key1, key2));
+
+        // Act
+        boolean refreshed = selector.refresh();
+
+        // Assert
+        assertTrue(refreshed);
+        assertEquals(1, selector.selectJWSKeys(header("key-2"), null).size());
+    }
+
+    @Test
+    void testRefreshWithSameKeysKeepsCurrentSet() {
+        // Act
+        boolean refreshed = selector.refresh();
+
+        // Assert
+        assertFalse(refreshed);
+    }
+
+    @Test
+    void testRefreshKeepsCurrentKeysWhenSourceFails() throws Exception {
+        // Arrange
+        selector = new RotatingJwkKeySelector(jwkSet(key1), () -> {
+            throw new IllegalStateException("Secrets Manager indisponível");
+        });
+
+        // Act
+        boolean refreshed = selector.refresh();
+
+        // Assert
+        assertFalse(refreshed);
+        assertEquals(1, selector.selectJWSKeys(header("key-1"), null).size());
+    }
+
+    @Test
+    void testRefreshKeepsCurrentKeysWhenSourceReturnsInvalidJwk() {
+        // Arrange
+        sourceJwk.set("{invalid json}");
+
+        // Act
+        boolean refreshed = selector.refresh();
+
+        // Assert
+        assertFalse(refreshed);
+        assertEquals(1, selector.selectJWSKeys(header("key-1"), null).size());
+    }
+
+    @Test
+    void testNotifiesListenerOnlyWhenKeyIsRemoved() {
+        // Arrange
+        AtomicInteger notifications = new AtomicInteger();
+        selector.onKeysRemoved(notifications::incrementAndGet);
+
+        // Act
+        sourceJwk.set(jwkSet(key1, key2));
+        selector.refresh();
+        int afterAdding = notifications.get();
+        sourceJwk.set(jwkSet(key2));
+        selector.refresh();
+
+        // Assert
+        assertEquals(0, afterAdding);
+        assertEquals(1, notifications.get());
+        assertTrue(selector.selectJWSKeys(header("key-1"), null).isEmpty());
+    }
+
+    private static JWSHeader header(String kid) {
+        return new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(kid).build();
+    }
+
+    private static String jwkSet(RSAKey... keys) {
+        StringBuilder json = new StringBuilder("{\"keys\":[");
+        for (int i = 0; i < keys.length; i++) {
+            json.append(i > 0 ? "," : "").append(keys[i].toJSONString());
+        }
+        return json.append("]}").toString();
+    }
+}
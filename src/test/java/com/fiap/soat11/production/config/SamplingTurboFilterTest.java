@@ -0,0 +1,79 @@
+package com.fiap.soat11.production.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+
+class SamplingTurboFilterTest {
+
+    private Logger logger;
+
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        logger = new LoggerContext().getLogger("sampled");
+        logger.setLevel(Level.DEBUG);
+        filter = new SamplingTurboFilter();
+        filter.setRate(10);
+    }
+
+    @Test
+    void testKeepsOneInRateDebugEvents() {
+        // Act
+        long kept = IntStream.range(0, 100)
+            .mapToObj(i -> filter.decide(null, logger, Level.DEBUG, "Production {} created", null, null))
+            .filter(reply -> reply == FilterReply.NEUTRAL)
+            .count();
+
+        // Assert
+        assertEquals(10, kept);
+    }
+
+    @Test
+    void testNeverSamplesWarnOrError() {
+        // Act & Assert
+        for (int i = 0; i < 20; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.WARN, "Slow write", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.ERROR, "Write failed", null, null));
+        }
+    }
+
+    @Test
+    void testLevelChecksAndDisabledLevelsDoNotConsumeTheSample() {
+        // Arrange
+        logger.setLevel(Level.INFO);
+
+        // Act
+        FilterReply disabled = filter.decide(null, logger, Level.DEBUG, "Production {} created", null, null);
+        logger.setLevel(Level.DEBUG);
+        FilterReply levelCheck = filter.decide(null, logger, Level.DEBUG, null, null, null);
+        FilterReply first = filter.decide(null, logger, Level.DEBUG, "Production {} created", null, null);
+        FilterReply second = filter.decide(null, logger, Level.DEBUG, "Production {} created", null, null);
+
+        // Assert
+        assertEquals(FilterReply.NEUTRAL, disabled);
+        assertEquals(FilterReply.NEUTRAL, levelCheck);
+        assertEquals(FilterReply.NEUTRAL, first);
+        assertEquals(FilterReply.DENY, second);
+    }
+
+    @Test
+    void testRateOfOneKeepsEverything() {
+        // Arrange
+        filter.setRate(1);
+
+        // Act & Assert
+        for (int i = 0; i < 20; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.DEBUG, "Production {} created", null, null));
+        }
+    }
+}
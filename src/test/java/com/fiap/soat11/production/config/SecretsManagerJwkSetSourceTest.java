@@ -0,0 +1,75 @@
+package com.fiap.soat11.production.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
+
+@ExtendWith(MockitoExtension.class)
+class SecretsManagerJwkSetSourceTest {
+
+    private static final String SECRET_KEY = "fase4.production.service.auth.jwk";
+    private static final String JWK = "{\"kty\":\"RSA\",\"e\":\"AQAB\",\"n\":\"abc\"}";
+
+    @Mock
+    private SecretsManagerClient secretsManagerClient;
+
+    private SecretsManagerJwkSetSource source;
+
+    @BeforeEach
+    void setUp() {
+        source = new SecretsManagerJwkSetSource(secretsManagerClient, "secret-id", SECRET_KEY);
+    }
+
+    @Test
+    void testLoadsJwkStoredAsText() throws Exception {
+        // Arrange
+        mockSecret("{\"" + SECRET_KEY + "\":\"" + JWK.replace("\"", "\\\"") + "\",\"other\":\"value\"}");
+
+        // Act
+        String jwk = source.load();
+
+        // Assert
+        assertEquals(JWK, jwk);
+        ArgumentCaptor<GetSecretValueRequest> captor = ArgumentCaptor.forClass(GetSecretValueRequest.class);
+        verify(secretsManagerClient).getSecretValue(captor.capture());
+        assertEquals("secret-id", captor.getValue().secretId());
+    }
+
+    @Test
+    void testLoadsJwkStoredAsObject() throws Exception {
+        // Arrange
+        mockSecret("{\"" + SECRET_KEY + "\":" + JWK + "}");
+
+        // Act
+        String jwk = source.load();
+
+        // Assert
+        assertEquals(JWK, jwk);
+    }
+
+    @Test
+    void testThrowsWhenSecretHasNoJwk() {
+        // Arrange
+        mockSecret("{\"other\":\"value\"}");
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> source.load());
+        assertTrue(exception.getMessage().contains(SECRET_KEY));
+    }
+
+    private void mockSecret(String secretString) {
+        when(secretsManagerClient.getSecretValue(any(GetSecretValueRequest.class)))
+            .thenReturn(GetSecretValueResponse.builder().secretString(secretString).build());
+    }
+}
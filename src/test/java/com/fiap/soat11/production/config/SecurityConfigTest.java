@@ -8,9 +8,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -148,4 +150,30 @@ class SecurityConfigTest {
         assertNotNull(mapper2);
         assertNotNull(mapper3);
     }
+
+    @Test
+    void testPrometheusIsPublicOnlyOnManagementPort() {
+        // Arrange
+        RequestMatcher matcher = SecurityConfig.managementEndpoint(8081, "/actuator/prometheus");
+
+        // Act & Assert
+        assertTrue(matcher.matches(request(8081, "/actuator/prometheus")));
+        assertFalse(matcher.matches(request(8080, "/actuator/prometheus")));
+        assertFalse(matcher.matches(request(8081, "/actuator/env")));
+    }
+
+    @Test
+    void testPrometheusIsNeverPublicWithoutManagementPort() {
+        // Arrange
+        RequestMatcher matcher = SecurityConfig.managementEndpoint(-1, "/actuator/prometheus");
+
+        // Act & Assert
+        assertFalse(matcher.matches(request(8080, "/actuator/prometheus")));
+    }
+
+    private static MockHttpServletRequest request(int localPort, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setLocalPort(localPort);
+        return request;
+    }
 }
@@ -0,0 +1,87 @@
+package com.fiap.soat11.production.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import com.fiap.soat11.production.consumer.AdaptiveBackPressureHandler;
+import com.fiap.soat11.production.service.AdaptiveConcurrencyLimiter;
+
+import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.ContainerOptions;
+import io.awspring.cloud.sqs.listener.SqsMessageListenerContainer;
+import io.awspring.cloud.sqs.listener.SqsContainerOptionsBuilder;
+import io.awspring.cloud.sqs.listener.backpressure.BackPressureHandlerFactory;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+
+class SqsListenerConfigTest {
+
+    private BeanPostProcessor postProcessor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<AdaptiveConcurrencyLimiter> limiterProvider = mock(ObjectProvider.class);
+        when(limiterProvider.getObject()).thenReturn(new AdaptiveConcurrencyLimiter(1, 10, 250, 0.9));
+        postProcessor = SqsListenerConfig.adaptiveBackPressurePostProcessor(limiterProvider);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testConfiguresAdaptiveBackPressureOnListenerContainerFactory() {
+        // Arrange
+        SqsMessageListenerContainerFactory<Object> factory = mock(SqsMessageListenerContainerFactory.class);
+        SqsContainerOptionsBuilder optionsBuilder = mock(SqsContainerOptionsBuilder.class);
+        ContainerOptions<?, ?> containerOptions = mock(ContainerOptions.class);
+        when(containerOptions.getMaxConcurrentMessages()).thenReturn(10);
+        when(containerOptions.getMaxMessagesPerPoll()).thenReturn(10);
+        when(containerOptions.getMaxDelayBetweenPolls()).thenReturn(Duration.ofSeconds(10));
+
+        // Act
+        Object result = postProcessor.postProcessAfterInitialization(factory, "defaultSqsListenerContainerFactory");
+
+        // Assert
+        assertSame(factory, result);
+        ArgumentCaptor<Consumer<SqsContainerOptionsBuilder>> configurer = ArgumentCaptor.forClass(Consumer.class);
+        verify(factory).configure(configurer.capture());
+        configurer.getValue().accept(optionsBuilder);
+
+        ArgumentCaptor<BackPressureHandlerFactory> handlerFactory = ArgumentCaptor.forClass(BackPressureHandlerFactory.class);
+        verify(optionsBuilder).backPressureHandlerFactory(handlerFactory.capture());
+        assertInstanceOf(AdaptiveBackPressureHandler.class, handlerFactory.getValue().createBackPressureHandler(containerOptions));
+    }
+
+    @Test
+    void testContainersCreatedByFactoryUseAdaptiveBackPressure() {
+        // Arrange
+        SqsMessageListenerContainerFactory<Object> factory = SqsMessageListenerContainerFactory.builder()
+            .sqsAsyncClient(mock(SqsAsyncClient.class))
+            .build();
+        postProcessor.postProcessAfterInitialization(factory, "defaultSqsListenerContainerFactory");
+
+        // Act
+        SqsMessageListenerContainer<Object> container = factory.createContainer(ProductionConstants.SQS_QUEUE_NAME);
+
+        // Assert
+        ContainerOptions<?, ?> options = container.getContainerOptions();
+        assertInstanceOf(AdaptiveBackPressureHandler.class,
+            options.getBackPressureHandlerFactory().createBackPressureHandler(options));
+    }
+
+    @Test
+    void testLeavesOtherBeansUntouched() {
+        // Arrange
+        Object bean = new Object();
+
+        // Act & Assert
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "other"));
+    }
+}
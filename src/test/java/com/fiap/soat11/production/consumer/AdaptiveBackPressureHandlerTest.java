@@ -0,0 +1,178 @@
+package com.fiap.soat11.production.consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.fiap.soat11.production.service.AdaptiveConcurrencyLimiter;
+
+import io.awspring.cloud.sqs.listener.ContainerOptions;
+import io.awspring.cloud.sqs.listener.backpressure.BackPressureHandler.ReleaseReason;
+
+class AdaptiveBackPressureHandlerTest {
+
+    private static final Duration SHORT_TIMEOUT = Duration.ofMillis(20);
+
+    @Test
+    void testRequestBatchGrantsFullBatchWhenLimitAllows() throws Exception {
+        // Arrange
+        AdaptiveBackPressureHandler handler = handler(limiter(10), 10, 10);
+
+        // Act
+        int granted = handler.requestBatch();
+
+        // Assert
+        assertEquals(10, granted);
+        assertEquals(10, handler.getInFlight());
+    }
+
+    @Test
+    void testRequestBatchShrinksToRemainingLimit() throws Exception {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+        AdaptiveBackPressureHandler handler = handler(limiter, 10, 10);
+        handler.request(3);
+
+        // Act
+        int granted = handler.requestBatch();
+
+        // Assert
+        assertEquals(1, granted);
+        assertEquals(4, handler.getInFlight());
+    }
+
+    @Test
+    void testContainerMaxConcurrentMessagesCapsLimit() throws Exception {
+        // Arrange
+        AdaptiveBackPressureHandler handler = handler(limiter(10), 5, 10);
+
+        // Act
+        int granted = handler.requestBatch();
+
+        // Assert
+        assertEquals(5, granted);
+    }
+
+    @Test
+    void testRequestReturnsZeroAfterTimeoutWhenFull() throws Exception {
+        // Arrange
+        AdaptiveBackPressureHandler handler = handler(limiter(2), 10, 10);
+        handler.requestBatch();
+
+        // Act
+        int granted = handler.requestBatch();
+
+        // Assert
+        assertEquals(0, granted);
+        assertEquals(2, handler.getInFlight());
+    }
+
+    @Test
+    void testReleaseFreesPermits() throws Exception {
+        // Arrange
+        AdaptiveBackPressureHandler handler = handler(limiter(2), 10, 10);
+        handler.requestBatch();
+
+        // Act
+        handler.release(1, ReleaseReason.PROCESSED);
+        int granted = handler.requestBatch();
+
+        // Assert
+        assertEquals(1, granted);
+        assertEquals(2, handler.getInFlight());
+    }
+
+    @Test
+    void testWaitingRequestIsGrantedOnRelease() throws Exception {
+        // Arrange
+        AdaptiveBackPressureHandler handler = new AdaptiveBackPressureHandler(limiter(1), 10, 10, Duration.ofSeconds(5));
+        handler.requestBatch();
+
+        // Act
+        CompletableFuture<Integer> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return handler.requestBatch();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        handler.release(1, ReleaseReason.PROCESSED);
+
+        // Assert
+        assertEquals(1, waiting.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testLoweredLimitTakesEffectOnNextPoll() throws Exception {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        AdaptiveBackPressureHandler handler = handler(limiter, 10, 10);
+        handler.request(6);
+        when(limiter.getLimit()).thenReturn(5);
+        handler.release(6, ReleaseReason.PROCESSED);
+
+        // Act
+        int granted = handler.requestBatch();
+
+        // Assert
+        assertEquals(5, granted);
+    }
+
+    @Test
+    void testUnusedPermitsFromPartialFetchAreReleased() throws Exception {
+        // Arrange
+        AdaptiveBackPressureHandler handler = handler(limiter(10), 10, 10);
+        handler.requestBatch();
+
+        // Act
+        handler.release(7, ReleaseReason.PARTIAL_FETCH);
+
+        // Assert
+        assertEquals(3, handler.getInFlight());
+    }
+
+    @Test
+    void testDrainWaitsForInFlightMessages() throws Exception {
+        // Arrange
+        AdaptiveBackPressureHandler handler = handler(limiter(10), 10, 10);
+        handler.request(2);
+
+        // Act & Assert
+        assertFalse(handler.drain(SHORT_TIMEOUT));
+        handler.release(2, ReleaseReason.PROCESSED);
+        assertTrue(handler.drain(SHORT_TIMEOUT));
+    }
+
+    @Test
+    void testUsesContainerOptions() throws Exception {
+        // Arrange
+        ContainerOptions<?, ?> options = mock(ContainerOptions.class);
+        when(options.getMaxConcurrentMessages()).thenReturn(8);
+        when(options.getMaxMessagesPerPoll()).thenReturn(3);
+        when(options.getMaxDelayBetweenPolls()).thenReturn(SHORT_TIMEOUT);
+        AdaptiveBackPressureHandler handler = new AdaptiveBackPressureHandler(limiter(10), options);
+
+        // Act
+        int granted = handler.requestBatch();
+
+        // Assert
+        assertEquals(3, granted);
+        assertEquals(3, handler.getBatchSize());
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int limit) {
+        AdaptiveConcurrencyLimiter limiter = mock(AdaptiveConcurrencyLimiter.class);
+        when(limiter.getLimit()).thenReturn(limit);
+        return limiter;
+    }
+
+    private static AdaptiveBackPressureHandler handler(AdaptiveConcurrencyLimiter limiter, int maxConcurrentMessages, int maxMessagesPerPoll) {
+        return new AdaptiveBackPressureHandler(limiter, maxConcurrentMessages, maxMessagesPerPoll, SHORT_TIMEOUT);
+    }
+}
@@ -0,0 +1,72 @@
+package com.fiap.soat11.production.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.fiap.soat11.production.service.ProductionConsumerService;
+
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement;
+
+@ExtendWith(MockitoExtension.class)
+class ProductionBatchServiceConsumerTest {
+
+    @Mock
+    private ProductionConsumerService productionConsumerService;
+
+    @Mock
+    private BatchAcknowledgement<String> acknowledgement;
+
+    private ProductionBatchServiceConsumer productionBatchServiceConsumer;
+
+    @BeforeEach
+    void setUp() {
+        productionBatchServiceConsumer = new ProductionBatchServiceConsumer(productionConsumerService);
+    }
+
+    @Test
+    void testListenAcknowledgesOnlyPersistedMessages() {
+        // Arrange
+        Message<String> persistedMessage = MessageBuilder.withPayload("{\"meta\":{\"event_id\":\"event-1\"}}").build();
+        Message<String> failedMessage = MessageBuilder.withPayload("{\"meta\":{\"event_id\":\"event-2\"}}").build();
+        Set<String> persisted = Collections.newSetFromMap(new IdentityHashMap<>());
+        persisted.add(persistedMessage.getPayload());
+
+        when(productionConsumerService.handleJsonBatch(List.of(persistedMessage.getPayload(), failedMessage.getPayload())))
+            .thenReturn(persisted);
+
+        // Act
+        productionBatchServiceConsumer.listen(List.of(persistedMessage, failedMessage), acknowledgement);
+
+        // Assert
+        verify(acknowledgement).acknowledge(List.of(persistedMessage));
+    }
+
+    @Test
+    void testListenDoesNotAcknowledgeWhenNothingPersisted() {
+        // Arrange
+        Message<String> message = MessageBuilder.withPayload("{}").build();
+        when(productionConsumerService.handleJsonBatch(any())).thenReturn(Collections.emptySet());
+
+        // Act
+        productionBatchServiceConsumer.listen(List.of(message), acknowledgement);
+
+        // Assert
+        verify(acknowledgement, never()).acknowledge(anyCollection());
+    }
+}
@@ -1,8 +1,10 @@
 package com.fiap.soat11.production.consumer;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,14 +12,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.fiap.soat11.production.dto.ConsumeDTO;
-import com.fiap.soat11.production.dto.CustomerDTO;
-import com.fiap.soat11.production.dto.ItensDTO;
-import com.fiap.soat11.production.dto.PayloadDTO;
 import com.fiap.soat11.production.service.ProductionConsumerService;
 
-import java.util.Arrays;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @ExtendWith(MockitoExtension.class)
 class ProductionServiceConsumerTest {
@@ -35,109 +33,72 @@ class ProductionServiceConsumerTest {
     @Test
     void testListenCallsConsumerService() {
         // Arrange
-        ConsumeDTO message = createValidConsumeDTO();
+        String body = createValidBody("Test Customer", "{\"name\":\"Test Item\"}");
 
         // Act
-        productionServiceConsumer.listen(message);
+        productionServiceConsumer.listen(body);
 
         // Assert
-        verify(productionConsumerService, times(1)).handle(message);
+        verify(productionConsumerService, times(1)).handleJsonAsync(body);
     }
 
     @Test
     void testListenWithMultipleMessages() {
         // Arrange
-        ConsumeDTO message1 = createValidConsumeDTO();
-        ConsumeDTO message2 = createValidConsumeDTO();
+        String body1 = createValidBody("Test Customer", "{\"name\":\"Test Item\"}");
+        String body2 = createValidBody("Test Customer", "{\"name\":\"Test Item\"}");
 
         // Act
-        productionServiceConsumer.listen(message1);
-        productionServiceConsumer.listen(message2);
+        productionServiceConsumer.listen(body1);
+        productionServiceConsumer.listen(body2);
 
         // Assert
-        verify(productionConsumerService, times(2)).handle(any(ConsumeDTO.class));
+        verify(productionConsumerService, times(2)).handleJsonAsync(anyString());
     }
 
     @Test
-    void testListenWithDifferentPayloads() {
+    void testListenWithMultipleItems() {
         // Arrange
-        ConsumeDTO message = new ConsumeDTO();
-        PayloadDTO payload = new PayloadDTO();
-        payload.setId(UUID.randomUUID());
-        
-        CustomerDTO customer = new CustomerDTO();
-        customer.setName("Jane Smith");
-        payload.setCustomer(customer);
-        
-        ItensDTO item = new ItensDTO();
-        item.setName("Product ABC");
-        payload.setItens(Arrays.asList(item));
-        
-        message.setPayload(payload);
+        String body = createValidBody("Customer A",
+            "{\"name\":\"Item 1\",\"quantity\":2},{\"name\":\"Item 2\",\"quantity\":3}");
 
         // Act
-        productionServiceConsumer.listen(message);
+        productionServiceConsumer.listen(body);
 
         // Assert
-        verify(productionConsumerService, times(1)).handle(message);
+        verify(productionConsumerService, times(1)).handleJsonAsync(body);
     }
 
     @Test
-    void testListenProcessesMessageCorrectly() {
+    void testListenPassesInvalidBodyToConsumerService() {
         // Arrange
-        ConsumeDTO message = createValidConsumeDTO();
+        String body = "not json";
 
         // Act
-        productionServiceConsumer.listen(message);
+        productionServiceConsumer.listen(body);
 
         // Assert
-        verify(productionConsumerService).handle(any(ConsumeDTO.class));
+        verify(productionConsumerService).handleJsonAsync(body);
     }
 
     @Test
-    void testListenWithMultipleItems() {
+    void testListenReturnsFutureFromConsumerService() {
         // Arrange
-        ConsumeDTO message = new ConsumeDTO();
-        PayloadDTO payload = new PayloadDTO();
-        payload.setId(UUID.randomUUID());
-        
-        CustomerDTO customer = new CustomerDTO();
-        customer.setName("Customer A");
-        payload.setCustomer(customer);
-        
-        ItensDTO item1 = new ItensDTO();
-        item1.setName("Item 1");
-        item1.setQuantity(2);
-        
-        ItensDTO item2 = new ItensDTO();
-        item2.setName("Item 2");
-        item2.setQuantity(3);
-        
-        payload.setItens(Arrays.asList(item1, item2));
-        message.setPayload(payload);
+        String body = createValidBody("Test Customer", "{\"name\":\"Test Item\"}");
+        CompletableFuture<Void> handled = new CompletableFuture<>();
+        when(productionConsumerService.handleJsonAsync(body)).thenReturn(handled);
 
         // Act
-        productionServiceConsumer.listen(message);
+        CompletableFuture<Void> result = productionServiceConsumer.listen(body);
 
         // Assert
-        verify(productionConsumerService, times(1)).handle(message);
+        assertSame(handled, result);
     }
 
-    private ConsumeDTO createValidConsumeDTO() {
-        ConsumeDTO consumeDTO = new ConsumeDTO();
-        
-        PayloadDTO payload = new PayloadDTO();
-        payload.setId(UUID.randomUUID());
-        
-        CustomerDTO customer = new CustomerDTO();
-        customer.setName("Test Customer");
-        payload.setCustomer(customer);
-        
-        ItensDTO item = new ItensDTO();
-        item.setName("Test Item");
-        payload.setItens(Arrays.asList(item));
-        
-        consumeDTO.setPayload(payload);
-        return consumeDTO;
+    private String createValidBody(String customerName, String items) {
+        return "{\"meta\":{\"event_id\":\"" + UUID.randomUUID() + "\"},"
+            + "\"payload\":{\"id\":\"" + UUID.randomUUID() + "\","
+            + "\"customer\":{\"name\":\"" + customerName + "\"},"
+            + "\"itens\":[" + items + "]}}";
     }
 }
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,12 +16,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fiap.soat11.production.config.ProductionConstants;
 import com.fiap.soat11.production.dto.ErrorResponse;
+import com.fiap.soat11.production.dto.ProductionPageDTO;
 import com.fiap.soat11.production.entity.Customer;
 import com.fiap.soat11.production.entity.OrderItem;
 import com.fiap.soat11.production.entity.Production;
 import com.fiap.soat11.production.exception.ProductionException;
+import com.fiap.soat11.production.exception.ProductionStatusConflictException;
+import com.fiap.soat11.production.service.ProductionEventStreamService;
 import com.fiap.soat11.production.service.ProductionProducerService;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,12 +35,15 @@ class ProductionControllerTest {
     @Mock
     private ProductionProducerService productionProducerService;
 
+    @Mock
+    private ProductionEventStreamService productionEventStreamService;
+
     private ProductionController controller;
     private Production testProduction;
 
     @BeforeEach
     void setUp() {
-        controller = new ProductionController(productionProducerService);
+        controller = new ProductionController(productionProducerService, productionEventStreamService);
         
         Customer customer = new Customer();
         customer.setName("John Doe");
@@ -57,17 +66,17 @@ class ProductionControllerTest {
         String productionId = "prod-123";
         testProduction.setStatus("STARTED");
         
-        when(productionProducerService.updateStatusAndPublish(productionId, "STARTED"))
-            .thenReturn(testProduction);
+        when(productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED"))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
 
         // Act
-        ResponseEntity<?> response = controller.updateProductionStatusToStarted(productionId);
+        ResponseEntity<?> response = controller.updateProductionStatusToStarted(productionId).join();
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(testProduction, response.getBody());
-        verify(productionProducerService, times(1)).updateStatusAndPublish(productionId, "STARTED");
+        verify(productionProducerService, times(1)).updateStatusAndPublishAsync(productionId, "STARTED");
     }
 
     @Test
@@ -76,17 +85,17 @@ class ProductionControllerTest {
         String productionId = "prod-123";
         testProduction.setStatus("COMPLETED");
         
-        when(productionProducerService.updateStatusAndPublish(productionId, "COMPLETED"))
-            .thenReturn(testProduction);
+        when(productionProducerService.updateStatusAndPublishAsync(productionId, "COMPLETED"))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
 
         // Act
-        ResponseEntity<?> response = controller.updateProductionStatusToCompleted(productionId);
+        ResponseEntity<?> response = controller.updateProductionStatusToCompleted(productionId).join();
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(testProduction, response.getBody());
-        verify(productionProducerService, times(1)).updateStatusAndPublish(productionId, "COMPLETED");
+        verify(productionProducerService, times(1)).updateStatusAndPublishAsync(productionId, "COMPLETED");
     }
 
     @Test
@@ -94,11 +103,11 @@ class ProductionControllerTest {
         // Arrange
         String productionId = "prod-123";
         
-        when(productionProducerService.updateStatusAndPublish(productionId, "STARTED"))
-            .thenThrow(new ProductionException("Production not found"));
+        when(productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED"))
+            .thenReturn(CompletableFuture.failedFuture(new ProductionException("Production not found")));
 
         // Act
-        ResponseEntity<?> response = controller.updateProductionStatusToStarted(productionId);
+        ResponseEntity<?> response = controller.updateProductionStatusToStarted(productionId).join();
 
         // Assert
         assertNotNull(response);
@@ -114,11 +123,11 @@ class ProductionControllerTest {
         // Arrange
         String productionId = "prod-123";
         
-        when(productionProducerService.updateStatusAndPublish(productionId, "COMPLETED"))
-            .thenThrow(new ProductionException("Production not found"));
+        when(productionProducerService.updateStatusAndPublishAsync(productionId, "COMPLETED"))
+            .thenReturn(CompletableFuture.failedFuture(new ProductionException("Production not found")));
 
         // Act
-        ResponseEntity<?> response = controller.updateProductionStatusToCompleted(productionId);
+        ResponseEntity<?> response = controller.updateProductionStatusToCompleted(productionId).join();
 
         // Assert
         assertNotNull(response);
@@ -129,16 +138,37 @@ class ProductionControllerTest {
         assertTrue(errorResponse.getMessage().contains("Production not found"));
     }
 
+    @Test
+    void testUpdateProductionStatusToCompletedInvalidTransition() {
+        // Arrange
+        String productionId = "prod-123";
+        
+        when(productionProducerService.updateStatusAndPublishAsync(productionId, "COMPLETED"))
+            .thenReturn(CompletableFuture.failedFuture(
+                new ProductionStatusConflictException("Transição de status inválida: RECEIVED -> COMPLETED")));
+
+        // Act
+        ResponseEntity<?> response = controller.updateProductionStatusToCompleted(productionId).join();
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertInstanceOf(ErrorResponse.class, response.getBody());
+        ErrorResponse errorResponse = (ErrorResponse) response.getBody();
+        assertEquals(409, errorResponse.getStatus());
+        assertTrue(errorResponse.getMessage().contains("RECEIVED -> COMPLETED"));
+    }
+
     @Test
     void testUpdateProductionStatusToStartedGenericException() {
         // Arrange
         String productionId = "prod-123";
         
-        when(productionProducerService.updateStatusAndPublish(productionId, "STARTED"))
-            .thenThrow(new RuntimeException("Database error"));
+        when(productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED"))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Database error")));
 
         // Act
-        ResponseEntity<?> response = controller.updateProductionStatusToStarted(productionId);
+        ResponseEntity<?> response = controller.updateProductionStatusToStarted(productionId).join();
 
         // Assert
         assertNotNull(response);
@@ -154,11 +184,11 @@ class ProductionControllerTest {
         // Arrange
         String productionId = "prod-123";
         
-        when(productionProducerService.updateStatusAndPublish(productionId, "COMPLETED"))
-            .thenThrow(new RuntimeException("Database error"));
+        when(productionProducerService.updateStatusAndPublishAsync(productionId, "COMPLETED"))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Database error")));
 
         // Act
-        ResponseEntity<?> response = controller.updateProductionStatusToCompleted(productionId);
+        ResponseEntity<?> response = controller.updateProductionStatusToCompleted(productionId).join();
 
         // Assert
         assertNotNull(response);
@@ -169,6 +199,25 @@ class ProductionControllerTest {
         assertTrue(errorResponse.getMessage().contains("Database error"));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamProductionsSubscribesWithPendingSnapshot() {
+        // Arrange
+        SseEmitter emitter = new SseEmitter();
+        when(productionEventStreamService.subscribe(any())).thenReturn(emitter);
+        when(productionProducerService.listPendingProductions()).thenReturn(List.of(testProduction));
+
+        // Act
+        SseEmitter result = controller.streamProductions();
+
+        // Assert
+        assertSame(emitter, result);
+        org.mockito.ArgumentCaptor<java.util.function.Supplier<List<Production>>> captor =
+            org.mockito.ArgumentCaptor.forClass(java.util.function.Supplier.class);
+        verify(productionEventStreamService).subscribe(captor.capture());
+        assertEquals(List.of(testProduction), captor.getValue().get());
+    }
+
     @Test
     void testListPendingProductionsSuccess() {
         // Arrange
@@ -188,7 +237,7 @@ class ProductionControllerTest {
             .thenReturn(productionList);
 
         // Act
-        ResponseEntity<?> response = controller.listPendingProductions();
+        ResponseEntity<?> response = controller.listPendingProductions(null);
 
         // Assert
         assertNotNull(response);
@@ -197,6 +246,50 @@ class ProductionControllerTest {
         verify(productionProducerService, times(1)).listPendingProductions();
     }
 
+    @Test
+    void testListPendingProductionsReturnsETag() {
+        // Arrange
+        when(productionProducerService.getPendingProductionsETag()).thenReturn("\"1-abc\"");
+        when(productionProducerService.listPendingProductions()).thenReturn(List.of(testProduction));
+
+        // Act
+        ResponseEntity<?> response = controller.listPendingProductions("\"0-0\"");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"1-abc\"", response.getHeaders().getETag());
+        assertEquals(List.of(testProduction), response.getBody());
+    }
+
+    @Test
+    void testListPendingProductionsNotModifiedWhenETagMatches() {
+        // Arrange
+        when(productionProducerService.getPendingProductionsETag()).thenReturn("\"1-abc\"");
+
+        // Act
+        ResponseEntity<?> response = controller.listPendingProductions("\"0-0\", W/\"1-abc\"");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"1-abc\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(productionProducerService, never()).listPendingProductions();
+    }
+
+    @Test
+    void testListPendingProductionsIgnoresIfNoneMatchWithoutETag() {
+        // Arrange
+        when(productionProducerService.getPendingProductionsETag()).thenReturn(null);
+        when(productionProducerService.listPendingProductions()).thenReturn(List.of(testProduction));
+
+        // Act
+        ResponseEntity<?> response = controller.listPendingProductions("*");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getETag());
+    }
+
     @Test
     void testListPendingProductionsEmptyList() {
         // Arrange
@@ -204,7 +297,7 @@ class ProductionControllerTest {
             .thenReturn(java.util.Collections.emptyList());
 
         // Act
-        ResponseEntity<?> response = controller.listPendingProductions();
+        ResponseEntity<?> response = controller.listPendingProductions(null);
 
         // Assert
         assertNotNull(response);
@@ -221,7 +314,7 @@ class ProductionControllerTest {
             .thenThrow(new ProductionException("Error listing productions"));
 
         // Act
-        ResponseEntity<?> response = controller.listPendingProductions();
+        ResponseEntity<?> response = controller.listPendingProductions(null);
 
         // Assert
         assertNotNull(response);
@@ -239,7 +332,7 @@ class ProductionControllerTest {
             .thenThrow(new RuntimeException("Unexpected error"));
 
         // Act
-        ResponseEntity<?> response = controller.listPendingProductions();
+        ResponseEntity<?> response = controller.listPendingProductions(null);
 
         // Assert
         assertNotNull(response);
@@ -249,4 +342,62 @@ class ProductionControllerTest {
         assertEquals(500, errorResponse.getStatus());
         assertTrue(errorResponse.getMessage().contains("Unexpected error"));
     }
+
+    @Test
+    void testListPendingProductionsPageSuccess() {
+        // Arrange
+        ProductionPageDTO page = new ProductionPageDTO(List.of(testProduction), "next-cursor");
+
+        when(productionProducerService.listPendingProductions(10, null))
+            .thenReturn(page);
+
+        // Act
+        ResponseEntity<?> response = controller.listPendingProductionsPage(10, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+        verify(productionProducerService, times(1)).listPendingProductions(10, null);
+    }
+
+    @Test
+    void testListPendingProductionsPageRejectsInvalidLimit() {
+        // Act
+        ResponseEntity<?> tooSmall = controller.listPendingProductionsPage(0, null);
+        ResponseEntity<?> tooLarge = controller.listPendingProductionsPage(
+            ProductionConstants.PRODUCTION_PAGE_MAX_LIMIT + 1, null);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, tooSmall.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, tooLarge.getStatusCode());
+        verify(productionProducerService, never()).listPendingProductions(anyInt(), any());
+    }
+
+    @Test
+    void testListPendingProductionsPageInvalidCursor() {
+        // Arrange
+        when(productionProducerService.listPendingProductions(10, "invalid"))
+            .thenThrow(new IllegalArgumentException("Cursor inválido"));
+
+        // Act
+        ResponseEntity<?> response = controller.listPendingProductionsPage(10, "invalid");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        ErrorResponse errorResponse = (ErrorResponse) response.getBody();
+        assertEquals(400, errorResponse.getStatus());
+    }
+
+    @Test
+    void testListPendingProductionsPageProductionException() {
+        // Arrange
+        when(productionProducerService.listPendingProductions(10, null))
+            .thenThrow(new ProductionException("Error listing productions"));
+
+        // Act
+        ResponseEntity<?> response = controller.listPendingProductionsPage(10, null);
+
+        // Assert
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
 }
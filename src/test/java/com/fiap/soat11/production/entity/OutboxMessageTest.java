@@ -0,0 +1,35 @@
+package com.fiap.soat11.production.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class OutboxMessageTest {
+
+    @Test
+    void testOutboxMessageCreation() {
+        // Arrange & Act
+        OutboxMessage message = new OutboxMessage("msg-1", "fase4-order-service-queue", "{}", 1000L);
+
+        // Assert
+        assertEquals("msg-1", message.getId());
+        assertEquals("fase4-order-service-queue", message.getQueueName());
+        assertEquals("{}", message.getPayload());
+        assertEquals(1000L, message.getCreatedAt());
+    }
+
+    @Test
+    void testOutboxMessageSetters() {
+        // Arrange
+        OutboxMessage message = new OutboxMessage();
+
+        // Act
+        message.setId("msg-2");
+        message.setPayload("payload");
+
+        // Assert
+        assertEquals("msg-2", message.getId());
+        assertEquals("payload", message.getPayload());
+        assertNull(message.getQueueName());
+    }
+}
@@ -0,0 +1,59 @@
+package com.fiap.soat11.production.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class OutboxTableSchemaTest {
+
+    private final TableSchema<OutboxMessage> beanSchema = TableSchema.fromBean(OutboxMessage.class);
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testItemToMapMatchesBeanSchema(boolean ignoreNulls) {
+        // Arrange
+        OutboxMessage message = new OutboxMessage("outbox-1", "order-status-queue", "{\"meta\":{}}", null);
+
+        // Act
+        Map<String, AttributeValue> item = OutboxTableSchema.OUTBOX_MESSAGE.itemToMap(message, ignoreNulls);
+
+        // Assert
+        assertEquals(beanSchema.itemToMap(message, ignoreNulls), item);
+    }
+
+    @Test
+    void testMapToItemReadsBeanSchemaItem() {
+        // Arrange
+        OutboxMessage message = new OutboxMessage("outbox-1", "order-status-queue", "{\"meta\":{}}", 1736510400000L,
+            ProductionConstants.OUTBOX_RELAY_SHARD, "relay-1", 1736510430000L);
+
+        // Act
+        OutboxMessage read = OutboxTableSchema.OUTBOX_MESSAGE.mapToItem(beanSchema.itemToMap(message, true));
+
+        // Assert
+        assertEquals(message, read);
+    }
+
+    @Test
+    void testAttributeNamesAndKeysMatchBeanSchema() {
+        // Assert
+        assertEquals(new HashSet<>(beanSchema.attributeNames()), new HashSet<>(OutboxTableSchema.OUTBOX_MESSAGE.attributeNames()));
+        assertEquals(beanSchema.tableMetadata().primaryPartitionKey(),
+            OutboxTableSchema.OUTBOX_MESSAGE.tableMetadata().primaryPartitionKey());
+        String index = ProductionConstants.DYNAMODB_OUTBOX_INDEX_NAME;
+        assertEquals(beanSchema.tableMetadata().indexPartitionKey(index),
+            OutboxTableSchema.OUTBOX_MESSAGE.tableMetadata().indexPartitionKey(index));
+        assertEquals(beanSchema.tableMetadata().indexSortKey(index),
+            OutboxTableSchema.OUTBOX_MESSAGE.tableMetadata().indexSortKey(index));
+    }
+}
@@ -0,0 +1,85 @@
+package com.fiap.soat11.production.entity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class ProductionTableSchemaTest {
+
+    private final TableSchema<Production> beanSchema = TableSchema.fromBean(Production.class);
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testItemToMapMatchesBeanSchema(boolean ignoreNulls) {
+        // Arrange
+        Production production = createProduction();
+
+        // Act
+        Map<String, AttributeValue> item = ProductionTableSchema.PRODUCTION.itemToMap(production, ignoreNulls);
+
+        // Assert
+        assertEquals(beanSchema.itemToMap(production, ignoreNulls), item);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testItemToMapWithNullFieldsMatchesBeanSchema(boolean ignoreNulls) {
+        // Arrange
+        Production production = new Production();
+        production.setId("production-1");
+        production.setCustomer(new Customer(null));
+        production.setItems(List.of(new OrderItem("X-Burger", null)));
+
+        // Act
+        Map<String, AttributeValue> item = ProductionTableSchema.PRODUCTION.itemToMap(production, ignoreNulls);
+
+        // Assert
+        assertEquals(beanSchema.itemToMap(production, ignoreNulls), item);
+    }
+
+    @Test
+    void testMapToItemReadsBeanSchemaItem() {
+        // Arrange
+        Production production = createProduction();
+        Map<String, AttributeValue> item = beanSchema.itemToMap(production, true);
+
+        // Act
+        Production read = ProductionTableSchema.PRODUCTION.mapToItem(item);
+
+        // Assert
+        assertEquals(production, read);
+        assertEquals(beanSchema.mapToItem(item), read);
+    }
+
+    @Test
+    void testAttributeNamesAndKeysMatchBeanSchema() {
+        // Arrange
+        TableMetadata beanMetadata = beanSchema.tableMetadata();
+        TableMetadata metadata = ProductionTableSchema.PRODUCTION.tableMetadata();
+        String index = ProductionConstants.DYNAMODB_STATUS_INDEX_NAME;
+
+        // Assert
+        assertEquals(new HashSet<>(beanSchema.attributeNames()), new HashSet<>(ProductionTableSchema.PRODUCTION.attributeNames()));
+        assertEquals(beanMetadata.primaryPartitionKey(), metadata.primaryPartitionKey());
+        assertEquals(beanMetadata.indexPartitionKey(index), metadata.indexPartitionKey(index));
+        assertEquals(beanMetadata.indexSortKey(index), metadata.indexSortKey(index));
+        assertEquals(beanMetadata.keyAttributes().size(), metadata.keyAttributes().size());
+    }
+
+    private Production createProduction() {
+        return new Production("production-1", "order-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1736510400000L,
+            new Customer("John Doe"), List.of(new OrderItem("X-Burger", 2), new OrderItem("Refrigerante", 1)));
+    }
+}
@@ -0,0 +1,159 @@
+package com.fiap.soat11.production.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.soat11.production.dto.ConsumeDTO;
+import com.fiap.soat11.production.dto.ReceivedOrderDTO;
+import com.fiap.soat11.production.entity.Production;
+import com.fiap.soat11.production.exception.ProductionException;
+
+class ConsumeMessageDecoderTest {
+
+    private static final String VALID_BODY = """
+        {
+          "meta": {"event_id": "event-1", "event_date": "2026-01-10T12:00:00Z", "event_source": "order-service",
+                   "event_target": "production-service", "event_name": "order-created"},
+          "payload": {
+            "id": "123E4567-E89B-12D3-A456-426614174000",
+            "status": "PAID",
+            "total": 51.0,
+            "customer": {"name": "Jo\\u00e3o \\"Zé\\"", "email": "joao@example.com", "tags": ["vip"]},
+            "itens": [
+              {"name": "X-Burger", "quantity": 2, "price": 25.5, "extras": [{"name": "bacon"}]},
+              {"name": "Refrigerante", "quantity": null}
+            ]
+          },
+          "trace": [1, 2, {"nested": true}]
+        }
+        """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Test
+    void testDecodeMatchesDtoDeserializationAndMapping() throws Exception {
+        // Arrange
+        Production expected = ProductionMapper.toProduction(objectMapper.readValue(VALID_BODY, ConsumeDTO.class));
+
+        // Act
+        ReceivedOrderDTO received = ConsumeMessageDecoder.decode(VALID_BODY);
+
+        // Assert
+        Production production = received.getProduction();
+        assertEquals("event-1", received.getEventId());
+        assertEquals(expected.getId(), production.getId());
+        assertEquals(expected.getOrderID(), production.getOrderID());
+        assertEquals(expected.getStatus(), production.getStatus());
+        assertEquals(expected.getCustomer(), production.getCustomer());
+        assertEquals(expected.getItems(), production.getItems());
+        assertNotNull(production.getUpdatedAt());
+    }
+
+    @Test
+    void testDecodeWithoutMetaHasNullEventId() {
+        // Act
+        ReceivedOrderDTO received = ConsumeMessageDecoder.decode("""
+            {"payload": {"id": "123e4567-e89b-12d3-a456-426614174000",
+                         "customer": {"name": "John"}, "itens": [{"name": "X-Burger"}]}}
+            """);
+
+        // Assert
+        assertNull(received.getEventId());
+        assertNull(received.getProduction().getItems().get(0).getQuantity());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "null | ConsumeDTO cannot be null",
+        "{} | Payload cannot be null",
+        "{\"payload\": null} | Payload cannot be null",
+        "{\"payload\": {}} | Order ID cannot be null",
+        "{\"payload\": {\"id\": \"123e4567-e89b-12d3-a456-426614174000\"}} | Customer data is invalid",
+        "{\"payload\": {\"id\": \"123e4567-e89b-12d3-a456-426614174000\", \"customer\": {}}} | Customer data is invalid",
+        "{\"payload\": {\"id\": \"123e4567-e89b-12d3-a456-426614174000\", \"customer\": {\"name\": \"John\"}}} | Items cannot be empty",
+        "{\"payload\": {\"id\": \"123e4567-e89b-12d3-a456-426614174000\", \"customer\": {\"name\": \"John\"}, \"itens\": []}} | Items cannot be empty"
+    })
+    void testDecodeRejectsInvalidMessagesLikeProductionMapper(String json, String expectedMessage) throws Exception {
+        // Arrange
+        ConsumeDTO consumeDTO = objectMapper.readValue(json, ConsumeDTO.class);
+        ProductionException mapperException = assertThrows(ProductionException.class,
+            () -> ProductionMapper.toProduction(consumeDTO));
+
+        // Act
+        ProductionException exception = assertThrows(ProductionException.class,
+            () -> ConsumeMessageDecoder.decode(json));
+
+        // Assert
+        assertEquals(expectedMessage, exception.getMessage());
+        assertEquals(mapperException.getMessage(), exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "not json",
+        "{\"payload\": ",
+        "[]",
+        "{\"payload\": {\"id\": \"not-a-uuid\"}}",
+        "{\"payload\": {\"id\": {\"value\": 1}}}",
+        "{\"payload\": []}",
+        "{\"payload\": {\"id\": \"123e4567-e89b-12d3-a456-426614174000\", \"customer\": {\"name\": \"John\"}, \"itens\": [null]}}",
+        "{\"payload\": {\"id\": \"123e4567-e89b-12d3-a456-426614174000\", \"customer\": {\"name\": \"John\"}, \"itens\": {}}}"
+    })
+    void testDecodeRejectsMalformedMessagesWithProductionException(String json) {
+        // Act & Assert
+        assertThrows(ProductionException.class, () -> ConsumeMessageDecoder.decode(json));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2", "\"2\"", "\" 2 \"", "2.0", "2.9", "\"\"", "\"null\"", "null"})
+    void testDecodeCoercesQuantityLikeDtoDeserialization(String quantity) throws Exception {
+        // Arrange
+        String json = bodyWithQuantity(quantity);
+        Production expected = ProductionMapper.toProduction(objectMapper.readValue(json, ConsumeDTO.class));
+
+        // Act
+        ReceivedOrderDTO received = ConsumeMessageDecoder.decode(json);
+
+        // Assert
+        assertEquals(expected.getItems(), received.getProduction().getItems());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"two\"", "\"2.5\"", "true", "{}", "[2]", "2147483648", "\"2147483648\""})
+    void testDecodeRejectsNonIntegerQuantity(String quantity) {
+        // Arrange
+        String json = bodyWithQuantity(quantity);
+        assertThrows(Exception.class, () -> objectMapper.readValue(json, ConsumeDTO.class));
+
+        // Act
+        ProductionException exception = assertThrows(ProductionException.class,
+            () -> ConsumeMessageDecoder.decode(json));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("quantity") || exception.getMessage().startsWith("Invalid message"),
+            exception.getMessage());
+    }
+
+    @Test
+    void testDecodeRejectsNullBody() {
+        // Act
+        ProductionException exception = assertThrows(ProductionException.class,
+            () -> ConsumeMessageDecoder.decode(null));
+
+        // Assert
+        assertEquals("ConsumeDTO cannot be null", exception.getMessage());
+    }
+
+    private static String bodyWithQuantity(String quantity) {
+        return "{\"payload\": {\"id\": \"123e4567-e89b-12d3-a456-426614174000\", \"customer\": {\"name\": \"John\"},"
+            + " \"itens\": [{\"name\": \"X-Burger\", \"quantity\": " + quantity + "}]}}";
+    }
+}
@@ -0,0 +1,68 @@
+package com.fiap.soat11.production.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class PageCursorMapperTest {
+
+    @Test
+    void testCursorRoundTrip() {
+        // Arrange
+        Map<String, AttributeValue> lastEvaluatedKey = Map.of(
+            "id", AttributeValue.builder().s("prod-123").build(),
+            "status", AttributeValue.builder().s("RECEIVED").build(),
+            "updatedAt", AttributeValue.builder().n("1700000000000").build());
+
+        // Act
+        String cursor = PageCursorMapper.toCursor("RECEIVED", lastEvaluatedKey);
+
+        // Assert
+        assertEquals("RECEIVED", PageCursorMapper.statusOf(cursor));
+        assertEquals(lastEvaluatedKey, PageCursorMapper.toExclusiveStartKey(cursor));
+    }
+
+    @Test
+    void testCursorWithoutKeyStartsAtBeginningOfStatus() {
+        // Act
+        String cursor = PageCursorMapper.toCursor("RECEIVED", null);
+
+        // Assert
+        assertEquals("RECEIVED", PageCursorMapper.statusOf(cursor));
+        assertNull(PageCursorMapper.toExclusiveStartKey(cursor));
+    }
+
+    @Test
+    void testCursorIsUrlSafe() {
+        // Arrange
+        Map<String, AttributeValue> lastEvaluatedKey = Map.of(
+            "id", AttributeValue.builder().s("c4f1a8e2-9d3b-4a6f-8e1c-7b5d9a2f4e60").build(),
+            "status", AttributeValue.builder().s("RECEIVED").build(),
+            "updatedAt", AttributeValue.builder().n("1700000000000").build());
+
+        // Act
+        String cursor = PageCursorMapper.toCursor("RECEIVED", lastEvaluatedKey);
+
+        // Assert
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testInvalidBase64CursorThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> PageCursorMapper.statusOf("!!not-base64!!"));
+    }
+
+    @Test
+    void testMalformedCursorThrowsException() {
+        // Arrange
+        String cursor = java.util.Base64.getUrlEncoder().encodeToString("RECEIVED\nabc\nprod-1".getBytes());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> PageCursorMapper.toExclusiveStartKey(cursor));
+    }
+}
@@ -32,6 +32,24 @@ class ProductionMapperTest {
         assertEquals(ProductionConstants.PRODUCTION_STATUS_RECEIVED, production.getStatus());
         assertEquals("John Doe", production.getCustomer().getName());
         assertEquals(2, production.getItems().size());
+        assertNotNull(production.getUpdatedAt());
+    }
+
+    @Test
+    void testToProductionIdIsDeterministicPerOrder() {
+        // Arrange
+        ConsumeDTO first = createValidConsumeDTO();
+        ConsumeDTO redelivery = createValidConsumeDTO();
+
+        // Act
+        Production firstProduction = ProductionMapper.toProduction(first);
+        Production redeliveredProduction = ProductionMapper.toProduction(redelivery);
+
+        // Assert
+        assertEquals(firstProduction.getId(), redeliveredProduction.getId());
+        assertEquals(ProductionMapper.toProductionId("123e4567-e89b-12d3-a456-426614174000"), firstProduction.getId());
+        assertNotEquals(firstProduction.getId(), ProductionMapper.toProductionId("another-order"));
+        assertDoesNotThrow(() -> UUID.fromString(firstProduction.getId()));
     }
 
     @Test
@@ -0,0 +1,70 @@
+package com.fiap.soat11.production.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.soat11.production.dto.MetaDTO;
+import com.fiap.soat11.production.dto.PayloadWrapperDTO;
+import com.fiap.soat11.production.dto.ProductionMessageDTO;
+import com.fiap.soat11.production.dto.ProductionPayloadDTO;
+
+class StatusMessageEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testEncodeMatchesDtoSerialization() throws Exception {
+        // Arrange
+        String eventId = UUID.randomUUID().toString();
+        String eventDate = Instant.now().toString();
+        String orderId = UUID.randomUUID().toString();
+
+        // Act
+        String json = StatusMessageEncoder.encode(eventId, eventDate, "production-started-event", orderId);
+
+        // Assert
+        assertEquals(serializeDto(eventId, eventDate, "production-started-event", orderId), json);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "order \"quoted\"",
+        "C:\\orders\\1",
+        "line\nbreak\ttab\rreturn\bback\fform",
+        "\u0000\u0001\u001f",
+        "pedido-ção-😀",
+        "</script>\u2028\u007f"
+    })
+    void testEncodeEscapesLikeJackson(String orderId) throws Exception {
+        // Act
+        String json = StatusMessageEncoder.encode("event-1", "2026-01-10T12:00:00Z", "production-completed-event", orderId);
+
+        // Assert
+        assertEquals(serializeDto("event-1", "2026-01-10T12:00:00Z", "production-completed-event", orderId), json);
+    }
+
+    @Test
+    void testEncodeWritesNullOrderIdAsJsonNull() throws Exception {
+        // Act
+        String json = StatusMessageEncoder.encode("event-1", "2026-01-10T12:00:00Z", "production-started-event", null);
+
+        // Assert
+        assertEquals(serializeDto("event-1", "2026-01-10T12:00:00Z", "production-started-event", null), json);
+        assertTrue(objectMapper.readTree(json).path("payload").path("production").path("order_id").isNull());
+    }
+
+    private String serializeDto(String eventId, String eventDate, String eventName, String orderId) throws Exception {
+        MetaDTO meta = new MetaDTO(eventId, eventDate, StatusMessageEncoder.EVENT_SOURCE,
+            StatusMessageEncoder.EVENT_TARGET, eventName);
+        return objectMapper.writeValueAsString(
+            new ProductionMessageDTO(meta, new PayloadWrapperDTO(new ProductionPayloadDTO(orderId))));
+    }
+}
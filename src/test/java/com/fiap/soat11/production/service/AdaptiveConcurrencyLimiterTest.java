@@ -0,0 +1,100 @@
+package com.fiap.soat11.production.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration FAST = Duration.ofMillis(10);
+    private static final Duration SLOW = Duration.ofMillis(500);
+
+    @Test
+    void testStartsAtMaxLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 10, 250, 0.9);
+
+        // Assert
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void testThrottlingDecreasesLimitMultiplicatively() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 10, 250, 0.5);
+
+        // Act
+        limiter.onSample(FAST, true);
+
+        // Assert
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void testLatencyAboveThresholdDecreasesLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 10, 250, 0.5);
+
+        // Act
+        limiter.onSample(SLOW, false);
+
+        // Assert
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void testLimitNeverDropsBelowMin() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 10, 250, 0.5);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(FAST, true);
+        }
+
+        // Assert
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void testSuccessfulWritesIncreaseLimitAboutOnePerRound() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 10, 250, 0.5);
+        limiter.onSample(FAST, true);
+
+        // Act: uma rodada completa (5 gravações com limite 5)
+        for (int i = 0; i < 5; i++) {
+            limiter.onSample(FAST, false);
+        }
+
+        // Assert
+        assertEquals(5, limiter.getLimit());
+        limiter.onSample(FAST, false);
+        assertEquals(6, limiter.getLimit());
+    }
+
+    @Test
+    void testLimitNeverExceedsMax() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 4, 250, 0.9);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(FAST, false);
+        }
+
+        // Assert
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void testInvalidBoundsAreNormalized() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(0, 0, 250, 0.9);
+
+        // Assert
+        assertEquals(1, limiter.getLimit());
+    }
+}
@@ -0,0 +1,333 @@
+package com.fiap.soat11.production.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.entity.Production;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DescribeStreamRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeStreamResponse;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetRecordsRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetRecordsResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetShardIteratorRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetShardIteratorResponse;
+import software.amazon.awssdk.services.dynamodb.model.OperationType;
+import software.amazon.awssdk.services.dynamodb.model.Record;
+import software.amazon.awssdk.services.dynamodb.model.SequenceNumberRange;
+import software.amazon.awssdk.services.dynamodb.model.Shard;
+import software.amazon.awssdk.services.dynamodb.model.ShardIteratorType;
+import software.amazon.awssdk.services.dynamodb.model.StreamDescription;
+import software.amazon.awssdk.services.dynamodb.model.StreamRecord;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+import software.amazon.awssdk.services.dynamodb.model.TrimmedDataAccessException;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
+
+@ExtendWith(MockitoExtension.class)
+class DynamoDbStreamsProductionChangeChannelTest {
+
+    private static final String STREAM_ARN = "arn:aws:dynamodb:us-east-1:000000000000:table/production/stream/1";
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Mock
+    private DynamoDbStreamsClient streamsClient;
+
+    private DynamoDbStreamsProductionChangeChannel channel;
+    private List<Production> received;
+
+    @BeforeEach
+    void setUp() {
+        channel = new DynamoDbStreamsProductionChangeChannel(dynamoDbClient, streamsClient);
+        received = new ArrayList<>();
+        channel.subscribe(received::add);
+    }
+
+    @Test
+    void testPollDeliversNewImages() {
+        // Arrange
+        stubStream(STREAM_ARN, openShard("shard-1"));
+        stubIterator("shard-1", "it-1");
+        when(streamsClient.getRecords(any(GetRecordsRequest.class))).thenReturn(GetRecordsResponse.builder()
+            .records(modify("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L))
+            .nextShardIterator("it-2")
+            .build());
+
+        // Act
+        int delivered = channel.poll();
+
+        // Assert
+        assertEquals(1, delivered);
+        assertEquals("prod-1", received.get(0).getId());
+        assertEquals(ProductionConstants.PRODUCTION_STATUS_RECEIVED, received.get(0).getStatus());
+        assertEquals(1000L, received.get(0).getUpdatedAt());
+        verify(streamsClient).getShardIterator(argThat((GetShardIteratorRequest request) ->
+            request.shardIteratorType() == ShardIteratorType.LATEST));
+    }
+
+    @Test
+    void testPollContinuesFromNextIterator() {
+        // Arrange
+        stubStream(STREAM_ARN, openShard("shard-1"));
+        stubIterator("shard-1", "it-1");
+        when(streamsClient.getRecords(any(GetRecordsRequest.class)))
+            .thenReturn(GetRecordsResponse.builder().nextShardIterator("it-2").build());
+
+        // Act
+        channel.poll();
+        channel.poll();
+
+        // Assert
+        verify(streamsClient).getRecords(argThat((GetRecordsRequest request) -> "it-2".equals(request.shardIterator())));
+        verify(streamsClient, times(1)).describeStream(any(DescribeStreamRequest.class));
+    }
+
+    @Test
+    void testPollDeliversRemovalWithKeyOnly() {
+        // Arrange
+        stubStream(STREAM_ARN, openShard("shard-1"));
+        stubIterator("shard-1", "it-1");
+        Record remove = Record.builder()
+            .eventName(OperationType.REMOVE)
+            .dynamodb(StreamRecord.builder()
+                .keys(Map.of("id", AttributeValue.builder().s("prod-1").build()))
+                .build())
+            .build();
+        when(streamsClient.getRecords(any(GetRecordsRequest.class)))
+            .thenReturn(GetRecordsResponse.builder().records(remove).nextShardIterator("it-2").build());
+
+        // Act
+        channel.poll();
+
+        // Assert
+        assertEquals("prod-1", received.get(0).getId());
+        assertNull(received.get(0).getStatus());
+        assertNull(received.get(0).getUpdatedAt());
+    }
+
+    @Test
+    void testClosedShardTriggersDiscoveryOfChildrenFromTrimHorizon() {
+        // Arrange
+        when(dynamoDbClient.describeTable(any(DescribeTableRequest.class))).thenReturn(describeTable(STREAM_ARN));
+        when(streamsClient.describeStream(any(DescribeStreamRequest.class)))
+            .thenReturn(describeStream(openShard("shard-1")))
+            .thenReturn(describeStream(closedShard("shard-1"), openShard("shard-2")));
+        stubIterator("shard-1", "it-1");
+        stubIterator("shard-2", "it-child");
+        when(streamsClient.getRecords(any(GetRecordsRequest.class)))
+            .thenReturn(GetRecordsResponse.builder().build())
+            .thenReturn(GetRecordsResponse.builder().nextShardIterator("it-child-2").build());
+
+        // Act
+        channel.poll();
+        channel.poll();
+
+        // Assert
+        verify(streamsClient).getShardIterator(argThat((GetShardIteratorRequest request) ->
+            "shard-2".equals(request.shardId()) && request.shardIteratorType() == ShardIteratorType.TRIM_HORIZON));
+        verify(streamsClient).getRecords(argThat((GetRecordsRequest request) -> "it-child".equals(request.shardIterator())));
+    }
+
+    @Test
+    void testPollSkippedWhenStreamIsDisabled() {
+        // Arrange
+        when(dynamoDbClient.describeTable(any(DescribeTableRequest.class))).thenReturn(describeTable(null));
+
+        // Act
+        int delivered = channel.poll();
+
+        // Assert
+        assertEquals(0, delivered);
+        verifyNoInteractions(streamsClient);
+    }
+
+    @Test
+    void testReadFailureWithoutDeliveredRecordsResumesShardFromLatest() {
+        // Arrange
+        stubStream(STREAM_ARN, openShard("shard-1"));
+        stubIterator("shard-1", "it-1");
+        when(streamsClient.getRecords(any(GetRecordsRequest.class)))
+            .thenThrow(new RuntimeException("Iterator expired"))
+            .thenReturn(GetRecordsResponse.builder().nextShardIterator("it-2").build());
+
+        // Act
+        int delivered = channel.poll();
+        channel.poll();
+
+        // Assert
+        assertEquals(0, delivered);
+        verify(streamsClient, times(2)).getShardIterator(argThat((GetShardIteratorRequest request) ->
+            request.shardIteratorType() == ShardIteratorType.LATEST));
+    }
+
+    @Test
+    void testReadFailureResumesAfterLastDeliveredRecord() {
+        // Arrange
+        stubStream(STREAM_ARN, openShard("shard-1"));
+        when(streamsClient.getShardIterator(any(GetShardIteratorRequest.class)))
+            .thenReturn(GetShardIteratorResponse.builder().shardIterator("it-1").build())
+            .thenReturn(GetShardIteratorResponse.builder().shardIterator("it-after").build());
+        when(streamsClient.getRecords(any(GetRecordsRequest.class)))
+            .thenReturn(GetRecordsResponse.builder()
+                .records(modify("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L))
+                .nextShardIterator("it-2")
+                .build())
+            .thenThrow(new RuntimeException("Iterator expired"))
+            .thenReturn(GetRecordsResponse.builder()
+                .records(modify("prod-2", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 2000L))
+                .nextShardIterator("it-3")
+                .build());
+
+        // Act
+        channel.poll();
+        channel.poll();
+        channel.poll();
+
+        // Assert
+        verify(streamsClient).getShardIterator(argThat((GetShardIteratorRequest request) ->
+            request.shardIteratorType() == ShardIteratorType.AFTER_SEQUENCE_NUMBER
+                && "1000".equals(request.sequenceNumber())));
+        verify(streamsClient).getRecords(argThat((GetRecordsRequest request) -> "it-after".equals(request.shardIterator())));
+        assertEquals(List.of("prod-1", "prod-2"), received.stream().map(Production::getId).toList());
+    }
+
+    @Test
+    void testTrimmedSequenceResumesFromTrimHorizon() {
+        // Arrange
+        stubStream(STREAM_ARN, openShard("shard-1"));
+        when(streamsClient.getShardIterator(any(GetShardIteratorRequest.class)))
+            .thenReturn(GetShardIteratorResponse.builder().shardIterator("it-1").build())
+            .thenThrow(TrimmedDataAccessException.builder().message("trimmed").build())
+            .thenReturn(GetShardIteratorResponse.builder().shardIterator("it-trim").build());
+        when(streamsClient.getRecords(any(GetRecordsRequest.class)))
+            .thenReturn(GetRecordsResponse.builder()
+                .records(modify("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L))
+                .nextShardIterator("it-2")
+                .build())
+            .thenThrow(new RuntimeException("Iterator expired"))
+            .thenReturn(GetRecordsResponse.builder().nextShardIterator("it-3").build());
+
+        // Act
+        channel.poll();
+        channel.poll();
+        channel.poll();
+
+        // Assert
+        verify(streamsClient).getShardIterator(argThat((GetShardIteratorRequest request) ->
+            request.shardIteratorType() == ShardIteratorType.TRIM_HORIZON));
+        verify(streamsClient).getRecords(argThat((GetRecordsRequest request) -> "it-trim".equals(request.shardIterator())));
+    }
+
+    @Test
+    void testFinishedShardsForgottenWhenRemovedFromStream() {
+        // Arrange
+        when(dynamoDbClient.describeTable(any(DescribeTableRequest.class))).thenReturn(describeTable(STREAM_ARN));
+        when(streamsClient.describeStream(any(DescribeStreamRequest.class)))
+            .thenReturn(describeStream(closedShard("shard-0"), openShard("shard-1")))
+            .thenReturn(describeStream(openShard("shard-2")));
+        stubIterator("shard-1", "it-1");
+        stubIterator("shard-2", "it-child");
+        when(streamsClient.getRecords(any(GetRecordsRequest.class)))
+            .thenReturn(GetRecordsResponse.builder().build())
+            .thenReturn(GetRecordsResponse.builder().nextShardIterator("it-child-2").build());
+
+        // Act
+        channel.poll();
+        int finishedBeforeTrim = channel.getFinishedShardCount();
+        channel.poll();
+
+        // Assert
+        assertEquals(2, finishedBeforeTrim);
+        assertEquals(0, channel.getFinishedShardCount());
+    }
+
+    @Test
+    void testListenerFailureDoesNotStopDelivery() {
+        // Arrange
+        channel.subscribe(production -> {
+            throw new IllegalStateException("falha no assinante");
+        });
+        List<Production> secondListener = new ArrayList<>();
+        channel.subscribe(secondListener::add);
+        Production production = new Production();
+        production.setId("prod-1");
+
+        // Act
+        channel.publish(production);
+
+        // Assert
+        assertEquals(List.of(production), received);
+        assertEquals(List.of(production), secondListener);
+    }
+
+    private void stubStream(String streamArn, Shard... shards) {
+        when(dynamoDbClient.describeTable(any(DescribeTableRequest.class))).thenReturn(describeTable(streamArn));
+        when(streamsClient.describeStream(any(DescribeStreamRequest.class))).thenReturn(describeStream(shards));
+    }
+
+    private void stubIterator(String shardId, String iterator) {
+        when(streamsClient.getShardIterator(argThat((GetShardIteratorRequest request) ->
+                request != null && shardId.equals(request.shardId()))))
+            .thenReturn(GetShardIteratorResponse.builder().shardIterator(iterator).build());
+    }
+
+    private DescribeTableResponse describeTable(String streamArn) {
+        return DescribeTableResponse.builder()
+            .table(TableDescription.builder().latestStreamArn(streamArn).build())
+            .build();
+    }
+
+    private DescribeStreamResponse describeStream(Shard... shards) {
+        return DescribeStreamResponse.builder()
+            .streamDescription(StreamDescription.builder().shards(shards).build())
+            .build();
+    }
+
+    private Shard openShard(String shardId) {
+        return Shard.builder()
+            .shardId(shardId)
+            .sequenceNumberRange(SequenceNumberRange.builder().startingSequenceNumber("1").build())
+            .build();
+    }
+
+    private Shard closedShard(String shardId) {
+        return Shard.builder()
+            .shardId(shardId)
+            .sequenceNumberRange(SequenceNumberRange.builder()
+                .startingSequenceNumber("1")
+                .endingSequenceNumber("9")
+                .build())
+            .build();
+    }
+
+    private Record modify(String id, String status, Long updatedAt) {
+        return Record.builder()
+            .eventName(OperationType.MODIFY)
+            .dynamodb(StreamRecord.builder()
+                .sequenceNumber(String.valueOf(updatedAt))
+                .keys(Map.of("id", AttributeValue.builder().s(id).build()))
+                .newImage(Map.of(
+                    "id", AttributeValue.builder().s(id).build(),
+                    "status", AttributeValue.builder().s(status).build(),
+                    "updatedAt", AttributeValue.builder().n(String.valueOf(updatedAt)).build()))
+                .build())
+            .build();
+    }
+}
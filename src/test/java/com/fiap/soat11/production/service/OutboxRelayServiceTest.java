@@ -0,0 +1,327 @@
+package com.fiap.soat11.production.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.entity.OutboxMessage;
+import com.fiap.soat11.production.entity.OutboxTableSchema;
+import com.fiap.soat11.production.exception.ProductionException;
+
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayServiceTest {
+
+    @Mock
+    private DynamoDbTable<OutboxMessage> outboxTable;
+
+    @Mock
+    private DynamoDbAsyncTable<OutboxMessage> outboxAsyncTable;
+
+    @Mock
+    private SqsBatchPublisher sqsBatchPublisher;
+
+    private OutboxRelayService outboxRelayService;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelayService = new OutboxRelayService(outboxTable, outboxAsyncTable, sqsBatchPublisher, 100, 1000L, 30000L);
+    }
+
+    @Test
+    void testDispatchPublishesAndDeletesMessage() {
+        // Arrange
+        OutboxMessage message = outboxMessage("msg-1", 1000L);
+        when(sqsBatchPublisher.publish(ProductionConstants.SQS_QUEUE_PRODUCER, "payload-msg-1"))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        when(outboxAsyncTable.deleteItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(message));
+
+        // Act
+        boolean dispatched = outboxRelayService.dispatch(message).join();
+
+        // Assert
+        assertTrue(dispatched);
+        verify(outboxAsyncTable).deleteItem(Key.builder().partitionValue("msg-1").build());
+    }
+
+    @Test
+    void testDispatchKeepsMessageWhenPublishFails() {
+        // Arrange
+        OutboxMessage message = outboxMessage("msg-1", 1000L);
+        when(sqsBatchPublisher.publish(anyString(), anyString()))
+            .thenReturn(CompletableFuture.failedFuture(new ProductionException("Erro ao publicar mensagem na fila")));
+
+        // Act
+        boolean dispatched = outboxRelayService.dispatch(message).join();
+
+        // Assert
+        assertFalse(dispatched);
+        verify(outboxAsyncTable, never()).deleteItem(any(Key.class));
+    }
+
+    @Test
+    void testRelayEmptyOutboxPublishesNothing() {
+        // Arrange
+        mockOutbox(List.of());
+
+        // Act
+        int relayed = outboxRelayService.relay();
+
+        // Assert
+        assertEquals(0, relayed);
+        verifyNoInteractions(sqsBatchPublisher);
+    }
+
+    @Test
+    void testRelayPublishesInIndexOrderAndCountsDeleted() {
+        // Arrange
+        mockOutbox(List.of(outboxMessage("msg-1", 1000L), outboxMessage("msg-2", 2000L)));
+        mockClaims();
+        when(sqsBatchPublisher.publish(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        when(outboxAsyncTable.deleteItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        int relayed = outboxRelayService.relay();
+
+        // Assert
+        assertEquals(2, relayed);
+        ArgumentCaptor<String> bodies = ArgumentCaptor.forClass(String.class);
+        verify(sqsBatchPublisher, times(2)).publish(eq(ProductionConstants.SQS_QUEUE_PRODUCER), bodies.capture());
+        assertEquals(List.of("payload-msg-1", "payload-msg-2"), bodies.getAllValues());
+    }
+
+    @Test
+    void testRelayQueriesUnleasedEntriesOlderThanMinAge() {
+        // Arrange
+        DynamoDbIndex<OutboxMessage> index = mockOutbox(List.of());
+        long before = System.currentTimeMillis();
+
+        // Act
+        outboxRelayService.relay();
+
+        // Assert
+        ArgumentCaptor<QueryEnhancedRequest> captor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+        verify(index).query(captor.capture());
+        QueryEnhancedRequest request = captor.getValue();
+        Expression condition = request.queryConditional()
+            .expression(OutboxTableSchema.OUTBOX_MESSAGE, ProductionConstants.DYNAMODB_OUTBOX_INDEX_NAME);
+        assertEquals(ProductionConstants.OUTBOX_RELAY_SHARD, condition.expressionValues().get(":AMZN_MAPPED_relayShard").s());
+        long cutoff = Long.parseLong(condition.expressionValues().get(":AMZN_MAPPED_createdAt").n());
+        assertTrue(cutoff <= before - 1000L + 50L);
+        assertTrue(condition.expression().contains("<"));
+        assertEquals("attribute_not_exists(#leaseUntil) OR #leaseUntil < :now", request.filterExpression().expression());
+        long now = Long.parseLong(request.filterExpression().expressionValues().get(":now").n());
+        assertTrue(now >= before);
+        assertTrue(request.scanIndexForward());
+        assertEquals(100, request.limit());
+        verify(outboxTable, never()).scan(any(ScanEnhancedRequest.class));
+    }
+
+    @Test
+    void testRelayKeepsPagingPastFilteredPages() {
+        // Arrange: a primeira página só tinha entradas com concessão vigente, removidas pelo filtro
+        mockOutbox(Page.create(List.of()), Page.create(List.of(outboxMessage("msg-2", 2000L))));
+        mockClaims();
+        when(sqsBatchPublisher.publish(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        when(outboxAsyncTable.deleteItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        int relayed = outboxRelayService.relay();
+
+        // Assert
+        assertEquals(1, relayed);
+        verify(sqsBatchPublisher).publish(anyString(), eq("payload-msg-2"));
+    }
+
+    @Test
+    void testRelayStopsAtMaxMessages() {
+        // Arrange
+        outboxRelayService = new OutboxRelayService(outboxTable, outboxAsyncTable, sqsBatchPublisher, 1, 1000L, 30000L);
+        mockOutbox(Page.create(List.of(outboxMessage("msg-1", 1000L), outboxMessage("msg-2", 2000L))));
+        mockClaims();
+        when(sqsBatchPublisher.publish(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        when(outboxAsyncTable.deleteItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        int relayed = outboxRelayService.relay();
+
+        // Assert
+        assertEquals(1, relayed);
+        verify(sqsBatchPublisher, never()).publish(anyString(), eq("payload-msg-2"));
+    }
+
+    @Test
+    void testLeaseForDispatchClaimsMessageBeforeItIsWritten() {
+        // Arrange
+        OutboxMessage message = outboxMessage("msg-1", 1000L);
+        long before = System.currentTimeMillis();
+
+        // Act
+        OutboxMessage leased = outboxRelayService.leaseForDispatch(message);
+
+        // Assert
+        assertSame(message, leased);
+        assertNotNull(leased.getClaimedBy());
+        assertTrue(leased.getLeaseUntil() >= before + 30000L);
+    }
+
+    @Test
+    void testRelayRetriesEntryAfterDispatchFails() {
+        // Arrange
+        OutboxMessage message = outboxMessage("msg-1", 1000L);
+        when(sqsBatchPublisher.publish(anyString(), anyString()))
+            .thenReturn(CompletableFuture.failedFuture(new ProductionException("InternalError")))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        outboxRelayService.dispatch(message).join();
+        mockOutbox(List.of(message));
+        mockClaims();
+        when(outboxAsyncTable.deleteItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        int relayed = outboxRelayService.relay();
+
+        // Assert
+        assertEquals(1, relayed);
+    }
+
+    @Test
+    void testRelayKeepsFailedEntriesInOutbox() {
+        // Arrange
+        mockOutbox(List.of(outboxMessage("msg-1", 1000L), outboxMessage("msg-2", 2000L)));
+        mockClaims();
+        when(sqsBatchPublisher.publish(anyString(), eq("payload-msg-1"))).thenReturn(CompletableFuture.completedFuture(null));
+        when(sqsBatchPublisher.publish(anyString(), eq("payload-msg-2")))
+            .thenReturn(CompletableFuture.failedFuture(new ProductionException("InternalError")));
+        when(outboxAsyncTable.deleteItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        int relayed = outboxRelayService.relay();
+
+        // Assert
+        assertEquals(1, relayed);
+        verify(outboxAsyncTable).deleteItem(Key.builder().partitionValue("msg-1").build());
+        verify(outboxAsyncTable, never()).deleteItem(Key.builder().partitionValue("msg-2").build());
+    }
+
+    @Test
+    void testRelayClaimsEntriesWithConditionalLease() {
+        // Arrange
+        mockOutbox(List.of(outboxMessage("msg-1", 1000L)));
+        mockClaims();
+        when(sqsBatchPublisher.publish(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        when(outboxAsyncTable.deleteItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(null));
+        long before = System.currentTimeMillis();
+
+        // Act
+        outboxRelayService.relay();
+
+        // Assert
+        ArgumentCaptor<UpdateItemEnhancedRequest<OutboxMessage>> captor = ArgumentCaptor.forClass(UpdateItemEnhancedRequest.class);
+        verify(outboxAsyncTable).updateItem(captor.capture());
+        UpdateItemEnhancedRequest<OutboxMessage> claim = captor.getValue();
+        assertEquals("msg-1", claim.item().getId());
+        assertNotNull(claim.item().getClaimedBy());
+        assertNull(claim.item().getPayload());
+        assertEquals("attribute_exists(#id) AND (attribute_not_exists(#leaseUntil) OR #leaseUntil < :now)",
+            claim.conditionExpression().expression());
+        long now = Long.parseLong(claim.conditionExpression().expressionValues().get(":now").n());
+        assertTrue(now >= before);
+        assertEquals(now + 30000L, claim.item().getLeaseUntil());
+    }
+
+    @Test
+    void testRelaySkipsEntriesClaimedByAnotherInstance() {
+        // Arrange
+        mockOutbox(List.of(outboxMessage("msg-1", 1000L), outboxMessage("msg-2", 2000L)));
+        when(outboxAsyncTable.updateItem(any(UpdateItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(ConditionalCheckFailedException.builder().build()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        when(sqsBatchPublisher.publish(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        when(outboxAsyncTable.deleteItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        int relayed = outboxRelayService.relay();
+
+        // Assert
+        assertEquals(1, relayed);
+        verify(sqsBatchPublisher, never()).publish(anyString(), eq("payload-msg-1"));
+        verify(sqsBatchPublisher).publish(anyString(), eq("payload-msg-2"));
+    }
+
+    @Test
+    void testRelaySkipsEntryWhenClaimFails() {
+        // Arrange
+        mockOutbox(List.of(outboxMessage("msg-1", 1000L)));
+        when(outboxAsyncTable.updateItem(any(UpdateItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("ProvisionedThroughputExceeded")));
+
+        // Act
+        int relayed = outboxRelayService.relay();
+
+        // Assert
+        assertEquals(0, relayed);
+        verifyNoInteractions(sqsBatchPublisher);
+    }
+
+    @Test
+    void testRelayReturnsZeroOnQueryError() {
+        // Arrange
+        when(outboxTable.index(ProductionConstants.DYNAMODB_OUTBOX_INDEX_NAME))
+            .thenThrow(new RuntimeException("Database connection error"));
+
+        // Act
+        int relayed = outboxRelayService.relay();
+
+        // Assert
+        assertEquals(0, relayed);
+        verifyNoInteractions(sqsBatchPublisher);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockClaims() {
+        when(outboxAsyncTable.updateItem(any(UpdateItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    private DynamoDbIndex<OutboxMessage> mockOutbox(List<OutboxMessage> messages) {
+        return mockOutbox(Page.create(messages));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private DynamoDbIndex<OutboxMessage> mockOutbox(Page<OutboxMessage>... pages) {
+        DynamoDbIndex<OutboxMessage> index = mock(DynamoDbIndex.class);
+        SdkIterable<Page<OutboxMessage>> result = () -> List.of(pages).iterator();
+        when(outboxTable.index(ProductionConstants.DYNAMODB_OUTBOX_INDEX_NAME)).thenReturn(index);
+        when(index.query(any(QueryEnhancedRequest.class))).thenReturn(result);
+        return index;
+    }
+
+    private OutboxMessage outboxMessage(String id, Long createdAt) {
+        return new OutboxMessage(id, ProductionConstants.SQS_QUEUE_PRODUCER, "payload-" + id, createdAt);
+    }
+}
@@ -0,0 +1,411 @@
+package com.fiap.soat11.production.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.dto.ProductionEventDTO;
+import com.fiap.soat11.production.entity.Production;
+
+class PendingProductionViewTest {
+
+    @Test
+    void testNotReadyUntilFirstReconcile() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+
+        // Act
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L));
+
+        // Assert
+        assertFalse(view.isReady());
+        view.reconcile(List.of(), 0L);
+        assertTrue(view.isReady());
+    }
+
+    @Test
+    void testDisabledViewIsNeverReady() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), false);
+
+        // Act
+        view.reconcile(List.of(), 0L);
+
+        // Assert
+        assertFalse(view.isEnabled());
+        assertFalse(view.isReady());
+    }
+
+    @Test
+    void testSnapshotOrderedByUpdatedAt() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        Production newer = production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 3000L);
+        Production older = production("prod-2", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L);
+        Production withoutTimestamp = production("prod-3", ProductionConstants.PRODUCTION_STATUS_RECEIVED, null);
+
+        // Act
+        view.reconcile(List.of(newer, older), 0L);
+        view.upsert(withoutTimestamp);
+
+        // Assert
+        assertEquals(List.of(withoutTimestamp, older, newer), view.snapshot());
+    }
+
+    @Test
+    void testUpsertWithNonPendingStatusRemovesProduction() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.reconcile(List.of(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L)), 0L);
+
+        // Act
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_STARTED, 2000L));
+
+        // Assert
+        assertTrue(view.snapshot().isEmpty());
+    }
+
+    @Test
+    void testStatusOutsideServiceStatusesIsNotPending() {
+        // Arrange
+        // A listagem original (Scan) incluía qualquer status diferente de STARTED e COMPLETED;
+        // a visão só lista PRODUCTION_PENDING_STATUSES, os status pendentes gravados pelo serviço
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.reconcile(List.of(), 0L);
+
+        // Act
+        view.upsert(production("prod-1", "CANCELLED", 1000L));
+        view.upsert(production("prod-2", "received", 2000L));
+
+        // Assert
+        assertTrue(view.snapshot().isEmpty());
+        assertEquals(List.of(ProductionConstants.PRODUCTION_STATUS_RECEIVED), ProductionConstants.PRODUCTION_PENDING_STATUSES);
+    }
+
+    @Test
+    void testUpsertReplacesEntryWithNewTimestamp() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.reconcile(List.of(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L)), 0L);
+
+        // Act
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 2000L));
+
+        // Assert
+        assertEquals(1, view.snapshot().size());
+        assertEquals(2000L, view.snapshot().get(0).getUpdatedAt());
+    }
+
+    @Test
+    void testSnapshotNeverSeesUpdateHalfApplied() throws InterruptedException {
+        // Arrange: o update troca a chave da entrada (remove e put); a listagem nunca pode vê-la ausente
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.reconcile(List.of(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1L)), 0L);
+        Thread writer = Thread.ofPlatform().start(() -> {
+            for (long updatedAt = 2L; updatedAt <= 20_000L; updatedAt++) {
+                view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, updatedAt));
+            }
+        });
+
+        // Act
+        List<Integer> sizes = new ArrayList<>();
+        while (writer.isAlive()) {
+            sizes.add(view.snapshot().size());
+        }
+        writer.join();
+
+        // Assert
+        assertTrue(sizes.stream().allMatch(size -> size == 1));
+        assertEquals(20_000L, view.snapshot().get(0).getUpdatedAt());
+    }
+
+    @Test
+    void testSnapshotIsImmutableAndReusedUntilNextChange() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.reconcile(List.of(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L)), 0L);
+        List<Production> first = view.snapshot();
+
+        // Act
+        List<Production> unchanged = view.snapshot();
+        view.upsert(production("prod-2", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 2000L));
+        List<Production> changed = view.snapshot();
+
+        // Assert
+        assertSame(first, unchanged);
+        assertThrows(UnsupportedOperationException.class, () -> first.add(changed.get(1)));
+        assertEquals(1, first.size());
+        assertEquals(2, changed.size());
+    }
+
+    @Test
+    void testReconcileReplacesStaleEntries() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.reconcile(List.of(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L)), 0L);
+        Production fromOtherInstance = production("prod-2", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 2000L);
+
+        // Act
+        view.reconcile(List.of(fromOtherInstance), System.currentTimeMillis() + 1);
+
+        // Assert
+        assertEquals(List.of(fromOtherInstance), view.snapshot());
+    }
+
+    @Test
+    void testLocalChangesAfterReconcileStartWinOverQueryResult() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        long startedAt = System.currentTimeMillis();
+        Production created = production("prod-new", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 5000L);
+        Production stale = production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L);
+
+        // Act - escritas locais concorrentes à consulta, que não as enxerga
+        view.upsert(created);
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_STARTED, 6000L));
+        view.reconcile(List.of(stale), startedAt);
+
+        // Assert
+        assertEquals(List.of(created), view.snapshot());
+    }
+
+    @Test
+    void testStaleChangeIsIgnored() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.reconcile(List.of(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L)), 0L);
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 3000L));
+
+        // Act - mudança mais antiga entregue com atraso pelo canal
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 2000L));
+
+        // Assert
+        assertEquals(3000L, view.snapshot().get(0).getUpdatedAt());
+    }
+
+    @Test
+    void testStaleChangeDoesNotResurrectRemovedProduction() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.reconcile(List.of(), 0L);
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_STARTED, 2000L));
+
+        // Act
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L));
+
+        // Assert
+        assertTrue(view.snapshot().isEmpty());
+    }
+
+    @Test
+    void testRemovalWithoutVersionAlwaysApplies() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.reconcile(List.of(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L)), 0L);
+
+        // Act - REMOVE do stream traz apenas a chave
+        view.upsert(production("prod-1", null, null));
+
+        // Assert
+        assertTrue(view.snapshot().isEmpty());
+    }
+
+    @Test
+    void testViewsSharingChannelStayCoherent() {
+        // Arrange - duas instâncias ligadas ao mesmo canal
+        InMemoryProductionChangeChannel channel = new InMemoryProductionChangeChannel();
+        PendingProductionView nodeA = new PendingProductionView(channel, true);
+        PendingProductionView nodeB = new PendingProductionView(channel, true);
+        nodeA.reconcile(List.of(), 0L);
+        nodeB.reconcile(List.of(), 0L);
+        Production created = production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L);
+
+        // Act
+        channel.publish(created);
+        channel.publish(production("prod-2", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 2000L));
+        channel.publish(production("prod-2", ProductionConstants.PRODUCTION_STATUS_STARTED, 3000L));
+
+        // Assert
+        assertEquals(List.of(created), nodeA.snapshot());
+        assertEquals(nodeA.snapshot(), nodeB.snapshot());
+    }
+
+    @Test
+    void testListenerReceivesAddUpdateAndRemove() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        List<String> events = new ArrayList<>();
+        view.addListener(event -> events.add(event.getType() + ":" + event.getProduction().getId()));
+
+        // Act
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L));
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 2000L));
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_STARTED, 3000L));
+
+        // Assert
+        assertEquals(List.of("add:prod-1", "update:prod-1", "remove:prod-1"), events);
+    }
+
+    @Test
+    void testListenerNotNotifiedForEchoedOrIrrelevantChanges() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L));
+        List<ProductionEventDTO> events = new ArrayList<>();
+        view.addListener(events::add);
+
+        // Act - mesma mudança recebida de novo pelo canal e remoção de item que não está na visão
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L));
+        view.upsert(production("prod-2", ProductionConstants.PRODUCTION_STATUS_COMPLETED, 1000L));
+
+        // Assert
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void testReconcileNotifiesDifferences() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.reconcile(List.of(
+            production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L),
+            production("prod-2", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L)), 0L);
+        List<String> events = new ArrayList<>();
+        view.addListener(event -> events.add(event.getType() + ":" + event.getProduction().getId()));
+
+        // Act
+        view.reconcile(List.of(
+            production("prod-2", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 2000L),
+            production("prod-3", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L)), System.currentTimeMillis() + 1);
+
+        // Assert
+        assertEquals(3, events.size());
+        assertTrue(events.containsAll(List.of("remove:prod-1", "update:prod-2", "add:prod-3")));
+    }
+
+    @Test
+    void testETagChangesWithContent() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        String empty = view.getETag();
+
+        // Act
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L));
+        String withOne = view.getETag();
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 2000L));
+        String updated = view.getETag();
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_STARTED, 3000L));
+
+        // Assert
+        assertNotEquals(empty, withOne);
+        assertNotEquals(withOne, updated);
+        assertEquals(empty, view.getETag());
+    }
+
+    @Test
+    void testETagIsSameForSameContentRegardlessOfHistory() {
+        // Arrange
+        PendingProductionView nodeA = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        PendingProductionView nodeB = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        Production first = production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L);
+        Production second = production("prod-2", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 2000L);
+
+        // Act
+        nodeA.upsert(first);
+        nodeA.upsert(second);
+        nodeB.upsert(production("prod-3", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 500L));
+        nodeB.reconcile(List.of(second, first), System.currentTimeMillis() + 1);
+
+        // Assert
+        assertEquals(nodeA.getETag(), nodeB.getETag());
+        assertTrue(nodeA.getETag().startsWith("\"2-"));
+    }
+
+    @Test
+    void testFindReturnsPendingAndStartedProductions() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        Production pending = production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L);
+        Production started = production("prod-2", ProductionConstants.PRODUCTION_STATUS_STARTED, 2000L);
+
+        // Act
+        view.upsert(pending);
+        view.upsert(started);
+
+        // Assert
+        assertSame(pending, view.find("prod-1"));
+        assertSame(started, view.find("prod-2"));
+        assertEquals(List.of(pending), view.snapshot());
+        assertNull(view.find("prod-3"));
+    }
+
+    @Test
+    void testFindForgetsCompletedProduction() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_STARTED, 1000L));
+
+        // Act
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_COMPLETED, 2000L));
+
+        // Assert
+        assertNull(view.find("prod-1"));
+    }
+
+    @Test
+    void testFindDisabledViewReturnsNull() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), false);
+
+        // Act
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_STARTED, 1000L));
+
+        // Assert
+        assertNull(view.find("prod-1"));
+    }
+
+    @Test
+    void testDisabledViewIgnoresChannelChanges() {
+        // Arrange
+        InMemoryProductionChangeChannel channel = new InMemoryProductionChangeChannel();
+        PendingProductionView view = new PendingProductionView(channel, false);
+
+        // Act
+        channel.publish(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L));
+        view.upsert(production("prod-2", ProductionConstants.PRODUCTION_STATUS_COMPLETED, 2000L));
+
+        // Assert
+        assertEquals(0, view.size());
+        assertTrue(view.snapshot().isEmpty());
+        assertEquals(0, view.getTrackedChangeCount());
+    }
+
+    @Test
+    void testExpireChangesDropsChangesOlderThanPreviousRunWithoutReconcile() {
+        // Arrange
+        PendingProductionView view = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        view.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED, 1000L));
+        view.upsert(production("prod-2", ProductionConstants.PRODUCTION_STATUS_COMPLETED, 2000L));
+
+        // Act
+        view.expireChanges();
+        int trackedAfterFirstRun = view.getTrackedChangeCount();
+        view.expireChanges(Long.MAX_VALUE);
+
+        // Assert
+        assertEquals(3, trackedAfterFirstRun);
+        assertEquals(0, view.getTrackedChangeCount());
+        assertEquals(1, view.size());
+    }
+
+    private Production production(String id, String status, Long updatedAt) {
+        Production production = new Production();
+        production.setId(id);
+        production.setStatus(status);
+        production.setUpdatedAt(updatedAt);
+        return production;
+    }
+}
@@ -0,0 +1,50 @@
+package com.fiap.soat11.production.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class ProcessedEventCacheTest {
+
+    @Test
+    void testContainsAddedEvent() {
+        // Arrange
+        ProcessedEventCache cache = new ProcessedEventCache(10);
+
+        // Act
+        cache.add("event-1");
+
+        // Assert
+        assertTrue(cache.contains("event-1"));
+        assertFalse(cache.contains("event-2"));
+    }
+
+    @Test
+    void testIgnoresNullEventId() {
+        // Arrange
+        ProcessedEventCache cache = new ProcessedEventCache(10);
+
+        // Act
+        cache.add(null);
+
+        // Assert
+        assertFalse(cache.contains(null));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedEventWhenFull() {
+        // Arrange
+        ProcessedEventCache cache = new ProcessedEventCache(2);
+        cache.add("event-1");
+        cache.add("event-2");
+        cache.contains("event-1");
+
+        // Act
+        cache.add("event-3");
+
+        // Assert
+        assertTrue(cache.contains("event-1"));
+        assertFalse(cache.contains("event-2"));
+        assertTrue(cache.contains("event-3"));
+    }
+}
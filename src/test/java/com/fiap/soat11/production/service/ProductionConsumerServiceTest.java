@@ -3,12 +3,16 @@ package com.fiap.soat11.production.service;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.when;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.soat11.production.config.ProductionConstants;
 import com.fiap.soat11.production.dto.ConsumeDTO;
 import com.fiap.soat11.production.dto.CustomerDTO;
 import com.fiap.soat11.production.dto.ItensDTO;
@@ -25,48 +32,67 @@ import com.fiap.soat11.production.dto.PayloadDTO;
 import com.fiap.soat11.production.entity.OrderItem;
 import com.fiap.soat11.production.entity.Production;
 import com.fiap.soat11.production.exception.ProductionException;
+import com.fiap.soat11.production.mapper.ProductionMapper;
 
-import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
 @ExtendWith(MockitoExtension.class)
 class ProductionConsumerServiceTest {
 
     @Mock
-    private DynamoDbTable<Production> dynamoDBClientMock;
+    private DynamoDbAsyncTable<Production> asyncTableMock;
+
+    private ProcessedEventCache processedEventCache;
+
+    private PendingProductionView pendingView;
+
+    private SimpleMeterRegistry meterRegistry;
 
     private ProductionConsumerService productionConsumerService;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     @BeforeEach
     void setUp() {
-        productionConsumerService = new ProductionConsumerService(dynamoDBClientMock);
+        meterRegistry = new SimpleMeterRegistry();
+        processedEventCache = new ProcessedEventCache(100);
+        InMemoryProductionChangeChannel changeChannel = new InMemoryProductionChangeChannel();
+        pendingView = new PendingProductionView(changeChannel, true);
+        productionConsumerService = new ProductionConsumerService(asyncTableMock, processedEventCache,
+            changeChannel, meterRegistry);
     }
 
     @Test
     void shouldSaveProductionWhenReceivingValidMessage() {
         // Arrange
-        ConsumeDTO consumeDTO = createConsumeDTO();
+        String body = toJson(createConsumeDTO());
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
 
         // Act
-        productionConsumerService.handle(consumeDTO);
+        productionConsumerService.handleJsonAsync(body).join();
 
         // Assert
-        verify(dynamoDBClientMock, times(1)).putItem(any(Production.class));
+        verify(asyncTableMock, times(1)).putItem(any(PutItemEnhancedRequest.class));
     }
 
     @Test
     void shouldSaveProductionWithCorrectDataMapping() {
         // Arrange
-        ConsumeDTO consumeDTO = createConsumeDTO();
+        String body = toJson(createConsumeDTO());
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
 
         // Act
-        productionConsumerService.handle(consumeDTO);
+        productionConsumerService.handleJsonAsync(body).join();
 
         // Assert - Capture the argument passed to putItem
-        ArgumentCaptor<Production> productionCaptor = ArgumentCaptor.forClass(Production.class);
-        verify(dynamoDBClientMock).putItem(productionCaptor.capture());
+        Production capturedProduction = capturePutProduction();
 
-        Production capturedProduction = productionCaptor.getValue();
-        
         assertThat(capturedProduction)
             .isNotNull()
             .satisfies(p -> {
@@ -74,13 +100,13 @@ class ProductionConsumerServiceTest {
                 assertThat(p.getStatus()).isEqualTo("RECEIVED");
                 assertThat(p.getCustomer()).isNotNull();
             });
-        
+
         assertThat(capturedProduction.getOrderID())
             .isEqualTo("c4f1a8e2-9d3b-4a6f-8e1c-7b5d9a2f4e60");
-        
+
         assertThat(capturedProduction.getCustomer().getName())
             .isEqualTo("Ribeiro");
-        
+
         assertThat(capturedProduction.getItems())
             .hasSize(3);
     }
@@ -88,16 +114,16 @@ class ProductionConsumerServiceTest {
     @Test
     void shouldMapOrderItemsCorrectly() {
         // Arrange
-        ConsumeDTO consumeDTO = createConsumeDTO();
+        String body = toJson(createConsumeDTO());
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
 
         // Act
-        productionConsumerService.handle(consumeDTO);
+        productionConsumerService.handleJsonAsync(body).join();
 
         // Assert
-        ArgumentCaptor<Production> productionCaptor = ArgumentCaptor.forClass(Production.class);
-        verify(dynamoDBClientMock).putItem(productionCaptor.capture());
 
-        Production capturedProduction = productionCaptor.getValue();
+        Production capturedProduction = capturePutProduction();
         List<OrderItem> items = capturedProduction.getItems();
 
         assertThat(items)
@@ -106,11 +132,11 @@ class ProductionConsumerServiceTest {
                 assertThat(itemList.get(0))
                     .hasFieldOrPropertyWithValue("name", "XBurguer")
                     .hasFieldOrPropertyWithValue("quantity", 2);
-                
+
                 assertThat(itemList.get(1))
                     .hasFieldOrPropertyWithValue("name", "Batata Frita")
                     .hasFieldOrPropertyWithValue("quantity", 1);
-                
+
                 assertThat(itemList.get(2))
                     .hasFieldOrPropertyWithValue("name", "Refrigerante")
                     .hasFieldOrPropertyWithValue("quantity", 2);
@@ -150,44 +176,44 @@ class ProductionConsumerServiceTest {
     }
 
     @Test
-    void shouldThrowProductionExceptionOnDatabaseError() {
+    void shouldFailWithProductionExceptionOnDatabaseError() {
         // Arrange
-        ConsumeDTO consumeDTO = createConsumeDTO();
-        doThrow(new RuntimeException("Database error"))
-            .when(dynamoDBClientMock).putItem(any(Production.class));
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Database error")));
 
-        // Act & Assert
-        assertThrows(ProductionException.class, () -> {
-            productionConsumerService.handle(consumeDTO);
-        });
+        // Act
+        CompletableFuture<Void> result = productionConsumerService.handleJsonAsync(toJson(createConsumeDTO()));
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertThat(exception.getCause()).isInstanceOf(ProductionException.class);
     }
 
     @Test
-    void shouldThrowProductionExceptionOnValidationError() {
-        // Arrange
-        ConsumeDTO consumeDTO = createConsumeDTO();
-        // Create a scenario that might trigger a validation error
-        
-        // Act & Assert - normally this should handle the exception properly
-        productionConsumerService.handle(consumeDTO);
-        verify(dynamoDBClientMock, times(1)).putItem(any(Production.class));
+    void shouldFailOnValidationErrorWithoutWriting() {
+        // Act
+        CompletableFuture<Void> result = productionConsumerService.handleJsonAsync(toJson(new ConsumeDTO()));
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertThat(exception.getCause()).isInstanceOf(ProductionException.class);
+        verify(asyncTableMock, never()).putItem(any(PutItemEnhancedRequest.class));
     }
 
     @Test
     void shouldMapProductionWithCorrectTimestamp() {
         // Arrange
-        ConsumeDTO consumeDTO = createConsumeDTO();
+        String body = toJson(createConsumeDTO());
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
         long beforeTime = System.currentTimeMillis();
 
         // Act
-        productionConsumerService.handle(consumeDTO);
+        productionConsumerService.handleJsonAsync(body).join();
         long afterTime = System.currentTimeMillis();
 
         // Assert
-        ArgumentCaptor<Production> productionCaptor = ArgumentCaptor.forClass(Production.class);
-        verify(dynamoDBClientMock).putItem(productionCaptor.capture());
-        
-        Production capturedProduction = productionCaptor.getValue();
+        Production capturedProduction = capturePutProduction();
         assertThat(capturedProduction).isNotNull();
         // The timestamp may be set during mapping, so just verify it's been set appropriately
         if (capturedProduction.getUpdatedAt() != null) {
@@ -197,18 +223,6 @@ class ProductionConsumerServiceTest {
         }
     }
 
-    @Test
-    void shouldLogInfoMessagesOnSuccessfulProcessing() {
-        // Arrange
-        ConsumeDTO consumeDTO = createConsumeDTO();
-
-        // Act
-        productionConsumerService.handle(consumeDTO);
-
-        // Assert
-        verify(dynamoDBClientMock, times(1)).putItem(any(Production.class));
-    }
-
     @Test
     void shouldHandleProductionWithSingleItem() {
         // Arrange
@@ -219,21 +233,20 @@ class ProductionConsumerServiceTest {
         PayloadDTO payload = new PayloadDTO();
         payload.setId(java.util.UUID.randomUUID());
         payload.setItens(Arrays.asList(createItensDTO("Item", 1)));
-        
+
         CustomerDTO customer = new CustomerDTO();
         customer.setName("Test Customer");
         payload.setCustomer(customer);
-        
+
         consumeDTO.setPayload(payload);
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
 
         // Act
-        productionConsumerService.handle(consumeDTO);
+        productionConsumerService.handleJsonAsync(toJson(consumeDTO)).join();
 
         // Assert
-        ArgumentCaptor<Production> productionCaptor = ArgumentCaptor.forClass(Production.class);
-        verify(dynamoDBClientMock).putItem(productionCaptor.capture());
-        
-        Production capturedProduction = productionCaptor.getValue();
+        Production capturedProduction = capturePutProduction();
         assertThat(capturedProduction.getItems()).hasSize(1);
     }
 
@@ -255,37 +268,389 @@ class ProductionConsumerServiceTest {
         PayloadDTO payload = new PayloadDTO();
         payload.setId(java.util.UUID.randomUUID());
         payload.setItens(itens);
-        
+
         CustomerDTO customer = new CustomerDTO();
         customer.setName("Test Customer");
         payload.setCustomer(customer);
-        
+
         consumeDTO.setPayload(payload);
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
 
         // Act
-        productionConsumerService.handle(consumeDTO);
+        productionConsumerService.handleJsonAsync(toJson(consumeDTO)).join();
 
         // Assert
-        ArgumentCaptor<Production> productionCaptor = ArgumentCaptor.forClass(Production.class);
-        verify(dynamoDBClientMock).putItem(productionCaptor.capture());
-        
-        Production capturedProduction = productionCaptor.getValue();
+        Production capturedProduction = capturePutProduction();
         assertThat(capturedProduction.getItems()).hasSize(5);
     }
 
     @Test
     void shouldSetReceivedStatusOnProduction() {
         // Arrange
-        ConsumeDTO consumeDTO = createConsumeDTO();
+        String body = toJson(createConsumeDTO());
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
 
         // Act
-        productionConsumerService.handle(consumeDTO);
+        productionConsumerService.handleJsonAsync(body).join();
 
         // Assert
-        ArgumentCaptor<Production> productionCaptor = ArgumentCaptor.forClass(Production.class);
-        verify(dynamoDBClientMock).putItem(productionCaptor.capture());
-        
-        Production capturedProduction = productionCaptor.getValue();
+        Production capturedProduction = capturePutProduction();
         assertThat(capturedProduction.getStatus()).isEqualTo("RECEIVED");
     }
+
+    @Test
+    void shouldPersistBatchWithConditionalPutPerNewProduction() {
+        // Arrange
+        List<String> messages = List.of(createBatchMessage(), createBatchMessage(), createBatchMessage());
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        Set<String> persisted = productionConsumerService.handleJsonBatch(messages);
+
+        // Assert
+        assertThat(persisted).hasSize(3);
+        List<PutItemEnhancedRequest<Production>> puts = captureAsyncPuts(3);
+        assertThat(puts).allSatisfy(put -> assertThat(put.conditionExpression().expression())
+            .isEqualTo("attribute_not_exists(#id)"));
+    }
+
+    @Test
+    void shouldAcknowledgeExistingProductionsInBatchWithoutRewriting() {
+        // Arrange: a condição attribute_not_exists falha para a Production já gravada
+        String racedOrderId = java.util.UUID.randomUUID().toString();
+        String freshOrderId = java.util.UUID.randomUUID().toString();
+        String raced = createJsonBody("event-raced", racedOrderId);
+        String fresh = createJsonBody("event-fresh", freshOrderId);
+        String racedId = ProductionMapper.toProductionId(racedOrderId);
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class))).thenAnswer(invocation -> {
+            PutItemEnhancedRequest<Production> put = invocation.getArgument(0);
+            return racedId.equals(put.item().getId())
+                ? CompletableFuture.failedFuture(ConditionalCheckFailedException.builder().message("The conditional request failed").build())
+                : CompletableFuture.completedFuture(null);
+        });
+
+        // Act
+        Set<String> persisted = productionConsumerService.handleJsonBatch(List.of(raced, fresh));
+
+        // Assert
+        assertThat(persisted).containsExactlyInAnyOrder(raced, fresh);
+        assertThat(processedEventCache.contains("event-raced")).isTrue();
+        assertThat(meterRegistry.counter(ProductionConstants.METRIC_CONSUMER_MESSAGES, "outcome", "duplicate").count())
+            .isEqualTo(1.0);
+        pendingView.reconcile(List.of(), 0L);
+        assertThat(pendingView.snapshot()).extracting(Production::getId)
+            .containsExactly(ProductionMapper.toProductionId(freshOrderId));
+    }
+
+    @Test
+    void shouldNotAcknowledgeMessagesWhoseWriteFails() {
+        // Arrange
+        String failingOrderId = java.util.UUID.randomUUID().toString();
+        String failing = createJsonBody("event-failing", failingOrderId);
+        String fresh = createBatchMessage();
+        String failingId = ProductionMapper.toProductionId(failingOrderId);
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class))).thenAnswer(invocation -> {
+            PutItemEnhancedRequest<Production> put = invocation.getArgument(0);
+            return failingId.equals(put.item().getId())
+                ? CompletableFuture.failedFuture(new RuntimeException("ProvisionedThroughputExceeded"))
+                : CompletableFuture.completedFuture(null);
+        });
+
+        // Act
+        Set<String> persisted = productionConsumerService.handleJsonBatch(List.of(failing, fresh));
+
+        // Assert
+        assertThat(persisted).containsExactly(fresh);
+        assertThat(processedEventCache.contains("event-failing")).isFalse();
+        assertThat(meterRegistry.counter(ProductionConstants.METRIC_CONSUMER_MESSAGES, "outcome", "failed").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldSkipInvalidMessagesInBatch() {
+        // Arrange
+        String valid = toJson(createConsumeDTO());
+        String invalid = toJson(new ConsumeDTO());
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        Set<String> persisted = productionConsumerService.handleJsonBatch(List.of(valid, invalid));
+
+        // Assert
+        assertThat(persisted).containsExactly(valid);
+    }
+
+    @Test
+    void shouldReturnNothingPersistedWhenBatchWriteFails() {
+        // Arrange
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenThrow(new RuntimeException("Database error"));
+
+        // Act
+        Set<String> persisted = productionConsumerService.handleJsonBatch(List.of(toJson(createConsumeDTO())));
+
+        // Assert
+        assertThat(persisted).isEmpty();
+    }
+
+    @Test
+    void shouldUseDeterministicIdAndConditionalPut() {
+        // Arrange
+        String body = toJson(createConsumeDTO());
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        productionConsumerService.handleJsonAsync(body).join();
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<PutItemEnhancedRequest<Production>> requestCaptor =
+            ArgumentCaptor.forClass(PutItemEnhancedRequest.class);
+        verify(asyncTableMock).putItem(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().item().getId())
+            .isEqualTo(ProductionMapper.toProductionId("c4f1a8e2-9d3b-4a6f-8e1c-7b5d9a2f4e60"));
+        assertThat(requestCaptor.getValue().conditionExpression().expression())
+            .isEqualTo("attribute_not_exists(#id)");
+    }
+
+    @Test
+    void shouldTreatExistingProductionAsProcessed() {
+        // Arrange
+        ConsumeDTO consumeDTO = createConsumeDTO();
+        consumeDTO.getMeta().setEventId("event-1");
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(
+                ConditionalCheckFailedException.builder().message("The conditional request failed").build()));
+
+        // Act
+        productionConsumerService.handleJsonAsync(toJson(consumeDTO)).join();
+
+        // Assert
+        assertThat(processedEventCache.contains("event-1")).isTrue();
+    }
+
+    @Test
+    void shouldSkipRecentlyProcessedEventWithoutWriting() {
+        // Arrange
+        processedEventCache.add("event-1");
+
+        // Act
+        productionConsumerService.handleJsonAsync(createJsonBody("event-1", java.util.UUID.randomUUID().toString())).join();
+
+        // Assert
+        verify(asyncTableMock, never()).putItem(any(PutItemEnhancedRequest.class));
+    }
+
+    @Test
+    void shouldNotCacheEventWhenWriteFails() {
+        // Arrange
+        ConsumeDTO consumeDTO = createConsumeDTO();
+        consumeDTO.getMeta().setEventId("event-1");
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Database error")));
+
+        // Act
+        CompletableFuture<Void> result = productionConsumerService.handleJsonAsync(toJson(consumeDTO));
+
+        // Assert
+        assertThrows(CompletionException.class, result::join);
+        assertThat(processedEventCache.contains("event-1")).isFalse();
+    }
+
+    @Test
+    void shouldCollapseRedeliveriesOfSameOrderInOneBatch() {
+        // Arrange
+        String first = toJson(createConsumeDTO());
+        String redelivery = toJson(createConsumeDTO());
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        Set<String> persisted = productionConsumerService.handleJsonBatch(List.of(first, redelivery));
+
+        // Assert
+        assertThat(persisted).hasSize(2);
+        captureAsyncPuts(1);
+    }
+
+    @Test
+    void shouldSkipRecentlyProcessedEventsInBatch() {
+        // Arrange
+        String message = createJsonBody("event-1", java.util.UUID.randomUUID().toString());
+        processedEventCache.add("event-1");
+
+        // Act
+        Set<String> persisted = productionConsumerService.handleJsonBatch(List.of(message));
+
+        // Assert
+        assertThat(persisted).containsExactly(message);
+        verify(asyncTableMock, never()).putItem(any(PutItemEnhancedRequest.class));
+    }
+
+    @Test
+    void shouldAddNewProductionToPendingView() {
+        // Arrange
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        productionConsumerService.handleJsonAsync(createBatchMessage()).join();
+        productionConsumerService.handleJsonBatch(List.of(createBatchMessage()));
+
+        // Assert
+        pendingView.reconcile(List.of(), 0L);
+        assertThat(pendingView.snapshot()).hasSize(2);
+    }
+
+    @Test
+    void shouldNotAddDuplicateProductionToPendingView() {
+        // Arrange
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(
+                ConditionalCheckFailedException.builder().message("The conditional request failed").build()));
+
+        // Act
+        productionConsumerService.handleJsonAsync(toJson(createConsumeDTO())).join();
+
+        // Assert
+        pendingView.reconcile(List.of(), 0L);
+        assertThat(pendingView.snapshot()).isEmpty();
+    }
+
+    @Test
+    void shouldSaveProductionFromJsonBodyAsynchronously() {
+        // Arrange
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        productionConsumerService.handleJsonAsync(createJsonBody("event-1", "c4f1a8e2-9d3b-4a6f-8e1c-7b5d9a2f4e60")).join();
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<PutItemEnhancedRequest<Production>> requestCaptor =
+            ArgumentCaptor.forClass(PutItemEnhancedRequest.class);
+        verify(asyncTableMock).putItem(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().item().getId())
+            .isEqualTo(ProductionMapper.toProductionId("c4f1a8e2-9d3b-4a6f-8e1c-7b5d9a2f4e60"));
+        assertThat(requestCaptor.getValue().item().getItems())
+            .containsExactly(new OrderItem("X-Burger", 2));
+        assertThat(processedEventCache.contains("event-1")).isTrue();
+    }
+
+    @Test
+    void shouldFailJsonAsyncHandleOnInvalidBodyWithoutWriting() {
+        // Act
+        CompletableFuture<Void> result = productionConsumerService.handleJsonAsync("{\"payload\":");
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertThat(exception.getCause()).isInstanceOf(ProductionException.class);
+        verify(asyncTableMock, never()).putItem(any(PutItemEnhancedRequest.class));
+        assertThat(meterRegistry.counter(ProductionConstants.METRIC_CONSUMER_MESSAGES, "outcome", "failed").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldPersistValidJsonBodiesInBatchAndSkipInvalidOnes() {
+        // Arrange
+        String valid = createJsonBody("event-1", java.util.UUID.randomUUID().toString());
+        String invalid = "{\"meta\":{\"event_id\":\"event-2\"},\"payload\":{\"id\":\"not-a-uuid\"}}";
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        Set<String> persisted = productionConsumerService.handleJsonBatch(List.of(valid, invalid));
+
+        // Assert
+        assertThat(persisted).containsExactly(valid);
+        assertThat(processedEventCache.contains("event-1")).isTrue();
+        assertThat(processedEventCache.contains("event-2")).isFalse();
+    }
+
+    private String createJsonBody(String eventId, String orderId) {
+        return "{\"meta\":{\"event_id\":\"" + eventId + "\",\"event_name\":\"order-created\"},"
+            + "\"payload\":{\"id\":\"" + orderId + "\",\"status\":\"PAID\","
+            + "\"customer\":{\"name\":\"John Doe\",\"email\":\"john@example.com\"},"
+            + "\"itens\":[{\"name\":\"X-Burger\",\"quantity\":2,\"price\":25.5}]}}";
+    }
+
+    private String createBatchMessage() {
+        ConsumeDTO consumeDTO = createConsumeDTO();
+        consumeDTO.getPayload().setId(java.util.UUID.randomUUID());
+        return toJson(consumeDTO);
+    }
+
+    private String toJson(ConsumeDTO consumeDTO) {
+        try {
+            return objectMapper.writeValueAsString(consumeDTO);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Production capturePutProduction() {
+        return captureAsyncPuts(1).get(0).item();
+    }
+
+    private List<PutItemEnhancedRequest<Production>> captureAsyncPuts(int expected) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<PutItemEnhancedRequest<Production>> requestCaptor =
+            ArgumentCaptor.forClass(PutItemEnhancedRequest.class);
+        verify(asyncTableMock, times(expected)).putItem(requestCaptor.capture());
+        return requestCaptor.getAllValues();
+    }
+
+    @Test
+    void shouldLogAggregatedSummaryAndResetCounters() {
+        // Arrange
+        ch.qos.logback.classic.Logger logger =
+            (ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory.getLogger(ProductionConsumerService.class);
+        ch.qos.logback.core.read.ListAppender<ch.qos.logback.classic.spi.ILoggingEvent> appender =
+            new ch.qos.logback.core.read.ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        String body = toJson(createConsumeDTO());
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null))
+            .thenReturn(CompletableFuture.failedFuture(ConditionalCheckFailedException.builder().message("exists").build()));
+        productionConsumerService.handleJsonAsync(body).join();
+        productionConsumerService.handleJsonAsync(body).join();
+
+        try {
+            // Act
+            productionConsumerService.logProcessingSummary();
+            productionConsumerService.logProcessingSummary();
+
+            // Assert
+            List<String> summaries = appender.list.stream()
+                .map(ch.qos.logback.classic.spi.ILoggingEvent::getFormattedMessage)
+                .filter(message -> message.startsWith("Production messages processed"))
+                .toList();
+            assertEquals(List.of("Production messages processed: 1 created, 1 duplicates, 0 failed"), summaries);
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+
+    @Test
+    void shouldRecordHandleLatencyAndOutcomeCounters() {
+        // Arrange
+        String body = toJson(createConsumeDTO());
+        when(asyncTableMock.putItem(any(PutItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        productionConsumerService.handleJsonAsync(body).join();
+
+        // Assert
+        assertEquals(1, meterRegistry.get(ProductionConstants.METRIC_CONSUMER_HANDLE).timer().count());
+        assertEquals(1.0, meterRegistry.get(ProductionConstants.METRIC_CONSUMER_MESSAGES).tag("outcome", "created").counter().count());
+        assertEquals(0.0, meterRegistry.get(ProductionConstants.METRIC_CONSUMER_MESSAGES).tag("outcome", "failed").counter().count());
+    }
 }
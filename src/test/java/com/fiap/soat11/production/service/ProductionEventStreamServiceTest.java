@@ -0,0 +1,262 @@
+package com.fiap.soat11.production.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.entity.Production;
+
+class ProductionEventStreamServiceTest {
+
+    private PendingProductionView pendingView;
+    private List<SseEmitter> createdEmitters;
+    private ProductionEventStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        pendingView = new PendingProductionView(new InMemoryProductionChangeChannel(), true);
+        createdEmitters = new ArrayList<>();
+        service = createService(16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void testSubscribeSendsSnapshotAndRegistersClient() throws IOException {
+        // Arrange
+        Production pending = production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED);
+
+        // Act
+        SseEmitter emitter = service.subscribe(() -> List.of(pending));
+
+        // Assert
+        verify(emitter, timeout(1000)).send(any(SseEmitter.SseEventBuilder.class));
+        assertEquals(1, awaitSubscribers(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testViewChangesAreBroadcastToAllClients() throws IOException {
+        // Arrange
+        SseEmitter first = service.subscribe(List::of);
+        SseEmitter second = service.subscribe(List::of);
+        awaitSubscribers(2);
+
+        // Act
+        pendingView.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED));
+
+        // Assert
+        ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> captor = ArgumentCaptor.forClass(Set.class);
+        verify(first, timeout(1000)).send(captor.capture());
+        verify(second, timeout(1000)).send(anySet());
+        String text = captor.getValue().stream()
+            .map(data -> String.valueOf(data.getData()))
+            .reduce("", String::concat);
+        assertTrue(text.contains("event:add"));
+    }
+
+    @Test
+    void testFailingClientIsDropped() throws IOException {
+        // Arrange
+        SseEmitter emitter = service.subscribe(List::of);
+        awaitSnapshot(emitter);
+        doThrow(new IOException("Broken pipe")).when(emitter).send(anySet());
+
+        // Act
+        pendingView.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED));
+
+        // Assert
+        verify(emitter, timeout(1000)).completeWithError(any(IOException.class));
+        assertEquals(0, service.getSubscriberCount());
+    }
+
+    @Test
+    void testSnapshotFailureCompletesEmitterWithError() {
+        // Act
+        SseEmitter emitter = service.subscribe(() -> {
+            throw new IllegalStateException("DynamoDB indisponível");
+        });
+
+        // Assert
+        verify(emitter, timeout(1000)).completeWithError(any(IllegalStateException.class));
+        assertEquals(0, service.getSubscriberCount());
+    }
+
+    @Test
+    void testHeartbeatSendsCommentToClients() throws IOException {
+        // Arrange
+        SseEmitter emitter = service.subscribe(List::of);
+        awaitSubscribers(1);
+
+        // Act
+        service.heartbeat();
+
+        // Assert
+        verify(emitter, timeout(1000)).send(anySet());
+    }
+
+    @Test
+    void testHeartbeatWithoutClientsDoesNothing() {
+        // Act
+        service.heartbeat();
+
+        // Assert
+        assertTrue(createdEmitters.isEmpty());
+        assertEquals(0, service.getSubscriberCount());
+    }
+
+    @Test
+    void testSlowClientDoesNotDelayOtherClients() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        SseEmitter slow = service.subscribe(List::of);
+        SseEmitter fast = service.subscribe(List::of);
+        awaitSnapshot(slow);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(slow).send(anySet());
+
+        try {
+            // Act
+            pendingView.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED));
+            pendingView.upsert(production("prod-2", ProductionConstants.PRODUCTION_STATUS_RECEIVED));
+
+            // Assert
+            verify(fast, timeout(1000).times(2)).send(anySet());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testClientWithFullBufferIsDropped() throws Exception {
+        // Arrange
+        service.destroy();
+        service = createService(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch sending = new CountDownLatch(1);
+        SseEmitter slow = service.subscribe(List::of);
+        awaitSnapshot(slow);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await();
+            return null;
+        }).when(slow).send(anySet());
+
+        try {
+            pendingView.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED));
+            assertTrue(sending.await(1, TimeUnit.SECONDS));
+
+            // Act: um evento fica no buffer, o seguinte não cabe
+            pendingView.upsert(production("prod-2", ProductionConstants.PRODUCTION_STATUS_RECEIVED));
+            pendingView.upsert(production("prod-3", ProductionConstants.PRODUCTION_STATUS_RECEIVED));
+
+            // Assert
+            verify(slow, timeout(1000)).completeWithError(any(IllegalStateException.class));
+            assertEquals(0, service.getSubscriberCount());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testSlowSnapshotDoesNotDelayOtherClients() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        service.subscribe(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        });
+        SseEmitter other = service.subscribe(List::of);
+
+        try {
+            // Act
+            pendingView.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED));
+
+            // Assert
+            verify(other, timeout(1000)).send(anySet());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testChangesDuringSnapshotAreSentAfterIt() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        SseEmitter emitter = service.subscribe(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        });
+
+        // Act
+        pendingView.upsert(production("prod-1", ProductionConstants.PRODUCTION_STATUS_RECEIVED));
+        release.countDown();
+
+        // Assert
+        InOrder inOrder = inOrder(emitter);
+        inOrder.verify(emitter, timeout(1000)).send(any(SseEmitter.SseEventBuilder.class));
+        inOrder.verify(emitter, timeout(1000)).send(anySet());
+    }
+
+    private ProductionEventStreamService createService(int bufferSize) {
+        return new ProductionEventStreamService(pendingView, 60_000L, bufferSize) {
+            @Override
+            SseEmitter createEmitter() {
+                SseEmitter emitter = mock(SseEmitter.class);
+                createdEmitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private void awaitSnapshot(SseEmitter emitter) throws IOException {
+        // O stub de send(Set) só é trocado depois que a thread do cliente enviou o snapshot
+        verify(emitter, timeout(1000)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    private int awaitSubscribers(int expected) {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (service.getSubscriberCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        return service.getSubscriberCount();
+    }
+
+    private Production production(String id, String status) {
+        Production production = new Production();
+        production.setId(id);
+        production.setStatus(status);
+        production.setUpdatedAt(1000L);
+        return production;
+    }
+}
@@ -5,24 +5,54 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.dto.ProductionPageDTO;
 import com.fiap.soat11.production.entity.Customer;
 import com.fiap.soat11.production.entity.OrderItem;
+import com.fiap.soat11.production.entity.OutboxMessage;
+import com.fiap.soat11.production.entity.OutboxTableSchema;
 import com.fiap.soat11.production.entity.Production;
+import com.fiap.soat11.production.entity.ProductionTableSchema;
 import com.fiap.soat11.production.exception.ProductionException;
+import com.fiap.soat11.production.exception.ProductionStatusConflictException;
+import com.fiap.soat11.production.mapper.PageCursorMapper;
 
-import io.awspring.cloud.sqs.operations.SqsTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
 
 @ExtendWith(MockitoExtension.class)
 class ProductionProducerServiceTest {
@@ -31,10 +61,22 @@ class ProductionProducerServiceTest {
     private DynamoDbTable<Production> dynamoDBClient;
 
     @Mock
-    private SqsTemplate sqsTemplate;
+    private DynamoDbAsyncTable<Production> asyncTable;
+
+    @Mock
+    private DynamoDbTable<OutboxMessage> outboxTable;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private DynamoDbEnhancedAsyncClient enhancedAsyncClient;
+
+    @Mock
+    private OutboxRelayService outboxRelayService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private InMemoryProductionChangeChannel changeChannel;
+
+    private PendingProductionView pendingView;
 
     private ProductionProducerService productionProducerService;
     private Production testProduction;
@@ -42,7 +84,25 @@ class ProductionProducerServiceTest {
 
     @BeforeEach
     void setUp() {
-        productionProducerService = new ProductionProducerService(dynamoDBClient, sqsTemplate, objectMapper);
+        meterRegistry = new SimpleMeterRegistry();
+        changeChannel = new InMemoryProductionChangeChannel();
+        pendingView = new PendingProductionView(changeChannel, true);
+        productionProducerService = new ProductionProducerService(dynamoDBClient, asyncTable, outboxTable,
+            enhancedAsyncClient, outboxRelayService, pendingView, changeChannel, meterRegistry, true);
+        
+        // A transação do TransactWriteItems é montada a partir do schema e do nome das tabelas
+        lenient().when(dynamoDBClient.tableSchema()).thenReturn(ProductionTableSchema.PRODUCTION);
+        lenient().when(dynamoDBClient.tableName()).thenReturn(ProductionConstants.DYNAMODB_TABLE_NAME);
+        lenient().when(outboxTable.tableSchema()).thenReturn(OutboxTableSchema.OUTBOX_MESSAGE);
+        lenient().when(outboxTable.tableName()).thenReturn(ProductionConstants.DYNAMODB_OUTBOX_TABLE_NAME);
+        lenient().when(enhancedAsyncClient.transactWriteItems(any(TransactWriteItemsEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        lenient().when(outboxRelayService.leaseForDispatch(any(OutboxMessage.class))).thenAnswer(invocation -> {
+            OutboxMessage message = invocation.getArgument(0);
+            message.setClaimedBy("instance-1");
+            message.setLeaseUntil(Long.MAX_VALUE);
+            return message;
+        });
         
         productionId = UUID.randomUUID().toString();
         
@@ -63,51 +123,160 @@ class ProductionProducerServiceTest {
     }
 
     @Test
-    void testUpdateStatusAndPublishSuccess() {
+    void testUpdateStatusAndPublishAsyncRecordsLatencyByOutcome() {
         // Arrange
-        when(dynamoDBClient.getItem(any(Key.class))).thenReturn(testProduction);
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
+        productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED").join();
+        when(enhancedAsyncClient.transactWriteItems(any(TransactWriteItemsEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(transactionCanceled("ConditionalCheckFailed", ProductionConstants.PRODUCTION_STATUS_STARTED)));
 
         // Act
-        Production result = productionProducerService.updateStatusAndPublish(productionId, "STARTED");
+        assertInstanceOf(ProductionStatusConflictException.class,
+            failureOf(productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED")));
+
+        // Assert
+        assertEquals(1, meterRegistry.get(ProductionConstants.METRIC_STATUS_UPDATE).tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(ProductionConstants.METRIC_STATUS_UPDATE).tag("outcome", "conflict").timer().count());
+    }
+
+    @Test
+    void testUpdateStatusAndPublishAsyncReadsEventuallyConsistentWhenNotInView() {
+        // Arrange
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
+
+        // Act
+        productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED").join();
+
+        // Assert
+        ArgumentCaptor<GetItemEnhancedRequest> captor = ArgumentCaptor.forClass(GetItemEnhancedRequest.class);
+        verify(asyncTable).getItem(captor.capture());
+        assertNotEquals(Boolean.TRUE, captor.getValue().consistentRead());
+        assertEquals(productionId, captor.getValue().key().partitionKeyValue().s());
+    }
+
+    @Test
+    void testUpdateStatusAndPublishAsyncSkipsReadWhenProductionInView() {
+        // Arrange
+        pendingView.reconcile(java.util.List.of(testProduction), 0L);
+
+        // Act
+        Production result = productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED").join();
 
         // Assert
-        assertNotNull(result);
         assertEquals("STARTED", result.getStatus());
-        verify(dynamoDBClient, times(1)).putItem(any(Production.class));
+        assertEquals("order-123", result.getOrderID());
+        assertEquals(ProductionConstants.PRODUCTION_STATUS_RECEIVED, testProduction.getStatus());
+        verify(asyncTable, never()).getItem(any(GetItemEnhancedRequest.class));
+        verify(enhancedAsyncClient).transactWriteItems(any(TransactWriteItemsEnhancedRequest.class));
+    }
+
+    @Test
+    void testUpdateStatusAndPublishAsyncCompletesStartedProductionWithoutRead() {
+        // Arrange
+        pendingView.reconcile(java.util.List.of(testProduction), 0L);
+        productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED").join();
+
+        // Act
+        Production result = productionProducerService.updateStatusAndPublishAsync(productionId, "COMPLETED").join();
+
+        // Assert
+        assertEquals("COMPLETED", result.getStatus());
+        verify(asyncTable, never()).getItem(any(GetItemEnhancedRequest.class));
+        verify(enhancedAsyncClient, times(2)).transactWriteItems(any(TransactWriteItemsEnhancedRequest.class));
+    }
+
+    @Test
+    void testUpdateStatusAndPublishAsyncWritesStatusAndOutboxInOneTransaction() throws Exception {
+        // Arrange
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
+
+        // Act
+        productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED").join();
+
+        // Assert
+        List<TransactWriteItem> items = captureTransaction(enhancedAsyncClient).transactWriteItems();
+        assertEquals(2, items.size());
+
+        Update update = items.get(0).update();
+        assertEquals(ProductionConstants.DYNAMODB_TABLE_NAME, update.tableName());
+        assertEquals("attribute_exists(#id) AND #status = :previousStatus", update.conditionExpression());
+        assertEquals(ProductionConstants.PRODUCTION_STATUS_RECEIVED,
+            update.expressionAttributeValues().get(":previousStatus").s());
+        assertFalse(update.updateExpression().contains("customer"));
+        assertFalse(update.updateExpression().contains("items"));
+        assertEquals(ReturnValuesOnConditionCheckFailure.ALL_OLD, update.returnValuesOnConditionCheckFailure());
+
+        Put put = items.get(1).put();
+        assertEquals(ProductionConstants.DYNAMODB_OUTBOX_TABLE_NAME, put.tableName());
+        assertEquals(ProductionConstants.SQS_QUEUE_PRODUCER, put.item().get("queueName").s());
+        JsonNode payload = new ObjectMapper().readTree(put.item().get("payload").s());
+        assertEquals("production-started-event", payload.path("meta").path("event_name").asText());
+        assertEquals(testProduction.getOrderID(), payload.path("payload").path("production").path("order_id").asText());
+        // A mensagem é gravada já reivindicada por esta instância, que faz o dispatch
+        assertEquals("instance-1", put.item().get("claimedBy").s());
+        assertEquals(String.valueOf(Long.MAX_VALUE), put.item().get("leaseUntil").n());
+
+        ArgumentCaptor<OutboxMessage> dispatched = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outboxRelayService).dispatch(dispatched.capture());
+        assertEquals(put.item().get("id").s(), dispatched.getValue().getId());
     }
 
     @Test
-    void testUpdateStatusAndPublishNotFound() {
+    void testUpdateStatusAndPublishAsyncNotFoundByConditionFailureWithoutItem() {
         // Arrange
-        when(dynamoDBClient.getItem(any(Key.class))).thenReturn(null);
+        pendingView.reconcile(java.util.List.of(testProduction), 0L);
+        when(enhancedAsyncClient.transactWriteItems(any(TransactWriteItemsEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(transactionCanceled("ConditionalCheckFailed", null)));
 
         // Act & Assert
-        assertThrows(ProductionException.class, () -> 
-            productionProducerService.updateStatusAndPublish(productionId, "STARTED"));
+        ProductionException exception = assertInstanceOf(ProductionException.class,
+            failureOf(productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED")));
         
-        verify(dynamoDBClient, never()).putItem(any(Production.class));
+        assertFalse(exception instanceof ProductionStatusConflictException);
+        assertTrue(exception.getMessage().contains(productionId));
+        verify(outboxRelayService, never()).dispatch(any(OutboxMessage.class));
     }
 
     @Test
-    void testUpdateStatusAndPublishWithValidStatuses() {
+    void testUpdateStatusAndPublishAsyncCanceledTransactionWithoutConditionFailure() {
         // Arrange
-        when(dynamoDBClient.getItem(any(Key.class))).thenReturn(testProduction);
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
+        when(enhancedAsyncClient.transactWriteItems(any(TransactWriteItemsEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(transactionCanceled("ThrottlingError", null)));
+
+        // Act & Assert
+        ProductionException exception = assertInstanceOf(ProductionException.class,
+            failureOf(productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED")));
+        
+        assertFalse(exception instanceof ProductionStatusConflictException);
+    }
+
+    @Test
+    void testUpdateStatusAndPublishAsyncWithValidStatuses() {
+        // Arrange
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
         String[] statuses = {"STARTED", "COMPLETED"};
 
         // Act & Assert
         for (String status : statuses) {
-            Production result = productionProducerService.updateStatusAndPublish(productionId, status);
+            Production result = productionProducerService.updateStatusAndPublishAsync(productionId, status).join();
             assertEquals(status, result.getStatus());
         }
 
-        verify(dynamoDBClient, times(2)).putItem(any(Production.class));
+        verify(enhancedAsyncClient, times(2)).transactWriteItems(any(TransactWriteItemsEnhancedRequest.class));
     }
 
     @Test
-    void testUpdateStatusAndPublishUpdatesTimestamp() {
+    void testUpdateStatusAndPublishAsyncUpdatesTimestamp() {
         // Arrange
         Long originalTimestamp = testProduction.getUpdatedAt();
-        when(dynamoDBClient.getItem(any(Key.class))).thenReturn(testProduction);
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
 
         // Act
         try {
@@ -116,7 +285,7 @@ class ProductionProducerServiceTest {
             Thread.currentThread().interrupt();
         }
         
-        Production result = productionProducerService.updateStatusAndPublish(productionId, "STARTED");
+        Production result = productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED").join();
 
         // Assert
         assertNotNull(result.getUpdatedAt());
@@ -124,18 +293,7 @@ class ProductionProducerServiceTest {
     }
 
     @Test
-    void testUpdateStatusAndPublishThrowsExceptionOnDatabaseError() {
-        // Arrange
-        when(dynamoDBClient.getItem(any(Key.class)))
-            .thenThrow(new RuntimeException("Database connection error"));
-
-        // Act & Assert
-        assertThrows(ProductionException.class, () -> 
-            productionProducerService.updateStatusAndPublish(productionId, "STARTED"));
-    }
-
-    @Test
-    void testUpdateStatusAndPublishMultipleItems() {
+    void testUpdateStatusAndPublishAsyncMultipleItems() {
         // Arrange
         OrderItem item1 = new OrderItem();
         item1.setName("Product 1");
@@ -146,55 +304,277 @@ class ProductionProducerServiceTest {
         item2.setQuantity(3);
 
         testProduction.setItems(java.util.Arrays.asList(item1, item2));
-        when(dynamoDBClient.getItem(any(Key.class))).thenReturn(testProduction);
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
 
         // Act
-        Production result = productionProducerService.updateStatusAndPublish(productionId, "STARTED");
+        Production result = productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED").join();
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.getItems().size());
-        verify(dynamoDBClient, times(1)).putItem(any(Production.class));
+        verify(enhancedAsyncClient, times(1)).transactWriteItems(any(TransactWriteItemsEnhancedRequest.class));
     }
 
     @Test
-    void testUpdateStatusAndPublishWithInvalidStatus() {
+    void testUpdateStatusAndPublishAsyncPreservesOrderID() {
         // Arrange
-        when(dynamoDBClient.getItem(any(Key.class))).thenReturn(testProduction);
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
 
-        // Act & Assert
-        assertThrows(ProductionException.class, () -> 
-            productionProducerService.updateStatusAndPublish(productionId, "INVALID_STATUS"));
+        // Act
+        Production result = productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED").join();
+
+        // Assert
+        assertEquals("order-123", result.getOrderID());
     }
 
     @Test
-    void testUpdateStatusAndPublishPreservesOrderID() {
+    void testUpdateStatusAndPublishAsyncPreservesCustomer() {
         // Arrange
-        when(dynamoDBClient.getItem(any(Key.class))).thenReturn(testProduction);
+        testProduction.setStatus(ProductionConstants.PRODUCTION_STATUS_STARTED);
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
 
         // Act
-        Production result = productionProducerService.updateStatusAndPublish(productionId, "STARTED");
+        Production result = productionProducerService.updateStatusAndPublishAsync(productionId, "COMPLETED").join();
 
         // Assert
-        assertEquals("order-123", result.getOrderID());
+        assertNotNull(result.getCustomer());
+        assertEquals("John Doe", result.getCustomer().getName());
     }
 
     @Test
-    void testUpdateStatusAndPublishPreservesCustomer() {
+    void testUpdateStatusAndPublishAsyncSuccess() {
         // Arrange
-        when(dynamoDBClient.getItem(any(Key.class))).thenReturn(testProduction);
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
+        when(enhancedAsyncClient.transactWriteItems(any(TransactWriteItemsEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
 
         // Act
-        Production result = productionProducerService.updateStatusAndPublish(productionId, "COMPLETED");
+        Production result = productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED").join();
 
         // Assert
-        assertNotNull(result.getCustomer());
-        assertEquals("John Doe", result.getCustomer().getName());
+        assertEquals("STARTED", result.getStatus());
+        verify(enhancedAsyncClient, times(1)).transactWriteItems(any(TransactWriteItemsEnhancedRequest.class));
+        verify(outboxRelayService, times(1)).dispatch(any(OutboxMessage.class));
+    }
+
+    @Test
+    void testUpdateStatusAndPublishAsyncNotFound() {
+        // Arrange
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        CompletableFuture<Production> result = productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED");
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(ProductionException.class, exception.getCause());
+        assertFalse(exception.getCause() instanceof ProductionStatusConflictException);
+        verify(enhancedAsyncClient, never()).transactWriteItems(any(TransactWriteItemsEnhancedRequest.class));
+    }
+
+    @Test
+    void testUpdateStatusAndPublishAsyncInvalidTransitionThrowsConflict() {
+        // Arrange
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
+        when(enhancedAsyncClient.transactWriteItems(any(TransactWriteItemsEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(transactionCanceled("ConditionalCheckFailed",
+                ProductionConstants.PRODUCTION_STATUS_RECEIVED)));
+
+        // Act
+        CompletableFuture<Production> result = productionProducerService.updateStatusAndPublishAsync(productionId, "COMPLETED");
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(ProductionStatusConflictException.class, exception.getCause());
+        assertEquals("Transição de status inválida: RECEIVED -> COMPLETED", exception.getCause().getMessage());
+    }
+
+    @Test
+    void testUpdateStatusAndPublishAsyncRecordsConflictOutcome() {
+        // Arrange
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
+        when(enhancedAsyncClient.transactWriteItems(any(TransactWriteItemsEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(transactionCanceled("ConditionalCheckFailed",
+                ProductionConstants.PRODUCTION_STATUS_RECEIVED)));
+
+        // Act
+        CompletableFuture<Production> result = productionProducerService.updateStatusAndPublishAsync(productionId, "COMPLETED");
+
+        // Assert
+        assertThrows(CompletionException.class, result::join);
+        assertEquals(1, meterRegistry.get(ProductionConstants.METRIC_STATUS_UPDATE).tag("outcome", "conflict").timer().count());
+    }
+
+    @Test
+    void testUpdateStatusAndPublishAsyncConcurrentChangeThrowsConflict() {
+        // Arrange
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(testProduction));
+        when(enhancedAsyncClient.transactWriteItems(any(TransactWriteItemsEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(transactionCanceled("ConditionalCheckFailed",
+                ProductionConstants.PRODUCTION_STATUS_STARTED)));
+
+        // Act
+        CompletableFuture<Production> result = productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED");
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(ProductionStatusConflictException.class, exception.getCause());
+    }
+
+    @Test
+    void testUpdateStatusAndPublishAsyncWrapsDatabaseError() {
+        // Arrange
+        when(asyncTable.getItem(any(GetItemEnhancedRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Database connection error")));
+
+        // Act
+        CompletableFuture<Production> result = productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED");
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(ProductionException.class, exception.getCause());
+        assertTrue(exception.getCause().getMessage().contains("Database connection error"));
+    }
+
+    @Test
+    void testUpdateStatusAndPublishAsyncWithInvalidStatus() {
+        // Act
+        CompletableFuture<Production> result = productionProducerService.updateStatusAndPublishAsync(productionId, "INVALID_STATUS");
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(ProductionException.class, exception.getCause());
+        verify(asyncTable, never()).getItem(any(GetItemEnhancedRequest.class));
+        verify(enhancedAsyncClient, never()).transactWriteItems(any(TransactWriteItemsEnhancedRequest.class));
+    }
+
+    private Throwable failureOf(CompletableFuture<?> future) {
+        return assertThrows(CompletionException.class, future::join).getCause();
+    }
+
+    private TransactWriteItemsEnhancedRequest captureTransaction(DynamoDbEnhancedAsyncClient client) {
+        ArgumentCaptor<TransactWriteItemsEnhancedRequest> captor =
+            ArgumentCaptor.forClass(TransactWriteItemsEnhancedRequest.class);
+        verify(client).transactWriteItems(captor.capture());
+        return captor.getValue();
+    }
+
+    private TransactionCanceledException transactionCanceled(String reasonCode, String currentStatus) {
+        CancellationReason.Builder reason = CancellationReason.builder().code(reasonCode);
+        if (currentStatus != null) {
+            reason.item(java.util.Map.of(
+                "id", AttributeValue.builder().s(productionId).build(),
+                "status", AttributeValue.builder().s(currentStatus).build()));
+        }
+        return TransactionCanceledException.builder()
+            .message("Transaction cancelled")
+            .cancellationReasons(reason.build(), CancellationReason.builder().code("None").build())
+            .build();
+    }
+
+    @Test
+    void testUpdateStatusAndPublishAsyncRemovesProductionFromPendingView() {
+        // Arrange
+        pendingView.reconcile(java.util.List.of(testProduction), 0L);
+
+        // Act
+        productionProducerService.updateStatusAndPublishAsync(productionId, "STARTED").join();
+
+        // Assert
+        assertTrue(productionProducerService.listPendingProductions().isEmpty());
+    }
+
+    @Test
+    void testListPendingProductionsServedFromViewWhenReady() {
+        // Arrange
+        pendingView.reconcile(java.util.List.of(testProduction), 0L);
+
+        // Act
+        java.util.List<Production> result = productionProducerService.listPendingProductions();
+
+        // Assert
+        assertEquals(java.util.List.of(testProduction), result);
+        verify(dynamoDBClient, never()).index(anyString());
+    }
+
+    @Test
+    void testListPendingProductionsRecordsLatencyBySource() {
+        // Arrange
+        pendingView.reconcile(java.util.List.of(testProduction), 0L);
+
+        // Act
+        productionProducerService.listPendingProductions();
+
+        // Assert
+        assertEquals(1, meterRegistry.get(ProductionConstants.METRIC_PENDING_LIST).tag("source", "view").timer().count());
+    }
+
+    @Test
+    void testReconcilePendingViewLoadsViewFromIndex() {
+        // Arrange
+        markStatusIndexMigrated();
+        mockStatusIndexQuery(java.util.List.of(testProduction));
+
+        // Act
+        productionProducerService.reconcilePendingView();
+
+        // Assert
+        assertTrue(pendingView.isReady());
+        assertEquals(java.util.List.of(testProduction), pendingView.snapshot());
+    }
+
+    @Test
+    void testReconcilePendingViewKeepsViewOnDatabaseError() {
+        // Arrange
+        markStatusIndexMigrated();
+        when(dynamoDBClient.index(ProductionConstants.DYNAMODB_STATUS_INDEX_NAME))
+            .thenThrow(new RuntimeException("Database connection error"));
+
+        // Act
+        productionProducerService.reconcilePendingView();
+
+        // Assert
+        assertFalse(pendingView.isReady());
+    }
+
+    @Test
+    void testPendingProductionsETagOnlyWhenViewIsReady() {
+        // Arrange
+        assertNull(productionProducerService.getPendingProductionsETag());
+
+        // Act
+        pendingView.reconcile(java.util.List.of(testProduction), 0L);
+
+        // Assert
+        assertEquals(pendingView.getETag(), productionProducerService.getPendingProductionsETag());
+    }
+
+    @Test
+    void testReconcilePendingViewSkippedWhenDisabled() {
+        // Arrange
+        productionProducerService = new ProductionProducerService(dynamoDBClient, asyncTable, outboxTable,
+            enhancedAsyncClient, outboxRelayService,
+            new PendingProductionView(changeChannel, false), changeChannel, meterRegistry, true);
+
+        // Act
+        productionProducerService.reconcilePendingView();
+
+        // Assert
+        verify(dynamoDBClient, never()).index(anyString());
     }
 
     @Test
     void testListPendingProductionsSuccess() {
         // Arrange
+        markStatusIndexMigrated();
         Production prod1 = new Production();
         prod1.setId("prod-1");
         prod1.setStatus("RECEIVED");
@@ -202,28 +582,10 @@ class ProductionProducerServiceTest {
 
         Production prod2 = new Production();
         prod2.setId("prod-2");
-        prod2.setStatus("IN_PROGRESS");
+        prod2.setStatus("RECEIVED");
         prod2.setUpdatedAt(2000L);
 
-        Production prod3 = new Production();
-        prod3.setId("prod-3");
-        prod3.setStatus("STARTED");
-        prod3.setUpdatedAt(1500L);
-
-        Production prod4 = new Production();
-        prod4.setId("prod-4");
-        prod4.setStatus("COMPLETED");
-        prod4.setUpdatedAt(3000L);
-
-        java.util.List<Production> allProductions = java.util.Arrays.asList(prod1, prod2, prod3, prod4);
-        
-        software.amazon.awssdk.enhanced.dynamodb.model.PageIterable<Production> mockPageIterable = 
-            mock(software.amazon.awssdk.enhanced.dynamodb.model.PageIterable.class);
-        software.amazon.awssdk.core.pagination.sync.SdkIterable<Production> mockSdkIterable =
-            mock(software.amazon.awssdk.core.pagination.sync.SdkIterable.class);
-        when(dynamoDBClient.scan()).thenReturn(mockPageIterable);
-        when(mockPageIterable.items()).thenReturn(mockSdkIterable);
-        when(mockSdkIterable.stream()).thenReturn(allProductions.stream());
+        mockStatusIndexQuery(java.util.Arrays.asList(prod1, prod2));
 
         // Act
         java.util.List<Production> result = productionProducerService.listPendingProductions();
@@ -234,13 +596,36 @@ class ProductionProducerServiceTest {
         assertEquals("prod-1", result.get(0).getId());
         assertEquals("RECEIVED", result.get(0).getStatus());
         assertEquals("prod-2", result.get(1).getId());
-        assertEquals("IN_PROGRESS", result.get(1).getStatus());
-        verify(dynamoDBClient, times(1)).scan();
+        verify(dynamoDBClient, times(1)).index(ProductionConstants.DYNAMODB_STATUS_INDEX_NAME);
+        verify(dynamoDBClient, never()).scan();
+    }
+
+    @Test
+    void testListPendingProductionsQueriesOnlyPendingStatuses() {
+        // Arrange
+        markStatusIndexMigrated();
+        DynamoDbIndex<Production> statusIndex = mockStatusIndexQuery(java.util.Collections.emptyList());
+        ArgumentCaptor<QueryEnhancedRequest> requestCaptor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+
+        // Act
+        productionProducerService.listPendingProductions();
+
+        // Assert
+        verify(statusIndex, times(ProductionConstants.PRODUCTION_PENDING_STATUSES.size()))
+            .query(requestCaptor.capture());
+        java.util.List<String> queriedStatuses = requestCaptor.getAllValues().stream()
+            .map(request -> request.queryConditional()
+                .expression(ProductionTableSchema.PRODUCTION, ProductionConstants.DYNAMODB_STATUS_INDEX_NAME)
+                .expressionValues().get(":AMZN_MAPPED_status").s())
+            .toList();
+        assertEquals(ProductionConstants.PRODUCTION_PENDING_STATUSES, queriedStatuses);
+        assertTrue(requestCaptor.getValue().scanIndexForward());
     }
 
     @Test
     void testListPendingProductionsOrderedByUpdatedAt() {
         // Arrange
+        markStatusIndexMigrated();
         Production prod1 = new Production();
         prod1.setId("prod-1");
         prod1.setStatus("RECEIVED");
@@ -248,23 +633,15 @@ class ProductionProducerServiceTest {
 
         Production prod2 = new Production();
         prod2.setId("prod-2");
-        prod2.setStatus("IN_PROGRESS");
+        prod2.setStatus("RECEIVED");
         prod2.setUpdatedAt(1000L);
 
         Production prod3 = new Production();
         prod3.setId("prod-3");
-        prod3.setStatus("PENDING");
+        prod3.setStatus("RECEIVED");
         prod3.setUpdatedAt(2000L);
 
-        java.util.List<Production> allProductions = java.util.Arrays.asList(prod1, prod2, prod3);
-        
-        software.amazon.awssdk.enhanced.dynamodb.model.PageIterable<Production> mockPageIterable = 
-            mock(software.amazon.awssdk.enhanced.dynamodb.model.PageIterable.class);
-        software.amazon.awssdk.core.pagination.sync.SdkIterable<Production> mockSdkIterable =
-            mock(software.amazon.awssdk.core.pagination.sync.SdkIterable.class);
-        when(dynamoDBClient.scan()).thenReturn(mockPageIterable);
-        when(mockPageIterable.items()).thenReturn(mockSdkIterable);
-        when(mockSdkIterable.stream()).thenReturn(allProductions.stream());
+        mockStatusIndexQuery(java.util.Arrays.asList(prod1, prod2, prod3));
 
         // Act
         java.util.List<Production> result = productionProducerService.listPendingProductions();
@@ -278,15 +655,10 @@ class ProductionProducerServiceTest {
     }
 
     @Test
-    void testListPendingProductionsEmptyTable() {
+    void testListPendingProductionsEmptyIndex() {
         // Arrange
-        software.amazon.awssdk.enhanced.dynamodb.model.PageIterable<Production> mockPageIterable = 
-            mock(software.amazon.awssdk.enhanced.dynamodb.model.PageIterable.class);
-        software.amazon.awssdk.core.pagination.sync.SdkIterable<Production> mockSdkIterable =
-            mock(software.amazon.awssdk.core.pagination.sync.SdkIterable.class);
-        when(dynamoDBClient.scan()).thenReturn(mockPageIterable);
-        when(mockPageIterable.items()).thenReturn(mockSdkIterable);
-        when(mockSdkIterable.stream()).thenReturn(java.util.stream.Stream.empty());
+        markStatusIndexMigrated();
+        mockStatusIndexQuery(java.util.Collections.emptyList());
 
         // Act
         java.util.List<Production> result = productionProducerService.listPendingProductions();
@@ -294,150 +666,332 @@ class ProductionProducerServiceTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(dynamoDBClient, times(1)).scan();
     }
 
     @Test
-    void testListPendingProductionsAllStartedOrCompleted() {
+    void testListPendingProductionsHandlesNullUpdatedAt() {
         // Arrange
+        markStatusIndexMigrated();
         Production prod1 = new Production();
         prod1.setId("prod-1");
-        prod1.setStatus("STARTED");
+        prod1.setStatus("RECEIVED");
         prod1.setUpdatedAt(1000L);
 
         Production prod2 = new Production();
         prod2.setId("prod-2");
-        prod2.setStatus("COMPLETED");
-        prod2.setUpdatedAt(2000L);
+        prod2.setStatus("RECEIVED");
+        prod2.setUpdatedAt(null);
 
-        java.util.List<Production> allProductions = java.util.Arrays.asList(prod1, prod2);
-        
-        software.amazon.awssdk.enhanced.dynamodb.model.PageIterable<Production> mockPageIterable = 
-            mock(software.amazon.awssdk.enhanced.dynamodb.model.PageIterable.class);
-        software.amazon.awssdk.core.pagination.sync.SdkIterable<Production> mockSdkIterable =
-            mock(software.amazon.awssdk.core.pagination.sync.SdkIterable.class);
-        when(dynamoDBClient.scan()).thenReturn(mockPageIterable);
-        when(mockPageIterable.items()).thenReturn(mockSdkIterable);
-        when(mockSdkIterable.stream()).thenReturn(allProductions.stream());
+        mockStatusIndexQuery(java.util.Arrays.asList(prod1, prod2));
 
         // Act
         java.util.List<Production> result = productionProducerService.listPendingProductions();
 
         // Assert
         assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertEquals(2, result.size());
+        assertEquals("prod-2", result.get(0).getId());
+        assertEquals("prod-1", result.get(1).getId());
     }
 
     @Test
-    void testListPendingProductionsHandlesNullStatus() {
+    void testListPendingProductionsCaseInsensitiveStatus() {
         // Arrange
         Production prod1 = new Production();
         prod1.setId("prod-1");
-        prod1.setStatus(null);
+        prod1.setStatus("started");
         prod1.setUpdatedAt(1000L);
 
         Production prod2 = new Production();
         prod2.setId("prod-2");
-        prod2.setStatus("RECEIVED");
+        prod2.setStatus("Completed");
         prod2.setUpdatedAt(2000L);
 
-        java.util.List<Production> allProductions = java.util.Arrays.asList(prod1, prod2);
-        
-        software.amazon.awssdk.enhanced.dynamodb.model.PageIterable<Production> mockPageIterable = 
-            mock(software.amazon.awssdk.enhanced.dynamodb.model.PageIterable.class);
-        software.amazon.awssdk.core.pagination.sync.SdkIterable<Production> mockSdkIterable =
-            mock(software.amazon.awssdk.core.pagination.sync.SdkIterable.class);
-        when(dynamoDBClient.scan()).thenReturn(mockPageIterable);
-        when(mockPageIterable.items()).thenReturn(mockSdkIterable);
-        when(mockSdkIterable.stream()).thenReturn(allProductions.stream());
+        Production prod3 = new Production();
+        prod3.setId("prod-3");
+        prod3.setStatus("received");
+
+        mockLegacyScan(java.util.Arrays.asList(prod1, prod2, prod3));
+        ArgumentCaptor<UpdateItemEnhancedRequest<Production>> captor = ArgumentCaptor.forClass(UpdateItemEnhancedRequest.class);
 
         // Act
-        java.util.List<Production> result = productionProducerService.listPendingProductions();
+        productionProducerService.backfillPendingIndex();
 
         // Assert
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("prod-2", result.get(0).getId());
+        verify(dynamoDBClient, times(3)).updateItem(captor.capture());
+        java.util.List<String> migratedStatuses = captor.getAllValues().stream()
+            .map(request -> request.item().getStatus())
+            .toList();
+        assertEquals(java.util.List.of("STARTED", "COMPLETED", "RECEIVED"), migratedStatuses);
+        Production migrated = captor.getAllValues().get(2).item();
+        assertEquals("prod-3", migrated.getId());
+        assertEquals(0L, migrated.getUpdatedAt());
+        assertEquals("received", captor.getAllValues().get(2).conditionExpression()
+            .expressionValues().get(":seenStatus").s());
     }
 
     @Test
-    void testListPendingProductionsHandlesNullUpdatedAt() {
+    void testBackfillPendingIndexKeepsUpdatedAtAndSkipsConcurrentChange() {
         // Arrange
-        Production prod1 = new Production();
-        prod1.setId("prod-1");
-        prod1.setStatus("RECEIVED");
-        prod1.setUpdatedAt(null);
+        Production legacy = new Production();
+        legacy.setId("prod-1");
+        legacy.setStatus("Received");
+        legacy.setUpdatedAt(1000L);
+        mockLegacyScan(java.util.List.of(legacy));
+        ArgumentCaptor<UpdateItemEnhancedRequest<Production>> captor = ArgumentCaptor.forClass(UpdateItemEnhancedRequest.class);
+        when(dynamoDBClient.updateItem(captor.capture()))
+            .thenThrow(software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException.builder().build());
 
-        Production prod2 = new Production();
-        prod2.setId("prod-2");
-        prod2.setStatus("IN_PROGRESS");
-        prod2.setUpdatedAt(1000L);
+        // Act
+        productionProducerService.backfillPendingIndex();
+        productionProducerService.backfillPendingIndex();
 
-        java.util.List<Production> allProductions = java.util.Arrays.asList(prod1, prod2);
-        
-        software.amazon.awssdk.enhanced.dynamodb.model.PageIterable<Production> mockPageIterable = 
-            mock(software.amazon.awssdk.enhanced.dynamodb.model.PageIterable.class);
-        software.amazon.awssdk.core.pagination.sync.SdkIterable<Production> mockSdkIterable =
-            mock(software.amazon.awssdk.core.pagination.sync.SdkIterable.class);
-        when(dynamoDBClient.scan()).thenReturn(mockPageIterable);
-        when(mockPageIterable.items()).thenReturn(mockSdkIterable);
-        when(mockSdkIterable.stream()).thenReturn(allProductions.stream());
+        // Assert
+        assertEquals(1000L, captor.getValue().item().getUpdatedAt());
+        verify(dynamoDBClient, times(1)).scan(any(ScanEnhancedRequest.class));
+    }
+
+    @Test
+    void testBackfillPendingIndexRetriesAfterDatabaseError() {
+        // Arrange
+        when(dynamoDBClient.scan(any(ScanEnhancedRequest.class)))
+            .thenThrow(new RuntimeException("Database connection error"));
+
+        // Act
+        productionProducerService.backfillPendingIndex();
+        productionProducerService.backfillPendingIndex();
+
+        // Assert
+        verify(dynamoDBClient, times(2)).scan(any(ScanEnhancedRequest.class));
+    }
+
+    @Test
+    void testBackfillPendingIndexSkippedWhenDisabled() {
+        // Arrange
+        productionProducerService = new ProductionProducerService(dynamoDBClient, asyncTable, outboxTable,
+            enhancedAsyncClient, outboxRelayService, pendingView, changeChannel, meterRegistry, false);
+
+        // Act
+        productionProducerService.backfillPendingIndex();
+
+        // Assert
+        verify(dynamoDBClient, never()).scan(any(ScanEnhancedRequest.class));
+        verify(dynamoDBClient, never()).putItem(any(Production.class));
+    }
+
+    @Test
+    void testBackfillPendingIndexWritesMarkerAndSwitchesListingToIndex() {
+        // Arrange
+        mockLegacyScan(java.util.List.of());
+        ArgumentCaptor<Production> markerCaptor = ArgumentCaptor.forClass(Production.class);
+        productionProducerService.backfillPendingIndex();
+        mockStatusIndexQuery(java.util.List.of(testProduction));
 
         // Act
         java.util.List<Production> result = productionProducerService.listPendingProductions();
+        productionProducerService.backfillPendingIndex();
 
         // Assert
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals("prod-1", result.get(0).getId());
-        assertEquals("prod-2", result.get(1).getId());
+        verify(dynamoDBClient).putItem(markerCaptor.capture());
+        assertEquals(ProductionConstants.STATUS_INDEX_MIGRATION_MARKER_ID, markerCaptor.getValue().getId());
+        assertNull(markerCaptor.getValue().getStatus());
+        assertEquals(java.util.List.of(testProduction), result);
+        verify(dynamoDBClient, times(1)).scan(any(ScanEnhancedRequest.class));
+        verify(dynamoDBClient, times(1)).getItem(any(GetItemEnhancedRequest.class));
     }
 
     @Test
-    void testListPendingProductionsCaseInsensitiveStatus() {
+    void testBackfillPendingIndexSkipsScanWhenOtherInstanceMigrated() {
         // Arrange
-        Production prod1 = new Production();
-        prod1.setId("prod-1");
-        prod1.setStatus("started");
-        prod1.setUpdatedAt(1000L);
+        productionProducerService = new ProductionProducerService(dynamoDBClient, asyncTable, outboxTable,
+            enhancedAsyncClient, outboxRelayService, pendingView, changeChannel, meterRegistry, false);
+        ArgumentCaptor<GetItemEnhancedRequest> requestCaptor = ArgumentCaptor.forClass(GetItemEnhancedRequest.class);
 
-        Production prod2 = new Production();
-        prod2.setId("prod-2");
-        prod2.setStatus("Completed");
-        prod2.setUpdatedAt(2000L);
+        // Act
+        markStatusIndexMigrated();
 
-        Production prod3 = new Production();
-        prod3.setId("prod-3");
-        prod3.setStatus("RECEIVED");
-        prod3.setUpdatedAt(3000L);
+        // Assert
+        verify(dynamoDBClient).getItem(requestCaptor.capture());
+        assertEquals(ProductionConstants.STATUS_INDEX_MIGRATION_MARKER_ID,
+            requestCaptor.getValue().key().partitionKeyValue().s());
+        assertTrue(requestCaptor.getValue().consistentRead());
+        verify(dynamoDBClient, never()).scan(any(ScanEnhancedRequest.class));
+    }
 
-        java.util.List<Production> allProductions = java.util.Arrays.asList(prod1, prod2, prod3);
-        
-        software.amazon.awssdk.enhanced.dynamodb.model.PageIterable<Production> mockPageIterable = 
-            mock(software.amazon.awssdk.enhanced.dynamodb.model.PageIterable.class);
-        software.amazon.awssdk.core.pagination.sync.SdkIterable<Production> mockSdkIterable =
-            mock(software.amazon.awssdk.core.pagination.sync.SdkIterable.class);
-        when(dynamoDBClient.scan()).thenReturn(mockPageIterable);
-        when(mockPageIterable.items()).thenReturn(mockSdkIterable);
-        when(mockSdkIterable.stream()).thenReturn(allProductions.stream());
+    @Test
+    void testListPendingProductionsScansTableUntilStatusIndexMigrated() {
+        // Arrange
+        Production newer = new Production();
+        newer.setId("prod-1");
+        newer.setStatus("RECEIVED");
+        newer.setUpdatedAt(2000L);
+
+        Production legacy = new Production();
+        legacy.setId("prod-2");
+        legacy.setStatus("received");
+
+        Production started = new Production();
+        started.setId("prod-3");
+        started.setStatus("Started");
+
+        mockLegacyScan(java.util.List.of(newer, started, legacy));
 
         // Act
         java.util.List<Production> result = productionProducerService.listPendingProductions();
 
         // Assert
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("prod-3", result.get(0).getId());
+        assertEquals(java.util.List.of(legacy, newer), result);
+        verify(dynamoDBClient, never()).index(anyString());
+    }
+
+    @Test
+    void testListPendingProductionsPageFromScanContinuesAfterCursor() {
+        // Arrange
+        Production first = new Production();
+        first.setId("prod-1");
+        first.setStatus("received");
+
+        Production second = new Production();
+        second.setId("prod-2");
+        second.setStatus("RECEIVED");
+        second.setUpdatedAt(1000L);
+
+        Production third = new Production();
+        third.setId("prod-3");
+        third.setStatus("RECEIVED");
+        third.setUpdatedAt(2000L);
+
+        mockLegacyScan(java.util.List.of(third, first, second));
+
+        // Act
+        ProductionPageDTO firstPage = productionProducerService.listPendingProductions(2, null);
+        ProductionPageDTO lastPage = productionProducerService.listPendingProductions(2, firstPage.getNextCursor());
+
+        // Assert
+        assertEquals(java.util.List.of(first, second), firstPage.getItems());
+        assertEquals(PageCursorMapper.toCursor("RECEIVED", java.util.Map.of(
+            "id", AttributeValue.builder().s("prod-2").build(),
+            "updatedAt", AttributeValue.builder().n("1000").build())), firstPage.getNextCursor());
+        assertEquals(java.util.List.of(third), lastPage.getItems());
+        assertNull(lastPage.getNextCursor());
+        verify(dynamoDBClient, never()).index(anyString());
     }
 
     @Test
     void testListPendingProductionsThrowsExceptionOnDatabaseError() {
         // Arrange
-        when(dynamoDBClient.scan())
+        markStatusIndexMigrated();
+        when(dynamoDBClient.index(ProductionConstants.DYNAMODB_STATUS_INDEX_NAME))
             .thenThrow(new RuntimeException("Database connection error"));
 
         // Act & Assert
         assertThrows(ProductionException.class, () -> 
             productionProducerService.listPendingProductions());
     }
+
+    @Test
+    void testListPendingProductionsPageReturnsCursorFromLastEvaluatedKey() {
+        // Arrange
+        markStatusIndexMigrated();
+        Production prod1 = new Production();
+        prod1.setId("prod-1");
+        prod1.setStatus("RECEIVED");
+        prod1.setUpdatedAt(1000L);
+
+        java.util.Map<String, AttributeValue> lastEvaluatedKey = java.util.Map.of(
+            "id", AttributeValue.builder().s("prod-1").build(),
+            "status", AttributeValue.builder().s("RECEIVED").build(),
+            "updatedAt", AttributeValue.builder().n("1000").build());
+        DynamoDbIndex<Production> statusIndex =
+            mockStatusIndexQuery(Page.create(java.util.List.of(prod1), lastEvaluatedKey));
+        ArgumentCaptor<QueryEnhancedRequest> requestCaptor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+
+        // Act
+        ProductionPageDTO page = productionProducerService.listPendingProductions(1, null);
+
+        // Assert
+        assertEquals(java.util.List.of(prod1), page.getItems());
+        assertEquals(PageCursorMapper.toCursor("RECEIVED", lastEvaluatedKey), page.getNextCursor());
+        verify(statusIndex).query(requestCaptor.capture());
+        assertEquals(1, requestCaptor.getValue().limit());
+        assertNull(requestCaptor.getValue().exclusiveStartKey());
+    }
+
+    @Test
+    void testListPendingProductionsPageUsesCursorAsExclusiveStartKey() {
+        // Arrange
+        markStatusIndexMigrated();
+        java.util.Map<String, AttributeValue> startKey = java.util.Map.of(
+            "id", AttributeValue.builder().s("prod-1").build(),
+            "status", AttributeValue.builder().s("RECEIVED").build(),
+            "updatedAt", AttributeValue.builder().n("1000").build());
+        String cursor = PageCursorMapper.toCursor("RECEIVED", startKey);
+        DynamoDbIndex<Production> statusIndex = mockStatusIndexQuery(java.util.Collections.emptyList());
+        ArgumentCaptor<QueryEnhancedRequest> requestCaptor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
+
+        // Act
+        ProductionPageDTO page = productionProducerService.listPendingProductions(10, cursor);
+
+        // Assert
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(statusIndex).query(requestCaptor.capture());
+        assertEquals(startKey, requestCaptor.getValue().exclusiveStartKey());
+    }
+
+    @Test
+    void testListPendingProductionsPageLastPageHasNoCursor() {
+        // Arrange
+        markStatusIndexMigrated();
+        Production prod1 = new Production();
+        prod1.setId("prod-1");
+        prod1.setStatus("RECEIVED");
+        prod1.setUpdatedAt(1000L);
+
+        mockStatusIndexQuery(java.util.List.of(prod1));
+
+        // Act
+        ProductionPageDTO page = productionProducerService.listPendingProductions(10, null);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testListPendingProductionsPageRejectsCursorOfNonPendingStatus() {
+        // Arrange
+        String cursor = PageCursorMapper.toCursor("COMPLETED", null);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> 
+            productionProducerService.listPendingProductions(10, cursor));
+        verify(dynamoDBClient, never()).index(anyString());
+    }
+
+    private void markStatusIndexMigrated() {
+        Production marker = new Production();
+        marker.setId(ProductionConstants.STATUS_INDEX_MIGRATION_MARKER_ID);
+        when(dynamoDBClient.getItem(any(GetItemEnhancedRequest.class))).thenReturn(marker);
+        productionProducerService.backfillPendingIndex();
+    }
+
+    private DynamoDbIndex<Production> mockStatusIndexQuery(java.util.List<Production> items) {
+        return mockStatusIndexQuery(Page.create(items));
+    }
+
+    @SuppressWarnings("unchecked")
+    private DynamoDbIndex<Production> mockStatusIndexQuery(Page<Production> page) {
+        DynamoDbIndex<Production> statusIndex = mock(DynamoDbIndex.class);
+        SdkIterable<Page<Production>> pages = mock(SdkIterable.class);
+        when(dynamoDBClient.index(ProductionConstants.DYNAMODB_STATUS_INDEX_NAME)).thenReturn(statusIndex);
+        when(statusIndex.query(any(QueryEnhancedRequest.class))).thenReturn(pages);
+        when(pages.stream()).thenAnswer(invocation -> java.util.stream.Stream.of(page));
+        return statusIndex;
+    }
+
+    private void mockLegacyScan(java.util.List<Production> items) {
+        when(dynamoDBClient.scan(any(ScanEnhancedRequest.class)))
+            .thenReturn(PageIterable.create(() -> java.util.List.of(Page.create(items)).iterator()));
+    }
 }
@@ -0,0 +1,264 @@
+package com.fiap.soat11.production.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fiap.soat11.production.config.ProductionConstants;
+import com.fiap.soat11.production.exception.ProductionException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+@ExtendWith(MockitoExtension.class)
+class SqsBatchPublisherTest {
+
+    private static final String QUEUE = ProductionConstants.SQS_QUEUE_PRODUCER;
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123/fase4-order-service-queue";
+
+    @Mock
+    private SqsAsyncClient sqsAsyncClient;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SqsBatchPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Janela longa: os testes controlam o envio pelo tamanho do lote ou por flush explícito
+        publisher = new SqsBatchPublisher(sqsAsyncClient, 60_000L, 10, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.destroy();
+    }
+
+    @Test
+    void testPublishWaitsForWindowBeforeSending() {
+        // Act
+        CompletableFuture<Void> result = publisher.publish(QUEUE, "message-1");
+
+        // Assert
+        assertFalse(result.isDone());
+        verifyNoInteractions(sqsAsyncClient);
+    }
+
+    @Test
+    void testFullBatchIsSentImmediately() {
+        // Arrange
+        mockQueueUrl();
+        mockBatchResponse(SendMessageBatchResponse.builder().build());
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < ProductionConstants.SQS_SEND_BATCH_MAX_MESSAGES; i++) {
+            results.add(publisher.publish(QUEUE, "message-" + i));
+        }
+
+        // Assert
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsAsyncClient, times(1)).sendMessageBatch(captor.capture());
+        assertEquals(QUEUE_URL, captor.getValue().queueUrl());
+        assertEquals(10, captor.getValue().entries().size());
+        assertEquals("message-0", captor.getValue().entries().get(0).messageBody());
+        results.forEach(result -> assertTrue(result.isDone() && !result.isCompletedExceptionally()));
+    }
+
+    @Test
+    void testSendRecordsBatchSizeAndLatency() {
+        // Arrange
+        mockQueueUrl();
+        mockBatchResponse(SendMessageBatchResponse.builder().build());
+        publisher.publish(QUEUE, "message-1");
+        publisher.publish(QUEUE, "message-2");
+
+        // Act
+        publisher.flush(QUEUE);
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get(ProductionConstants.METRIC_SQS_BATCH_SIZE).summary().totalAmount());
+        assertEquals(1, meterRegistry.get(ProductionConstants.METRIC_SQS_SEND_BATCH)
+            .tag("queue", QUEUE).tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void testFlushSendsPartialBatchInOneRequest() {
+        // Arrange
+        mockQueueUrl();
+        mockBatchResponse(SendMessageBatchResponse.builder().build());
+        CompletableFuture<Void> first = publisher.publish(QUEUE, "message-1");
+        CompletableFuture<Void> second = publisher.publish(QUEUE, "message-2");
+
+        // Act
+        publisher.flush(QUEUE);
+
+        // Assert
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsAsyncClient, times(1)).sendMessageBatch(captor.capture());
+        assertEquals(2, captor.getValue().entries().size());
+        assertNotEquals(captor.getValue().entries().get(0).id(), captor.getValue().entries().get(1).id());
+        assertNull(first.join());
+        assertNull(second.join());
+    }
+
+    @Test
+    void testWindowExpiryFlushesBatch() throws Exception {
+        // Arrange
+        publisher.destroy();
+        publisher = new SqsBatchPublisher(sqsAsyncClient, 10L, 10, meterRegistry);
+        mockQueueUrl();
+        mockBatchResponse(SendMessageBatchResponse.builder().build());
+
+        // Act
+        CompletableFuture<Void> result = publisher.publish(QUEUE, "message-1");
+
+        // Assert
+        assertNull(result.get(5, TimeUnit.SECONDS));
+        verify(sqsAsyncClient, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    void testFailedEntryCompletesOnlyItsFutureExceptionally() {
+        // Arrange
+        mockQueueUrl();
+        mockBatchResponse(SendMessageBatchResponse.builder()
+            .failed(BatchResultErrorEntry.builder().id("1").code("InternalError").message("retry").senderFault(false).build())
+            .build());
+        CompletableFuture<Void> first = publisher.publish(QUEUE, "message-1");
+        CompletableFuture<Void> second = publisher.publish(QUEUE, "message-2");
+
+        // Act
+        publisher.flush(QUEUE);
+
+        // Assert
+        assertNull(first.join());
+        CompletionException exception = assertThrows(CompletionException.class, second::join);
+        assertInstanceOf(ProductionException.class, exception.getCause());
+        assertTrue(exception.getCause().getMessage().contains("InternalError"));
+    }
+
+    @Test
+    void testRequestFailureCompletesAllFuturesExceptionally() {
+        // Arrange
+        mockQueueUrl();
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("SQS unavailable")));
+        CompletableFuture<Void> first = publisher.publish(QUEUE, "message-1");
+        CompletableFuture<Void> second = publisher.publish(QUEUE, "message-2");
+
+        // Act
+        publisher.flush(QUEUE);
+
+        // Assert
+        assertInstanceOf(ProductionException.class, assertThrows(CompletionException.class, first::join).getCause());
+        assertInstanceOf(ProductionException.class, assertThrows(CompletionException.class, second::join).getCause());
+    }
+
+    @Test
+    void testQueueUrlIsResolvedOnce() {
+        // Arrange
+        mockQueueUrl();
+        mockBatchResponse(SendMessageBatchResponse.builder().build());
+
+        // Act
+        publisher.publish(QUEUE, "message-1");
+        publisher.flush(QUEUE);
+        publisher.publish(QUEUE, "message-2");
+        publisher.flush(QUEUE);
+
+        // Assert
+        verify(sqsAsyncClient, times(2)).sendMessageBatch(any(SendMessageBatchRequest.class));
+        verify(sqsAsyncClient, times(1)).getQueueUrl(any(GetQueueUrlRequest.class));
+    }
+
+    @Test
+    void testSendDoesNotBlockWhileQueueUrlIsResolving() {
+        // Arrange
+        CompletableFuture<GetQueueUrlResponse> queueUrl = new CompletableFuture<>();
+        when(sqsAsyncClient.getQueueUrl(any(GetQueueUrlRequest.class))).thenReturn(queueUrl);
+        mockBatchResponse(SendMessageBatchResponse.builder().build());
+        CompletableFuture<Void> first = publisher.publish(QUEUE, "message-1");
+        publisher.flush(QUEUE);
+        CompletableFuture<Void> second = publisher.publish(QUEUE, "message-2");
+        publisher.flush(QUEUE);
+
+        // Act
+        queueUrl.complete(GetQueueUrlResponse.builder().queueUrl(QUEUE_URL).build());
+
+        // Assert
+        assertNull(first.join());
+        assertNull(second.join());
+        verify(sqsAsyncClient, times(1)).getQueueUrl(any(GetQueueUrlRequest.class));
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsAsyncClient, times(2)).sendMessageBatch(captor.capture());
+        assertEquals(QUEUE_URL, captor.getValue().queueUrl());
+    }
+
+    @Test
+    void testQueueUrlFailureIsRetriedOnNextBatch() {
+        // Arrange
+        when(sqsAsyncClient.getQueueUrl(any(GetQueueUrlRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("SQS unavailable")))
+            .thenReturn(CompletableFuture.completedFuture(GetQueueUrlResponse.builder().queueUrl(QUEUE_URL).build()));
+        mockBatchResponse(SendMessageBatchResponse.builder().build());
+        CompletableFuture<Void> failed = publisher.publish(QUEUE, "message-1");
+        publisher.flush(QUEUE);
+
+        // Act
+        CompletableFuture<Void> retried = publisher.publish(QUEUE, "message-2");
+        publisher.flush(QUEUE);
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(ProductionException.class, exception.getCause());
+        assertTrue(exception.getCause().getMessage().contains("SQS unavailable"));
+        assertNull(retried.join());
+        verify(sqsAsyncClient, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    void testDestroyFlushesPendingMessages() {
+        // Arrange
+        mockQueueUrl();
+        mockBatchResponse(SendMessageBatchResponse.builder().build());
+        CompletableFuture<Void> result = publisher.publish(QUEUE, "message-1");
+
+        // Act
+        publisher.destroy();
+
+        // Assert
+        assertNull(result.join());
+    }
+
+    private void mockQueueUrl() {
+        when(sqsAsyncClient.getQueueUrl(any(GetQueueUrlRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(GetQueueUrlResponse.builder().queueUrl(QUEUE_URL).build()));
+    }
+
+    private void mockBatchResponse(SendMessageBatchResponse response) {
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(response));
+    }
+}